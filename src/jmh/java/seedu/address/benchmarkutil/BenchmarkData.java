@@ -0,0 +1,81 @@
+package seedu.address.benchmarkutil;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEOFBIRTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPARTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.tag.Tag;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the data the benchmarks run on with a {@link SyntheticDataGenerator} of a fixed seed.
+ * The data only depends on the number of employees asked for, so results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    private static final SyntheticDataGenerator ANY_EMPLOYEE = getGenerator(0, 0);
+
+    /**
+     * Returns the generator of the data of {@code employeeCount} employees, each with {@code schedulesPerEmployee}
+     * schedules in {@link SyntheticDataGenerator#FIRST_SCHEDULE_YEAR}.
+     */
+    public static SyntheticDataGenerator getGenerator(int employeeCount, int schedulesPerEmployee) {
+        return new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED, employeeCount, 1, schedulesPerEmployee,
+                0);
+    }
+
+    /**
+     * Returns the employee numbered {@code number}, counting from 0.
+     * Employees with different numbers have different ids, phones and emails.
+     */
+    public static Person getPerson(int number) {
+        return ANY_EMPLOYEE.getPerson(number);
+    }
+
+    /**
+     * Returns the employees numbered 0 to {@code count - 1}.
+     */
+    public static List<Person> getPersons(int count) {
+        return getGenerator(count, 0).getPersons().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an address book of the employees numbered 0 to {@code count - 1}.
+     */
+    public static AddressBook getAddressBook(int count) {
+        return getGenerator(count, 0).getAddressBook();
+    }
+
+    /**
+     * Returns the add command that adds {@code person}, as it would be typed.
+     */
+    public static String getAddCommand(Person person) {
+        StringBuilder command = new StringBuilder(AddCommand.COMMAND_WORD)
+                .append(' ').append(PREFIX_EMPLOYEEID).append(person.getEmployeeId().value)
+                .append(' ').append(PREFIX_NAME).append(person.getName().fullName)
+                .append(' ').append(PREFIX_DATEOFBIRTH).append(person.getDateOfBirth().value)
+                .append(' ').append(PREFIX_PHONE).append(person.getPhone().value)
+                .append(' ').append(PREFIX_EMAIL).append(person.getEmail().value)
+                .append(' ').append(PREFIX_DEPARTMENT).append(person.getDepartment().value)
+                .append(' ').append(PREFIX_POSITION).append(person.getPosition().value)
+                .append(' ').append(PREFIX_ADDRESS).append(person.getAddress().value)
+                .append(' ').append(PREFIX_SALARY).append(person.getSalary().value);
+        for (Tag tag : person.getTags()) {
+            command.append(' ').append(PREFIX_TAG).append(tag.tagName);
+        }
+        return command.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEOFBIRTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPARTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddScheduleCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Date;
+
+/**
+ * Measures turning command text into commands, and checking the dates typed into them.
+ * Parsing does not depend on the data held, so each benchmark runs over a fixed set of inputs taken from the
+ * employees of the benchmark data, cycling through them so that no single input is optimised for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final int INPUT_COUNT = 1024; // a power of two, so the next input is found with a mask
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final String[] addCommands = new String[INPUT_COUNT];
+    private final String[] addScheduleCommands = new String[INPUT_COUNT];
+    private final String[] addArguments = new String[INPUT_COUNT];
+    private final String[] scheduleDates = new String[INPUT_COUNT];
+    private final String[] datesOfBirth = new String[INPUT_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            Person person = BenchmarkData.getPerson(i);
+            String addCommand = BenchmarkData.getAddCommand(person);
+            // schedules cannot be added before today, so they are all in a year that is still to come
+            String scheduleDate = String.format("%02d/%02d/2099", i % 28 + 1, i % 12 + 1);
+            addCommands[i] = addCommand;
+            addScheduleCommands[i] = AddScheduleCommand.COMMAND_WORD + " " + PREFIX_EMPLOYEEID
+                    + person.getEmployeeId().value + " " + CliSyntax.PREFIX_SCHEDULE_DATE + scheduleDate
+                    + " " + CliSyntax.PREFIX_SCHEDULE_TYPE + "work";
+            addArguments[i] = addCommand.substring(AddCommand.COMMAND_WORD.length());
+            scheduleDates[i] = scheduleDate;
+            datesOfBirth[i] = person.getDateOfBirth().value;
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand_add() throws ParseException {
+        return addressBookParser.parseCommand(addCommands[nextIndex()]);
+    }
+
+    @Benchmark
+    public Command parseCommand_addSchedule() throws ParseException {
+        return addressBookParser.parseCommand(addScheduleCommands[nextIndex()]);
+    }
+
+    /**
+     * Splits the arguments of an add command by the prefixes the add command parser looks for.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize_addArguments() {
+        return ArgumentTokenizer.tokenize(addArguments[nextIndex()], PREFIX_EMPLOYEEID, PREFIX_NAME,
+                PREFIX_DATEOFBIRTH, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_DEPARTMENT, PREFIX_POSITION, PREFIX_ADDRESS,
+                PREFIX_SALARY, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public boolean isValidScheduleDate() {
+        return Date.isValidScheduleDate(scheduleDates[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isValidDateOfBirth() {
+        return DateOfBirth.isValidDateOfBirth(datesOfBirth[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (INPUT_COUNT - 1);
+        return next;
+    }
+}
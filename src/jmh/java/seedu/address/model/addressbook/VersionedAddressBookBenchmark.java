@@ -0,0 +1,58 @@
+package seedu.address.model.addressbook;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Salary;
+
+/**
+ * Measures committing a change to a {@code VersionedAddressBook}, as every command that edits a person does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int employeeCount;
+
+    private VersionedAddressBook addressBook;
+    private Person target;
+    private Person editedTarget;
+
+    @Setup
+    public void setUp() {
+        addressBook = new VersionedAddressBook(BenchmarkData.getAddressBook(employeeCount));
+        target = BenchmarkData.getPerson(employeeCount / 2);
+        editedTarget = new Person(target.getEmployeeId(), target.getName(), target.getDateOfBirth(),
+                target.getPhone(), target.getEmail(), target.getDepartment(), target.getPosition(),
+                target.getAddress(), new Salary("999999.00"), target.getBonus(), target.getTags());
+    }
+
+    /**
+     * Edits a person and commits the edit, then undoes it. The next commit drops the undone state,
+     * so the history does not grow from one call to the next.
+     */
+    @Benchmark
+    public void updateCommitAndUndo() {
+        addressBook.updatePerson(target, editedTarget);
+        addressBook.commit();
+        addressBook.undo();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+
+/**
+ * Measures adding a person to, and looking a person up in, a {@code UniquePersonList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int employeeCount;
+
+    private UniquePersonList persons;
+    private Person listedPerson;
+    private Person newPerson;
+
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        persons.setPersons(BenchmarkData.getPersons(employeeCount));
+        listedPerson = BenchmarkData.getPerson(employeeCount / 2);
+        newPerson = BenchmarkData.getPerson(employeeCount);
+    }
+
+    /**
+     * Adds a person that is not in the list, then removes it so that every call starts from the same list.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        persons.add(newPerson);
+        persons.remove(newPerson);
+    }
+
+    @Benchmark
+    public boolean contains_listedPerson() {
+        return persons.contains(listedPerson);
+    }
+
+    @Benchmark
+    public boolean contains_newPerson() {
+        return persons.contains(newPerson);
+    }
+}
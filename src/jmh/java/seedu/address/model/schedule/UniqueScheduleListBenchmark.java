@@ -0,0 +1,83 @@
+package seedu.address.model.schedule;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures looking schedules up in a {@code UniqueScheduleList}, and filling it from an unsorted list,
+ * which sorts the schedules by employee id.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueScheduleListBenchmark {
+
+    private static final int SCHEDULES_PER_EMPLOYEE = 4;
+
+    @Param({"1000", "10000", "100000"})
+    private int employeeCount;
+
+    private UniqueScheduleList schedules;
+    private List<Schedule> shuffledSchedules;
+    private Schedule listedSchedule;
+    private Schedule newSchedule;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = BenchmarkData.getGenerator(employeeCount, SCHEDULES_PER_EMPLOYEE);
+        shuffledSchedules = generator.getSchedules().collect(Collectors.toList());
+        Collections.shuffle(shuffledSchedules, new Random(employeeCount));
+        schedules = new UniqueScheduleList();
+        schedules.setSchedules(shuffledSchedules);
+        listedSchedule = generator.getSchedules(employeeCount / 2, SyntheticDataGenerator.FIRST_SCHEDULE_YEAR)
+                .get(SCHEDULES_PER_EMPLOYEE / 2);
+        newSchedule = generator.getSchedules(employeeCount / 2, SyntheticDataGenerator.FIRST_SCHEDULE_YEAR + 1)
+                .get(0);
+    }
+
+    @Benchmark
+    public boolean contains_listedSchedule() {
+        return schedules.contains(listedSchedule);
+    }
+
+    @Benchmark
+    public boolean contains_newSchedule() {
+        return schedules.contains(newSchedule);
+    }
+
+    /**
+     * Looks a schedule up by its employee, type and date, as addWorks and addLeaves do for every employee and date.
+     */
+    @Benchmark
+    public boolean contains_employeeTypeAndDate() {
+        return schedules.contains(listedSchedule.getEmployeeId(), listedSchedule.getType(),
+                listedSchedule.getScheduleDate());
+    }
+
+    @Benchmark
+    public UniqueScheduleList setSchedules_unsorted() {
+        schedules.setSchedules(shuffledSchedules);
+        return schedules;
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage.addressbook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+
+/**
+ * Measures saving an address book to an XML file and reading it back, as the application does on every change
+ * and at startup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class XmlAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int employeeCount;
+
+    private AddressBook addressBook;
+    private Path savedFile;
+    private Path roundTripFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.getAddressBook(employeeCount);
+        savedFile = Files.createTempFile("addressbook-benchmark", ".xml");
+        roundTripFile = Files.createTempFile("addressbook-benchmark", ".xml");
+        new XmlAddressBookStorage(savedFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedFile);
+        Files.deleteIfExists(roundTripFile);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        new XmlAddressBookStorage(roundTripFile).saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataConversionException, IOException {
+        return new XmlAddressBookStorage(savedFile).readAddressBook().get();
+    }
+
+    /**
+     * Saves the address book to a file and reads it back from that file.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook saveAndRead() throws DataConversionException, IOException {
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(roundTripFile);
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+}
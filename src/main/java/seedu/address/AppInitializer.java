@@ -0,0 +1,239 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinarySnapshotFile;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.addressbook.AddressBookStorage;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.JournaledAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.ExpensesListStorage;
+import seedu.address.storage.expenses.JournaledExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.JournaledRecruitmentListStorage;
+import seedu.address.storage.recruitment.RecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.JournaledScheduleListStorage;
+import seedu.address.storage.schedule.ScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+import seedu.address.storage.userpref.UserPrefsStorage;
+
+/**
+ * Sets up the config, user prefs, storage and model of the application.
+ * None of it starts the JavaFX toolkit, so it is shared by the window and by {@link BatchRunner}.
+ */
+final class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private static final int DATA_FILE_COUNT = 4;
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the data files named in {@code userPrefs}, each in the format it is already in.
+     */
+    static Storage initStorage(Config config, UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = BinarySnapshotFile.isBinarySnapshot(addressBookFilePath)
+                ? new BinaryAddressBookStorage(addressBookFilePath)
+                : new XmlAddressBookStorage(addressBookFilePath);
+        Path scheduleListFilePath = userPrefs.getScheduleListFilePath();
+        ScheduleListStorage scheduleListStorage = BinarySnapshotFile.isBinarySnapshot(scheduleListFilePath)
+                ? new BinaryScheduleListStorage(scheduleListFilePath)
+                : new XmlScheduleListStorage(scheduleListFilePath);
+        Path expensesListFilePath = userPrefs.getExpensesListFilePath();
+        ExpensesListStorage expensesListStorage = BinarySnapshotFile.isBinarySnapshot(expensesListFilePath)
+                ? new BinaryExpensesListStorage(expensesListFilePath)
+                : new XmlExpensesListStorage(expensesListFilePath);
+        Path recruitmentListFilePath = userPrefs.getRecruitmentListFilePath();
+        RecruitmentListStorage recruitmentListStorage = BinarySnapshotFile.isBinarySnapshot(recruitmentListFilePath)
+                ? new BinaryRecruitmentListStorage(recruitmentListFilePath)
+                : new XmlRecruitmentListStorage(recruitmentListFilePath);
+        if (config.isJournaledStorage()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+            scheduleListStorage = new JournaledScheduleListStorage(scheduleListStorage);
+            expensesListStorage = new JournaledExpensesListStorage(expensesListStorage);
+            recruitmentListStorage = new JournaledRecruitmentListStorage(recruitmentListStorage);
+        }
+
+        return new StorageManager(addressBookStorage, expensesListStorage, scheduleListStorage,
+                recruitmentListStorage, userPrefsStorage, config.getSaveCoalescingWindowMillis());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The expenses, schedule and recruitment lists fall back to empty lists in the same way. <br>
+     * The four data files are independent of one another, so they are read concurrently.
+     */
+    static Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        ExecutorService executor = Executors.newFixedThreadPool(DATA_FILE_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "Data file reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<ReadOnlyAddressBook> initialData = readDataFile(executor, "AddressBook",
+                    storage::readAddressBook, SampleDataUtil::getSampleAddressBook, AddressBook::new);
+            CompletableFuture<ReadOnlyExpensesList> initialExpenses = readDataFile(executor, "ExpensesList",
+                    storage::readExpensesList, ExpensesList::new, ExpensesList::new);
+            CompletableFuture<ReadOnlyScheduleList> initialSchedule = readDataFile(executor, "ScheduleList",
+                    storage::readScheduleList, ScheduleList::new, ScheduleList::new);
+            CompletableFuture<ReadOnlyRecruitmentList> initialRecruitment = readDataFile(executor,
+                    "RecruitmentList", storage::readRecruitmentList, RecruitmentList::new, RecruitmentList::new);
+
+            long startTime = System.nanoTime();
+            Model initialModel = new ModelManager(initialData.join(), initialExpenses.join(), initialSchedule.join(),
+                    initialRecruitment.join(), userPrefs);
+            logPhaseTime("model build", startTime);
+            return initialModel;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns a future of the data read by {@code reader} on {@code executor}.
+     * The future completes with the data from {@code missingData} if the data file is not found,
+     * or with the data from {@code emptyData} if errors occur when reading it.
+     */
+    private static <T> CompletableFuture<T> readDataFile(ExecutorService executor, String dataName,
+            DataFileReader<? extends T> reader, Supplier<? extends T> missingData, Supplier<? extends T> emptyData) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            T data;
+            try {
+                Optional<? extends T> dataOptional = reader.read();
+                if (!dataOptional.isPresent()) {
+                    logger.info("Data file not found. Will be starting with the initial " + dataName);
+                }
+                data = dataOptional.isPresent() ? dataOptional.get() : missingData.get();
+            } catch (DataConversionException e) {
+                logger.warning("Data file not in the correct format. Will be starting with an empty " + dataName);
+                data = emptyData.get();
+            } catch (IOException e) {
+                logger.warning("Problem while reading from the file. Will be starting with an empty " + dataName);
+                data = emptyData.get();
+            }
+            logPhaseTime(dataName + " read", startTime);
+            return data;
+        }, executor);
+    }
+
+    /**
+     * Logs the time taken by the startup phase {@code phase}, which started at {@code startTime}
+     * as given by {@link System#nanoTime()}.
+     */
+    static void logPhaseTime(String phase, long startTime) {
+        logger.info(String.format("Startup phase %s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    /**
+     * Reads a data file, returning an empty {@code Optional} if it is not found.
+     */
+    @FunctionalInterface
+    private interface DataFileReader<T> {
+        Optional<T> read() throws DataConversionException, IOException;
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+import seedu.address.storage.userpref.JsonUserPrefsStorage;
+import seedu.address.storage.userpref.UserPrefsStorage;
+
+/**
+ * Runs a script of commands against the data files without showing the window, for example from cron.
+ * The script is read one line at a time, each line holding a command as it would be typed in the command box.
+ * Blank lines and lines starting with {@code #} are skipped. All the commands are run in one model batch,
+ * so each data file changed by the script is saved once, after its last command. Each command also runs in a batch
+ * of its own inside it, so a command that fails leaves none of its changes behind. As nothing is committed for undo
+ * until the script ends, {@code undo} and {@code redo} cannot be used in a script.
+ * This class is its own entry point, see {@link #main(String[])}: the window is never shown and the JavaFX
+ * toolkit is never started, so scripts can be run on hosts without a display. The JavaFX libraries are still
+ * needed, as the model keeps its lists in JavaFX collections.
+ */
+public class BatchRunner extends ComponentManager {
+
+    public static final String STANDARD_INPUT = "-";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\n    %3$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$d ms (%3$.1f commands/s): "
+            + "%4$d succeeded, %5$d failed. Saved in %6$d ms.";
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_DATA_NOT_SAVED = "Could not save data: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Logic logic;
+    private final PrintStream errors;
+    private boolean isExitRequested = false;
+    // set on the storage writer thread
+    private volatile Exception saveFailure;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands on {@code model} through {@code logic}
+     * and prints the commands that fail to {@code errors}.
+     */
+    public BatchRunner(Model model, Logic logic, PrintStream errors) {
+        requireNonNull(model);
+        requireNonNull(logic);
+        requireNonNull(errors);
+        this.model = model;
+        this.logic = logic;
+        this.errors = errors;
+    }
+
+    /**
+     * Runs the commands of {@code script} in one batch until the script ends or an {@code exit} command is run.
+     * A command that cannot be parsed or executed is printed with its line number and error, its changes are
+     * reverted, and the script goes on.
+     * A command that throws any other exception is reverted too, and the exception ends the script.
+     * @return the number of commands that succeeded and failed, and how long they took.
+     * @throws IOException if the script cannot be read. The commands run before that are kept.
+     */
+    public Summary execute(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        int lineNumber = 0;
+        int succeeded = 0;
+        int failed = 0;
+        long startTime = System.nanoTime();
+        model.beginBatch();
+        try {
+            String line;
+            while (!isExitRequested && (line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                model.beginBatch();
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    model.abortBatch();
+                    errors.println(String.format(MESSAGE_LINE_FAILED, lineNumber, commandText, e.getMessage()));
+                    failed++;
+                    continue;
+                } catch (RuntimeException e) {
+                    model.abortBatch();
+                    throw e;
+                }
+                model.commitBatch();
+                succeeded++;
+            }
+        } finally {
+            model.commitBatch();
+        }
+        return new Summary(succeeded, failed, System.nanoTime() - startTime);
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Stopping the script"));
+        isExitRequested = true;
+    }
+
+    /**
+     * Records the failure of a save, which is raised on the storage writer thread.
+     */
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        saveFailure = event.exception;
+    }
+
+    /**
+     * Runs the script named in {@code appParameters} against the data files of the application,
+     * printing the commands that fail to standard error and a summary to standard output.
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILED} if some did not,
+     *     or {@link #EXIT_ERROR} if the script could not be read or the data could not be saved.
+     */
+    public static int run(AppParameters appParameters) {
+        String scriptName = appParameters.getBatchScript();
+        requireNonNull(scriptName);
+        logger.info("=============================[ Running script " + scriptName + " ]===========================");
+
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(config, userPrefs, userPrefsStorage);
+        LogsCenter.init(config);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        BatchRunner batchRunner = new BatchRunner(model, new LogicManager(model), System.err);
+
+        Summary summary;
+        long saveMillis;
+        try (BufferedReader script = openScript(scriptName)) {
+            summary = batchRunner.execute(script);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(String.format(MESSAGE_SCRIPT_NOT_READ, scriptName, e));
+            return EXIT_ERROR;
+        } finally {
+            // saves run on a daemon thread, so whatever is left unsaved is lost once the script ends
+            saveMillis = flush(storage);
+        }
+        System.out.println(summary.toMessage(saveMillis));
+
+        if (batchRunner.saveFailure != null) {
+            System.err.println(String.format(MESSAGE_DATA_NOT_SAVED, StringUtil.getDetails(batchRunner.saveFailure)));
+            return EXIT_ERROR;
+        }
+        return summary.failed == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Writes the changes that {@code storage} has yet to save, and returns how long it took in milliseconds.
+     */
+    private static long flush(Storage storage) {
+        long startTime = System.nanoTime();
+        storage.flush();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Runs a script, e.g. {@code java -cp addressbook.jar seedu.address.BatchRunner --batch=FILE}.
+     * {@link MainApp} cannot be used for this, as the Java launcher starts the JavaFX toolkit before the main method
+     * of an {@code Application}, which fails without a display.
+     * Takes the {@code --config} argument of {@link MainApp} and {@code --batch}, reading the script from standard
+     * input if no {@code --batch} is given, and exits with the status returned by {@link #run(AppParameters)}.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchScript() == null) {
+            appParameters.setBatchScript(STANDARD_INPUT);
+        }
+        System.exit(run(appParameters));
+    }
+
+    /**
+     * Returns a reader of the script named {@code scriptName}, or of standard input if it is {@link #STANDARD_INPUT}.
+     */
+    private static BufferedReader openScript(String scriptName) throws IOException {
+        if (STANDARD_INPUT.equals(scriptName)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptName), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The outcome of a script.
+     */
+    public static class Summary {
+        public final int succeeded;
+        public final int failed;
+        public final long elapsedNanos;
+
+        public Summary(int succeeded, int failed, long elapsedNanos) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands run per second, counting those that failed.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : (succeeded + failed) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * Returns the summary to print after the changed data files were saved in {@code saveMillis}.
+         */
+        public String toMessage(long saveMillis) {
+            return String.format(MESSAGE_SUMMARY, succeeded + failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    getCommandsPerSecond(), succeeded, failed, saveMillis);
+        }
+    }
+}
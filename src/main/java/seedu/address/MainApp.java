@@ -2,7 +2,6 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,33 +14,12 @@ import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.addressbook.AddressBook;
-import seedu.address.model.addressbook.ReadOnlyAddressBook;
-import seedu.address.model.expenses.ExpensesList;
-import seedu.address.model.expenses.ReadOnlyExpensesList;
-import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
-import seedu.address.model.recruitment.RecruitmentList;
-import seedu.address.model.schedule.ReadOnlyScheduleList;
-import seedu.address.model.schedule.ScheduleList;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.addressbook.AddressBookStorage;
-import seedu.address.storage.addressbook.XmlAddressBookStorage;
-import seedu.address.storage.expenses.ExpensesListStorage;
-import seedu.address.storage.expenses.XmlExpensesListStorage;
-import seedu.address.storage.recruitment.RecruitmentListStorage;
-import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
-import seedu.address.storage.schedule.ScheduleListStorage;
-import seedu.address.storage.schedule.XmlScheduleListStorage;
 import seedu.address.storage.userpref.JsonUserPrefsStorage;
 import seedu.address.storage.userpref.UserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -69,119 +47,36 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
+        long startTime = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
+        if (appParameters.getBatchScript() != null) {
+            logger.warning("Ignoring --batch, scripts are run with " + BatchRunner.class.getName());
+        }
         config = initConfig(appParameters.getConfigPath());
+        AppInitializer.logPhaseTime("config", startTime);
 
+        startTime = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
+        AppInitializer.logPhaseTime("prefs", startTime);
 
         //------------------------------------------------------------------
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleListStorage scheduleListStorage = new XmlScheduleListStorage(userPrefs.getScheduleListFilePath());
-        ExpensesListStorage expensesListStorage = new XmlExpensesListStorage(userPrefs.getExpensesListFilePath());
-        RecruitmentListStorage recruitmentListStorage = new XmlRecruitmentListStorage(
-                userPrefs.getRecruitmentListFilePath());
-
-        storage = new StorageManager(addressBookStorage, expensesListStorage, scheduleListStorage,
-                recruitmentListStorage, userPrefsStorage);
+        storage = AppInitializer.initStorage(config, userPrefs, userPrefsStorage);
 
         //------------------------------------------------------------------
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model);
 
+        startTime = System.nanoTime();
         ui = new UiManager(logic, config, userPrefs);
+        AppInitializer.logPhaseTime("UI init", startTime);
 
         initEventsCenter();
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyExpensesList> expensesListOptional;
-        Optional<ReadOnlyScheduleList> scheduleListOptional;
-        Optional<ReadOnlyRecruitmentList> recruitmentListOptional;
-
-        ReadOnlyAddressBook initialData;
-        ReadOnlyExpensesList initialExpenses;
-        ReadOnlyScheduleList initialSchedule;
-        ReadOnlyRecruitmentList initialRecruitment;
-
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        }
-
-        try {
-            expensesListOptional = storage.readExpensesList();
-            if (!expensesListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-                initialExpenses = new ExpensesList();
-            } else {
-                initialExpenses = expensesListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
-        }
-
-        try {
-            scheduleListOptional = storage.readScheduleList();
-            if (!scheduleListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a schedule List");
-                initialSchedule = new ScheduleList();
-            } else {
-                initialSchedule = scheduleListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
-        }
-
-        try {
-            recruitmentListOptional = storage.readRecruitmentList();
-            if (!recruitmentListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a recruitment List");
-                initialRecruitment = new RecruitmentList();
-            } else {
-                initialRecruitment = recruitmentListOptional.get();
-            }
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
-
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
-        }
-
-        return new ModelManager(initialData, initialExpenses, initialSchedule, initialRecruitment, userPrefs);
-    }
-
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -192,34 +87,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
@@ -228,30 +96,7 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     private void initEventsCenter() {
@@ -261,13 +106,16 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        long startTime = System.nanoTime();
         ui.start(primaryStage);
+        AppInitializer.logPhaseTime("UI start", startTime);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -280,7 +128,12 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        if (Platform.isFxApplicationThread()) {
+            stop();
+        } else {
+            // raised by the exit command on the command executor thread, but the window is closed on the UI thread
+            Platform.runLater(this::stop);
+        }
     }
 
     public static void main(String[] args) {
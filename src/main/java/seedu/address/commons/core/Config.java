@@ -11,11 +11,14 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_COALESCING_WINDOW_MILLIS = 200;
 
     // Config values customizable through config file
     private String appTitle = "Centralised Human Resource System (CHRS)";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveCoalescingWindowMillis = DEFAULT_SAVE_COALESCING_WINDOW_MILLIS;
+    private boolean journaledStorage = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +44,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long changes to the data are collected before they are saved together, in milliseconds.
+     */
+    public long getSaveCoalescingWindowMillis() {
+        return saveCoalescingWindowMillis;
+    }
+
+    public void setSaveCoalescingWindowMillis(long saveCoalescingWindowMillis) {
+        this.saveCoalescingWindowMillis = saveCoalescingWindowMillis;
+    }
+
+    /**
+     * Returns true if changes to the data files are appended to a journal instead of rewriting the whole file
+     * on every save.
+     */
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +80,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveCoalescingWindowMillis == o.saveCoalescingWindowMillis
+                && journaledStorage == o.journaledStorage;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveCoalescingWindowMillis, journaledStorage);
     }
 
     @Override
@@ -68,6 +96,8 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave coalescing window : " + saveCoalescingWindowMillis + "ms");
+        sb.append("\nJournaled storage : " + journaledStorage);
         return sb.toString();
     }
 
@@ -1,19 +1,30 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ListChanges;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /** Indicates the AddressBook in the model has changed*/
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    public final ListChanges<Person> changes;
 
+    /**
+     * Creates an event for a change of the whole address book.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, ListChanges.reset(0));
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, ListChanges<Person> changes) {
         this.data = data;
+        this.changes = changes;
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size();
+        return changes + ", number of persons " + data.getPersonList().size();
     }
 }
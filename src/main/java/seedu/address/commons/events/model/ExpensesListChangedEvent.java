@@ -1,18 +1,29 @@
 package seedu.address.commons.events.model;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ListChanges;
+import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /** Indicates the ExpensesList in the model has changed*/
 public class ExpensesListChangedEvent extends BaseEvent {
 
     public final ReadOnlyExpensesList data;
+    public final ListChanges<Expenses> changes;
 
+    /**
+     * Creates an event for a change of the whole expenses list.
+     */
     public ExpensesListChangedEvent(ReadOnlyExpensesList data) {
+        this(data, ListChanges.reset(0));
+    }
+
+    public ExpensesListChangedEvent(ReadOnlyExpensesList data, ListChanges<Expenses> changes) {
         this.data = data;
+        this.changes = changes;
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getExpensesRequestList().size();
+        return changes + ", number of persons " + data.getExpensesRequestList().size();
     }
 }
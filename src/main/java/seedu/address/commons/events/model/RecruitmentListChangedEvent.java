@@ -1,19 +1,30 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ListChanges;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
 
 /** Indicates the recruitmentList in the model has changed*/
 public class RecruitmentListChangedEvent extends BaseEvent {
 
     public final ReadOnlyRecruitmentList data;
+    public final ListChanges<Recruitment> changes;
 
+    /**
+     * Creates an event for a change of the whole recruitment list.
+     */
     public RecruitmentListChangedEvent(ReadOnlyRecruitmentList data) {
+        this(data, ListChanges.reset(0));
+    }
+
+    public RecruitmentListChangedEvent(ReadOnlyRecruitmentList data, ListChanges<Recruitment> changes) {
         this.data = data;
+        this.changes = changes;
     }
 
     @Override
     public String toString() {
-        return "number of recruitment posts " + data.getRecruitmentList().size();
+        return changes + ", number of recruitment posts " + data.getRecruitmentList().size();
     }
 }
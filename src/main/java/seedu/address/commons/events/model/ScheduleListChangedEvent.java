@@ -1,19 +1,30 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ListChanges;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
 
 /** Indicates the Schedule List in the model has changed*/
 public class ScheduleListChangedEvent extends BaseEvent {
 
     public final ReadOnlyScheduleList data;
+    public final ListChanges<Schedule> changes;
 
+    /**
+     * Creates an event for a change of the whole schedule list.
+     */
     public ScheduleListChangedEvent(ReadOnlyScheduleList data) {
+        this(data, ListChanges.reset(0));
+    }
+
+    public ScheduleListChangedEvent(ReadOnlyScheduleList data, ListChanges<Schedule> changes) {
         this.data = data;
+        this.changes = changes;
     }
 
     @Override
     public String toString() {
-        return "number of schedules: " + data.getScheduleList().size();
+        return changes + ", number of schedules: " + data.getScheduleList().size();
     }
 }
@@ -2,11 +2,17 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import javafx.collections.ObservableList;
+
 /**
  * Utility methods related to Collections
  */
@@ -32,4 +38,114 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Inserts {@code element} into {@code list}, which must be sorted by {@code comparator}, after any elements
+     * that compare equal to it, so that the list stays sorted as a stable sort would leave it.
+     * Finding the position is a binary search, so {@code list} should support fast random access.
+     */
+    public static <T> void addSorted(List<T> list, T element, Comparator<? super T> comparator) {
+        list.add(upperBound(list, element, comparator), element);
+    }
+
+    /**
+     * Inserts {@code element} into {@code list}, which must be sorted by {@code comparator}, at {@code index} if the
+     * list stays sorted with it there, or else where {@link #addSorted(List, Object, Comparator)} puts it.
+     * This puts an element back where it was among the elements that compare equal to it.
+     */
+    public static <T> void addSorted(List<T> list, int index, T element, Comparator<? super T> comparator) {
+        boolean isInOrder = index >= 0 && index <= list.size()
+                && (index == 0 || comparator.compare(list.get(index - 1), element) <= 0)
+                && (index == list.size() || comparator.compare(element, list.get(index)) <= 0);
+        list.add(isInOrder ? index : upperBound(list, element, comparator), element);
+    }
+
+    /**
+     * Replaces the element at {@code index} of {@code list}, which must be sorted by {@code comparator},
+     * with {@code element}, moving it to where a stable sort of the list would leave it.
+     * If the element stays in place, it is replaced with a single {@code set}.
+     */
+    public static <T> void setSorted(List<T> list, int index, T element, Comparator<? super T> comparator) {
+        boolean isAfterPrevious = index == 0 || comparator.compare(list.get(index - 1), element) <= 0;
+        boolean isBeforeNext = index == list.size() - 1 || comparator.compare(element, list.get(index + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            list.set(index, element);
+            return;
+        }
+
+        list.remove(index);
+        // moved back, it follows the equal elements before it; moved forward, it precedes those after it
+        list.add(isAfterPrevious ? lowerBound(list, element, comparator) : upperBound(list, element, comparator),
+                element);
+    }
+
+    /**
+     * Returns the index of {@code element} in {@code list}, which must be sorted by {@code comparator}, or -1 if it is
+     * not in the list. Only the elements that compare equal to {@code element} are checked with {@code equals}.
+     */
+    public static <T> int indexOfSorted(List<T> list, T element, Comparator<? super T> comparator) {
+        for (int i = lowerBound(list, element, comparator); i < list.size()
+                && comparator.compare(list.get(i), element) == 0; i++) {
+            if (list.get(i).equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the elements of {@code list} that match {@code predicate} and returns them in their order in the list.
+     * The list is read in a single pass and, if any element matches, changed once with the elements that are kept,
+     * in their order, so a sorted list stays sorted and its observers see one change.
+     */
+    public static <T> List<T> removeMatching(ObservableList<T> list, Predicate<? super T> predicate) {
+        requireAllNonNull(list, predicate);
+        List<T> kept = new ArrayList<>(list.size());
+        List<T> removed = new ArrayList<>();
+        for (T element : list) {
+            if (predicate.test(element)) {
+                removed.add(element);
+            } else {
+                kept.add(element);
+            }
+        }
+        if (!removed.isEmpty()) {
+            list.setAll(kept);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted {@code list} that is not less than {@code element}.
+     */
+    private static <T> int lowerBound(List<T> list, T element, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted {@code list} that is greater than {@code element}.
+     */
+    private static <T> int upperBound(List<T> list, T element, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
 }
@@ -3,19 +3,47 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Helps with reading from and writing to XML files.
+ * The {@code JAXBContext} of each class is created once and its marshallers and unmarshallers are reused,
+ * as creating them is much slower than the conversion itself.
  */
 public class XmlUtil {
 
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +65,12 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return ((T) um.unmarshal(file.toFile()));
+        } finally {
+            releaseUnmarshaller(classToConvert, um);
+        }
     }
 
     /**
@@ -61,11 +91,225 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = borrowMarshaller(data.getClass());
+        try {
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            m.setProperty(Marshaller.JAXB_FRAGMENT, false);
+            m.marshal(data, file.toFile());
+        } finally {
+            releaseMarshaller(data.getClass(), m);
+        }
+    }
+
+    /**
+     * Reads the {@code elementName} children of the {@code rootName} root element of the file one at a time,
+     * passing each to {@code handler} as an object of {@code elementClass} before reading the next one.
+     * Unlike {@link #getDataFromFile(Path, Class)}, only one element is held in memory at a time.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     * @throws IllegalValueException Thrown if {@code handler} rejects an element.
+     */
+    public static <T> void readElementsFromFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, ElementHandler<T> handler)
+            throws FileNotFoundException, JAXBException, IllegalValueException {
+
+        requireNonNull(file);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Unmarshaller um = borrowUnmarshaller(elementClass);
+        XMLStreamReader reader = null;
+        try (InputStream in = Files.newInputStream(file)) {
+            reader = inputFactory.createXMLStreamReader(in);
+            if (reader.nextTag() != XMLStreamReader.START_ELEMENT || !rootName.equals(reader.getLocalName())) {
+                throw new JAXBException("Expected root element " + rootName + " in " + file);
+            }
+            reader.nextTag();
+            while (reader.isStartElement()) {
+                if (elementName.equals(reader.getLocalName())) {
+                    handler.handle(um.unmarshal(reader, elementClass).getValue());
+                } else {
+                    skipElement(reader);
+                }
+                moveToNextTag(reader);
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new JAXBException(e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
+            releaseUnmarshaller(elementClass, um);
+        }
+    }
+
+    /**
+     * Saves {@code elements} in the file as {@code elementName} children of a {@code rootName} root element,
+     * converting and writing them one at a time.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
+     * @throws JAXBException         Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, Iterator<T> elements) throws IOException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(elementClass);
+        requireNonNull(elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = borrowMarshaller(elementClass);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            writer.write(XML_DECLARATION + "\n<" + rootName + ">\n");
+            QName name = new QName(elementName);
+            while (elements.hasNext()) {
+                m.marshal(new JAXBElement<>(name, elementClass, elements.next()), writer);
+                writer.write("\n");
+            }
+            writer.write("</" + rootName + ">\n");
+        } finally {
+            releaseMarshaller(elementClass, m);
+        }
+    }
+
+    /**
+     * Returns {@code data} as an xml fragment with the root element {@code elementName}.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String toXmlFragment(String elementName, Class<T> dataClass, T data) throws JAXBException {
+        requireNonNull(dataClass);
+        requireNonNull(data);
 
-        m.marshal(data, file.toFile());
+        Marshaller m = borrowMarshaller(dataClass);
+        try {
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            StringWriter writer = new StringWriter();
+            m.marshal(new JAXBElement<>(new QName(elementName), dataClass, data), writer);
+            return writer.toString();
+        } finally {
+            releaseMarshaller(dataClass, m);
+        }
+    }
+
+    /**
+     * Returns the xml fragment {@code xml} as an object of {@code classToConvert}.
+     *
+     * @throws JAXBException Thrown if the fragment does not have the correct format.
+     */
+    public static <T> T fromXmlFragment(String xml, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(xml);
+        requireNonNull(classToConvert);
+
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return um.unmarshal(new StreamSource(new StringReader(xml)), classToConvert).getValue();
+        } finally {
+            releaseUnmarshaller(classToConvert, um);
+        }
+    }
+
+    /**
+     * Returns the cached {@code JAXBContext} of {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns an unused marshaller for {@code type}. It must be returned with {@link #releaseMarshaller}.
+     */
+    private static Marshaller borrowMarshaller(Class<?> type) throws JAXBException {
+        Marshaller m = marshallerPools.computeIfAbsent(type, unused -> new ConcurrentLinkedQueue<>()).poll();
+        return m != null ? m : getContext(type).createMarshaller();
+    }
+
+    private static void releaseMarshaller(Class<?> type, Marshaller m) {
+        marshallerPools.get(type).offer(m);
+    }
+
+    /**
+     * Returns an unused unmarshaller for {@code type}. It must be returned with {@link #releaseUnmarshaller}.
+     */
+    private static Unmarshaller borrowUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller um = unmarshallerPools.computeIfAbsent(type, unused -> new ConcurrentLinkedQueue<>()).poll();
+        return um != null ? um : getContext(type).createUnmarshaller();
+    }
+
+    private static void releaseUnmarshaller(Class<?> type, Unmarshaller um) {
+        unmarshallerPools.get(type).offer(um);
+    }
+
+    /**
+     * Moves {@code reader} past the element it is at, including all its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Moves {@code reader} to the next start or end tag, unless it is already at one.
+     */
+    private static void moveToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Closes {@code reader} if it is not null, ignoring any exception.
+     */
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // nothing more can be done with the reader
+        }
+    }
+
+    /**
+     * Returns an {@code XMLInputFactory} that does not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Handles an element read from an xml file.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
     }
 
 }
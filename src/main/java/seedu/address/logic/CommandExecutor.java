@@ -0,0 +1,161 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands one at a time on a dedicated worker thread, so that a long command does not freeze the window.
+ * The progress and the outcome of each command are handed to its {@link Listener} on the UI thread, after every
+ * change the command made to the model has been published there.
+ */
+public class CommandExecutor {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutor.class);
+
+    private final Logic logic;
+    private final ExecutorService worker;
+    private final Executor uiThread;
+
+    /**
+     * Creates a {@code CommandExecutor} that executes commands with {@code logic} on a new worker thread,
+     * and hands their progress and outcome to the JavaFX application thread.
+     */
+    public CommandExecutor(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Command executor");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandExecutor} that executes commands with {@code logic} on {@code worker},
+     * which must run them one at a time, and hands their progress and outcome to {@code uiThread}.
+     */
+    public CommandExecutor(Logic logic, ExecutorService worker, Executor uiThread) {
+        requireNonNull(logic);
+        requireNonNull(worker);
+        requireNonNull(uiThread);
+        this.logic = logic;
+        this.worker = worker;
+        this.uiThread = uiThread;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it.
+     * @return the execution of the command, through which it can be cancelled.
+     */
+    public Execution submit(String commandText, Listener listener) {
+        requireNonNull(commandText);
+        requireNonNull(listener);
+        Execution execution = new Execution(listener);
+        worker.execute(() -> execution.run(commandText));
+        return execution;
+    }
+
+    /**
+     * Receives the progress and the outcome of a command on the UI thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called when the command has done {@code percentage} percent of its work.
+         */
+        void progressed(int percentage);
+
+        /**
+         * Called when the command has finished with {@code result}.
+         */
+        void succeeded(CommandResult result);
+
+        /**
+         * Called when the command could not be parsed or executed, or was cancelled, with the reason.
+         * Any exception other than a {@code CommandException} or {@code ParseException} is a bug in the command.
+         */
+        void failed(Exception e);
+    }
+
+    /**
+     * A command submitted to the executor.
+     */
+    public class Execution implements ProgressMonitor {
+
+        private final Listener listener;
+        private volatile boolean isCancelled = false;
+        private volatile boolean isDone = false;
+        private int lastPercentage = -1;
+
+        private Execution(Listener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Asks the command to stop at its next step. A command that does not report its progress runs to the end.
+         */
+        public void cancel() {
+            isCancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        /**
+         * Returns true once the outcome of the command has been handed to its listener.
+         */
+        public boolean isDone() {
+            return isDone;
+        }
+
+        /**
+         * Hands the progress to the listener whenever it reaches another whole percentage.
+         * Only called on the worker thread.
+         */
+        @Override
+        public void progress(long done, long total) {
+            int percentage = total <= 0 ? 100 : (int) (done * 100 / total);
+            if (percentage == lastPercentage) {
+                return;
+            }
+            lastPercentage = percentage;
+            uiThread.execute(() -> listener.progressed(percentage));
+        }
+
+        /**
+         * Executes {@code commandText} and hands its outcome to the listener. Only called on the worker thread.
+         */
+        private void run(String commandText) {
+            try {
+                CommandResult result = logic.execute(commandText, this);
+                publish(() -> listener.succeeded(result));
+            } catch (CommandException | ParseException e) {
+                publish(() -> listener.failed(e));
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while executing " + commandText + ": " + e);
+                publish(() -> listener.failed(e));
+            }
+        }
+
+        /**
+         * Hands {@code outcome} to the UI thread, marking the command as done just before it is run.
+         */
+        private void publish(Runnable outcome) {
+            uiThread.execute(() -> {
+                isDone = true;
+                outcome.run();
+            });
+        }
+    }
+}
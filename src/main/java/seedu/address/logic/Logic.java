@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.expenses.Expenses;
@@ -22,6 +23,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, reporting its progress to {@code progressMonitor}, and returns the result.
+     * @param commandText The command as entered by the user.
+     * @param progressMonitor The monitor the command reports its progress to, and is cancelled through.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command is cancelled.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, ProgressMonitor progressMonitor) throws CommandException, ParseException;
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Expenses> getFilteredExpensesList();
 
@@ -8,17 +8,14 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.ParserUtil;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.Money;
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesAmount;
@@ -26,7 +23,6 @@ import seedu.address.model.expenses.MedicalExpenses;
 import seedu.address.model.expenses.MiscellaneousExpenses;
 import seedu.address.model.expenses.TravelExpenses;
 import seedu.address.model.person.EmployeeId;
-import seedu.address.model.person.Person;
 
 /**
  * Adds an expense to the Expenses List.
@@ -53,46 +49,24 @@ public class AddExpensesCommand extends Command {
             + "miscellaneous expenses cannot exceed 999999.99";
     public static final String MESSAGE_EMPLOYEE_ID_NOT_FOUND = "Employee Id not found in CHRS";
 
-    public static final double MAX_EXPENSES_AMOUNT = 999999.99;
-    public static final double MAX_TOTAL_EXPENSES = 9999999.99;
+    public static final Money MAX_EXPENSES_AMOUNT = Money.parse("999999.99");
+    public static final Money MAX_TOTAL_EXPENSES = Money.parse("9999999.99");
 
     private Boolean isNegativeLeftover;
     private Boolean isOverLimit;
-    private Person toCheckEmployeeId;
     private final Expenses toAddExpenses;
     private final EditExpensesDescriptor editExpensesDescriptor;
 
     public AddExpensesCommand(Expenses expenses, EditExpensesDescriptor editExpensesDescriptor) {
-        Expenses toAddFormatExpenses;
-        ExpensesAmount formattedExpenses = null;
-        TravelExpenses formattedTravelExpenses = null;
-        MedicalExpenses formattedMedicalExpenses = null;
-        MiscellaneousExpenses formattedMiscellaneousExpenses = null;
         requireNonNull(expenses);
         requireNonNull(editExpensesDescriptor);
 
-        toAddFormatExpenses = expenses;
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String formatExpenses = toAddFormatExpenses.getExpensesAmount().toString();
-        String formatTravelExpenses = toAddFormatExpenses.getTravelExpenses().toString();
-        String formatMedicalExpenses = toAddFormatExpenses.getMedicalExpenses().toString();
-        String formatMiscellaneousExpenses = toAddFormatExpenses.getMiscellaneousExpenses().toString();
-        try {
-            formattedTravelExpenses = ParserUtil.parseTravelExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatTravelExpenses))));
-            formattedMedicalExpenses = ParserUtil.parseMedicalExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatMedicalExpenses))));
-            formattedMiscellaneousExpenses = ParserUtil.parseMiscellaneousExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatMiscellaneousExpenses))));
-            formattedExpenses = ParserUtil.parseExpensesAmount(
-                    String.valueOf(formatter.format(Double.parseDouble(formatExpenses))));
-        } catch (ParseException pe) {
-            pe.printStackTrace();
-        }
-        EmployeeId addEmployeeId = toAddFormatExpenses.getEmployeeId();
-        toAddExpenses = new Expenses (addEmployeeId, formattedExpenses, formattedTravelExpenses,
-                formattedMedicalExpenses, formattedMiscellaneousExpenses);
-        toCheckEmployeeId = new Person(expenses.getEmployeeId());
+        // amounts are reformatted to two decimal places
+        toAddExpenses = new Expenses(expenses.getEmployeeId(),
+                ExpensesAmount.fromAmount(expenses.getExpensesAmount().getAmount()),
+                TravelExpenses.fromAmount(expenses.getTravelExpenses().getAmount()),
+                MedicalExpenses.fromAmount(expenses.getMedicalExpenses().getAmount()),
+                MiscellaneousExpenses.fromAmount(expenses.getMiscellaneousExpenses().getAmount()));
         this.editExpensesDescriptor = new EditExpensesDescriptor(editExpensesDescriptor);
         isNegativeLeftover = false;
         isOverLimit = false;
@@ -101,29 +75,22 @@ public class AddExpensesCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         String messageToShow = "";
-        if (!model.hasEmployeeId(toCheckEmployeeId)) {
+        if (!model.hasEmployeeId(toAddExpenses.getEmployeeId())) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         } else if (!model.hasExpenses(toAddExpenses)) {
-            if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) < 0) {
+            Money expensesAmount = toAddExpenses.getExpensesAmount().getAmount();
+            Money travelExpenses = toAddExpenses.getTravelExpenses().getAmount();
+            Money medicalExpenses = toAddExpenses.getMedicalExpenses().getAmount();
+            Money miscellaneousExpenses = toAddExpenses.getMiscellaneousExpenses().getAmount();
+            if (expensesAmount.isNegative() || travelExpenses.isNegative() || medicalExpenses.isNegative()
+                    || miscellaneousExpenses.isNegative()) {
                 throw new CommandException(MESSAGE_NEGATIVE_LEFTOVER);
-            } else if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) > MAX_TOTAL_EXPENSES
-                || Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) > MAX_EXPENSES_AMOUNT
-                || Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) > MAX_EXPENSES_AMOUNT
-                || Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) > MAX_EXPENSES_AMOUNT
-            ) {
+            } else if (expensesAmount.compareTo(MAX_TOTAL_EXPENSES) > 0
+                    || travelExpenses.compareTo(MAX_EXPENSES_AMOUNT) > 0
+                    || medicalExpenses.compareTo(MAX_EXPENSES_AMOUNT) > 0
+                    || miscellaneousExpenses.compareTo(MAX_EXPENSES_AMOUNT) > 0) {
                 throw new CommandException(MESSAGE_VALUE_OVER_LIMIT);
-            } else if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) <= MAX_TOTAL_EXPENSES
-                    && Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-                    && Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-                    && Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-            ) {
+            } else {
                 model.addExpenses(toAddExpenses);
                 model.commitExpensesList();
                 messageToShow = MESSAGE_SUCCESS;
@@ -133,7 +100,7 @@ public class AddExpensesCommand extends Command {
             List<String> employeeIdList = new ArrayList<>();
             List<Expenses> lastShownListExpenses;
 
-            employeeIdList.add(toCheckEmployeeId.getEmployeeId().value);
+            employeeIdList.add(toAddExpenses.getEmployeeId().value);
             predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
 
             model.updateFilteredExpensesList(predicatEmployeeId);
@@ -166,115 +133,45 @@ public class AddExpensesCommand extends Command {
     private Expenses createEditedExpenses(Expenses expensesToEdit, EditExpensesDescriptor
             editExpensesDescriptor) {
         assert expensesToEdit != null;
-        ExpensesAmount updatedExpensesAmount = null;
-        TravelExpenses updatedTravelExpenses = null;
-        MedicalExpenses updatedMedicalExpenses = null;
-        MiscellaneousExpenses updatedMiscellaneousExpenses = null;
 
         EmployeeId updatedEmployeeId = expensesToEdit.getEmployeeId();
-        try {
-            updatedExpensesAmount = ParserUtil.parseExpensesAmount(modifyExpensesAmount(expensesToEdit,
-                    editExpensesDescriptor));
-            updatedTravelExpenses = ParserUtil.parseTravelExpenses(modifyTravelExpenses(expensesToEdit,
-                    editExpensesDescriptor));
-            updatedMedicalExpenses = ParserUtil.parseMedicalExpenses(modifyMedicalExpenses(expensesToEdit,
-                    editExpensesDescriptor));
-            updatedMiscellaneousExpenses = ParserUtil.parseMiscellaneousExpenses(modifyMiscellaneousExpenses(
-                    expensesToEdit, editExpensesDescriptor));
-        } catch (ParseException pe) {
-            pe.printStackTrace();
-        }
+        ExpensesAmount updatedExpensesAmount = ExpensesAmount.fromAmount(addExpenses(
+                expensesToEdit.getExpensesAmount().getAmount(),
+                editExpensesDescriptor.getExpensesAmount().map(ExpensesAmount::getAmount).orElse(Money.ZERO),
+                MAX_TOTAL_EXPENSES));
+        TravelExpenses updatedTravelExpenses = TravelExpenses.fromAmount(addExpenses(
+                expensesToEdit.getTravelExpenses().getAmount(),
+                editExpensesDescriptor.getTravelExpenses().map(TravelExpenses::getAmount).orElse(Money.ZERO),
+                MAX_EXPENSES_AMOUNT));
+        MedicalExpenses updatedMedicalExpenses = MedicalExpenses.fromAmount(addExpenses(
+                expensesToEdit.getMedicalExpenses().getAmount(),
+                editExpensesDescriptor.getMedicalExpenses().map(MedicalExpenses::getAmount).orElse(Money.ZERO),
+                MAX_EXPENSES_AMOUNT));
+        MiscellaneousExpenses updatedMiscellaneousExpenses = MiscellaneousExpenses.fromAmount(addExpenses(
+                expensesToEdit.getMiscellaneousExpenses().getAmount(),
+                editExpensesDescriptor.getMiscellaneousExpenses().map(MiscellaneousExpenses::getAmount)
+                        .orElse(Money.ZERO),
+                MAX_EXPENSES_AMOUNT));
 
         return new Expenses(updatedEmployeeId, updatedExpensesAmount, updatedTravelExpenses, updatedMedicalExpenses,
                 updatedMiscellaneousExpenses);
     }
 
     /**
-     * Creates and returns a new String of Expenses with the details of {@code expensesToEdit}
-     * edited with {@code editExpensesDescriptor}.
-     */
-    private String modifyExpensesAmount (Expenses expensesToEdit, EditExpensesDescriptor
-            editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newExpensesAmount = expensesToEdit.getExpensesAmount().toString();
-        double updateExpensesAmount = Double.parseDouble(newExpensesAmount);
-        String change = editExpensesDescriptor.getExpensesAmount().toString().replaceAll("[^0-9.-]",
-                "");
-        updateExpensesAmount += Double.parseDouble(change);
-        if (updateExpensesAmount < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateExpensesAmount > MAX_TOTAL_EXPENSES) {
-            setIsOverLimit(true);
-        } else if (updateExpensesAmount >= 0) {
-            newExpensesAmount = String.valueOf(formatter.format(updateExpensesAmount));
-        }
-        return newExpensesAmount;
-    }
-
-    /**
-     * Creates and returns a new String of Expenses with the details of {@code expensesToEdit}
-     * edited with {@code editExpensesDescriptor}.
+     * Returns {@code current} with {@code change} added.
+     * If the result would be negative or over {@code max}, {@code current} is returned unchanged
+     * and the limit that would be crossed is recorded instead.
      */
-    private String modifyTravelExpenses (Expenses expensesToEdit, EditExpensesDescriptor
-            editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newTravelExpenses = expensesToEdit.getTravelExpenses().toString();
-        double updateTravelExpenses = Double.parseDouble(newTravelExpenses);
-        String change = editExpensesDescriptor.getTravelExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateTravelExpenses += Double.parseDouble(change);
-        if (updateTravelExpenses < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateTravelExpenses > MAX_EXPENSES_AMOUNT) {
-            setIsOverLimit(true);
-        } else if (updateTravelExpenses >= 0) {
-            newTravelExpenses = String.valueOf(formatter.format(updateTravelExpenses));
-        }
-        return newTravelExpenses;
-    }
-
-    /**
-     * Creates and returns a new String of Expenses with the details of {@code expensesToEdit}
-     * edited with {@code editExpensesDescriptor}.
-     */
-    private String modifyMedicalExpenses (Expenses expensesToEdit, EditExpensesDescriptor
-            editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newMedicalExpenses = expensesToEdit.getMedicalExpenses().toString();
-        double updateMedicalExpenses = Double.parseDouble(newMedicalExpenses);
-        String change = editExpensesDescriptor.getMedicalExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateMedicalExpenses += Double.parseDouble(change);
-        if (updateMedicalExpenses < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateMedicalExpenses > MAX_EXPENSES_AMOUNT) {
-            setIsOverLimit(true);
-        } else if (updateMedicalExpenses >= 0) {
-            newMedicalExpenses = String.valueOf(formatter.format(updateMedicalExpenses));
-        }
-        return newMedicalExpenses;
-    }
-
-    /**
-     * Creates and returns a new String of Expenses with the details of {@code expensesToEdit}
-     * edited with {@code editExpensesDescriptor}.
-     */
-    private String modifyMiscellaneousExpenses (Expenses expensesToEdit, EditExpensesDescriptor
-            editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newMiscellaneousExpenses = expensesToEdit.getMiscellaneousExpenses().toString();
-        double updateMiscellaneousExpenses = Double.parseDouble(newMiscellaneousExpenses);
-        String change = editExpensesDescriptor.getMiscellaneousExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateMiscellaneousExpenses += Double.parseDouble(change);
-        if (updateMiscellaneousExpenses < 0) {
+    private Money addExpenses(Money current, Money change, Money max) {
+        long updated = current.getCents() + change.getCents();
+        if (updated < 0) {
             setIsNegativeLeftover(true);
-        } else if (updateMiscellaneousExpenses > MAX_EXPENSES_AMOUNT) {
+            return current;
+        } else if (updated > max.getCents()) {
             setIsOverLimit(true);
-        } else if (updateMiscellaneousExpenses >= 0) {
-            newMiscellaneousExpenses = String.valueOf(formatter.format(updateMiscellaneousExpenses));
+            return current;
         }
-        return newMiscellaneousExpenses;
+        return Money.ofCents(updated);
     }
 
     @Override
@@ -328,10 +225,10 @@ public class AddExpensesCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return (Double.parseDouble(expensesAmount.toString()) != 0
-                    || Double.parseDouble(travelExpenses.toString()) != 0
-                    || Double.parseDouble(medicalExpenses.toString()) != 0
-                    || Double.parseDouble(miscellaneousExpenses.toString()) != 0);
+            return (!expensesAmount.getAmount().equals(Money.ZERO)
+                    || !travelExpenses.getAmount().equals(Money.ZERO)
+                    || !medicalExpenses.getAmount().equals(Money.ZERO)
+                    || !miscellaneousExpenses.getAmount().equals(Money.ZERO));
         }
 
         public void setExpensesAmount(ExpensesAmount expensesAmount) {
@@ -97,27 +97,35 @@ public class AddLeavesCommand extends Command {
                     FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD));
         }
 
-        for (Date date : setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toWorkSchedule = new Schedule(person.getEmployeeId(), work, date);
-                Schedule toLeaveSchedule = new Schedule(person.getEmployeeId(), leave, date);
-
-                if (model.hasSchedule(toWorkSchedule)) {
-                    employeeIdMapToWorks.put(person.getEmployeeId(), date);
-
-                } else if (!model.hasSchedule(toLeaveSchedule)) {
-                    model.addSchedule(toLeaveSchedule);
-                    commit = true;
+        long steps = (long) setOfDates.size() * model.getFilteredPersonList().size();
+        long stepsDone = 0;
+        model.beginBatch();
+        try {
+            for (Date date : setOfDates) {
+                for (Person person : model.getFilteredPersonList()) {
+                    reportProgress(stepsDone++, steps);
+                    EmployeeId employeeId = person.getEmployeeId();
+
+                    if (model.hasSchedule(employeeId, work, date)) {
+                        employeeIdMapToWorks.put(employeeId, date);
+
+                    } else if (!model.hasSchedule(employeeId, leave, date)) {
+                        model.addSchedule(new Schedule(employeeId, leave, date));
+                        commit = true;
+                    }
                 }
             }
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.commitBatch();
 
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToWorks, commit, setOfDates);
         if (!commit) {
             throw new CommandException(String.format(textFeedbackToUser));
         }
 
-        model.commitScheduleList();
         return new CommandResult(String.format(textFeedbackToUser));
     }
 
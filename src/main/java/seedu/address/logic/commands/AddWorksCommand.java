@@ -94,23 +94,31 @@ public class AddWorksCommand extends Command {
                     FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD));
         }
 
-        for (Date date :setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toAddSchedule = new Schedule(person.getEmployeeId(), work , date);
-                Schedule hasLeaveSchedule = new Schedule(person.getEmployeeId(), leave , date);
-                if (model.hasSchedule(hasLeaveSchedule)) {
-                    employeeIdMapToLeaves.put(person.getEmployeeId(), date);
-                } else if (!model.hasSchedule(toAddSchedule)) {
-                    commit = true;
-                    model.addSchedule(toAddSchedule);
+        long steps = (long) setOfDates.size() * model.getFilteredPersonList().size();
+        long stepsDone = 0;
+        model.beginBatch();
+        try {
+            for (Date date :setOfDates) {
+                for (Person person : model.getFilteredPersonList()) {
+                    reportProgress(stepsDone++, steps);
+                    EmployeeId employeeId = person.getEmployeeId();
+                    if (model.hasSchedule(employeeId, leave, date)) {
+                        employeeIdMapToLeaves.put(employeeId, date);
+                    } else if (!model.hasSchedule(employeeId, work, date)) {
+                        commit = true;
+                        model.addSchedule(new Schedule(employeeId, work, date));
+                    }
                 }
             }
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.commitBatch();
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToLeaves, commit, setOfDates);
         if (!commit) {
             throw new CommandException(textFeedbackToUser);
         }
-        model.commitScheduleList();
         return new CommandResult(textFeedbackToUser);
     }
 
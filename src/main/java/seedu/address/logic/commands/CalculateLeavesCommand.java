@@ -3,26 +3,21 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.EmployeeId;
-import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.Year;
 
 /**
  * The {@code CalculateLeavesCommand} class is used for calculating
- * total number of leaves scheduled by an employee given a specified year.
+ * total number of leaves scheduled by an employee given a specified year,
+ * or by every employee when no employee is specified.
  *
  * @see seedu.address.logic.parser.CalculateLeavesCommandParser class for the parser.
  */
@@ -33,9 +28,10 @@ public class CalculateLeavesCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Calculate total leaves schedule for the year "
-            + "by specifying the Employee number and year. "
+            + "by specifying the Employee number and year, "
+            + "or of every employee by specifying only the year. "
             + "\nParameters: "
-            + PREFIX_EMPLOYEEID + "EMPLOYEEID "
+            + "[" + PREFIX_EMPLOYEEID + "EMPLOYEEID] "
             + PREFIX_SCHEDULE_YEAR + "YYYY"
             + "\nExample: "
             + COMMAND_WORD + " "
@@ -44,12 +40,15 @@ public class CalculateLeavesCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Number of leaves scheduled for Employee %1$s year %2$s is: %3$s.";
 
+    public static final String MESSAGE_SUCCESS_ALL_EMPLOYEES = "Number of leaves scheduled in year %1$s:";
+    public static final String MESSAGE_EMPLOYEE_LEAVES = "\nEmployee %1$s: %2$s";
+
     public static final String MESSAGE_NO_SCHEDULE_FOUND = "No leaves found for the employee in that year!";
+    public static final String MESSAGE_NO_LEAVES_FOUND_IN_YEAR = "No leaves found for any employee in that year!";
     public static final String MESSAGE_EMPLOYEE_ID_NOT_FOUND = "Employee Id not found in system!";
 
     private final Year year;
     private final EmployeeId employeeId;
-    private Person toCheckEmployeeId;
 
     /**
      * CalculateLeavesCommand
@@ -61,14 +60,24 @@ public class CalculateLeavesCommand extends Command {
         requireAllNonNull(year);
         this.employeeId = id;
         this.year = year;
-        toCheckEmployeeId = new Person(id);
+    }
+
+    /**
+     * CalculateLeavesCommand for every employee
+     * @param year  Year to calculate leaves taken by each employee
+     */
+    public CalculateLeavesCommand(Year year) {
+        requireAllNonNull(year);
+        this.employeeId = null;
+        this.year = year;
     }
 
     /**
      * CalculateLeavesCommand execution.
      * <p>
      *     Calculates total number of leaves scheduled for an employee
-     *     for the entire specified year in the schedule list.
+     *     for the entire specified year, by reading the leave count kept for the employee and year.
+     *     Without an employee, lists the leave count of every employee with leaves in that year.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -77,36 +86,40 @@ public class CalculateLeavesCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        int numLeaves = 0;
+        if (employeeId == null) {
+            return calculateAllLeaves(model);
+        }
 
-        if (!model.hasEmployeeId(toCheckEmployeeId)) {
+        if (!model.hasEmployeeId(employeeId)) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         }
 
-        List<String> employeeIdList = new ArrayList<>();
-        employeeIdList.add(employeeId.value);
-        EmployeeIdScheduleContainsKeywordsPredicate employeeIdPredicate =
-                new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(employeeIdPredicate);
-
-        if (model.getFilteredScheduleList().size() == 0) {
+        if (!model.hasSchedules(employeeId)) {
             throw new CommandException(MESSAGE_NO_SCHEDULE_FOUND);
         }
 
-        for (Schedule schedule : model.getFilteredScheduleList()) {
-            if (schedule.getScheduleYear().equals(year.toString())
-                    && schedule.getType().toString().equals(Type.LEAVE)) {
-                numLeaves++;
-            }
-        }
-
-        model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+        int numLeaves = model.countSchedules(employeeId, new Type(Type.LEAVE), year);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, employeeId, year, numLeaves));
     }
 
+    /**
+     * Lists the number of leaves of every employee with leaves in {@code year}, in order of employee id.
+     * @throws CommandException if no employee has leaves in that year.
+     */
+    private CommandResult calculateAllLeaves(Model model) throws CommandException {
+        Map<EmployeeId, Integer> numLeavesByEmployeeId =
+                model.countSchedulesByEmployeeId(new Type(Type.LEAVE), year);
+        if (numLeavesByEmployeeId.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_LEAVES_FOUND_IN_YEAR);
+        }
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS_ALL_EMPLOYEES, year));
+        numLeavesByEmployeeId.forEach((id, numLeaves) ->
+                report.append(String.format(MESSAGE_EMPLOYEE_LEAVES, id, numLeaves)));
+        return new CommandResult(report.toString());
+    }
+
     /**
      * Compares if both objects are equal.
      * @param other similar object type to be compared with.
@@ -117,7 +130,7 @@ public class CalculateLeavesCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof CalculateLeavesCommand // instanceof handles nulls
                 && year.equals(((CalculateLeavesCommand) other).year)
-                && employeeId.equals(((CalculateLeavesCommand) other).employeeId));
+                && Objects.equals(employeeId, ((CalculateLeavesCommand) other).employeeId));
     }
 }
 
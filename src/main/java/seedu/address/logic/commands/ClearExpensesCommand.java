@@ -1,11 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.expenses.ExpensesList;
 
 /**
  * Clears the expenses list.
@@ -24,14 +24,13 @@ public class ClearExpensesCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredExpensesList(model.PREDICATE_SHOW_ALL_EXPENSES);
-        if (model.getFilteredExpensesList().size() > 0) {
-            model.resetDataExpenses(new ExpensesList());
+        if (model.removeExpensesIf(PREDICATE_SHOW_ALL_EXPENSES)) {
             model.commitExpensesList();
         } else {
             throw new CommandException(MESSAGE_FAILURE_CLEARED);
         }
 
+        model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
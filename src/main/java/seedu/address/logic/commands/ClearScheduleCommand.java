@@ -8,7 +8,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.schedule.ScheduleList;
 
 /**
  * The {@code ClearScheduleCommand} class is used for clearing the entire schedule list.
@@ -40,9 +39,7 @@ public class ClearScheduleCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredScheduleList(model.PREDICATE_SHOW_ALL_SCHEDULES);
-        if (model.getFilteredScheduleList().size() > 0) {
-            model.resetScheduleListData(new ScheduleList());
+        if (model.removeSchedulesIf(PREDICATE_SHOW_ALL_SCHEDULES)) {
             model.commitScheduleList();
         } else {
             throw new CommandException(MESSAGE_FAILURE_CLEARED);
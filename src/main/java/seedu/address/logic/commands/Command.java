@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -10,6 +12,11 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    public static final String MESSAGE_CANCELLED = "Command cancelled. "
+            + "Changes made before it was cancelled can be undone with undo.";
+
+    private ProgressMonitor progressMonitor = ProgressMonitor.NONE;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -20,4 +27,24 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException, ParseException;
 
+    /**
+     * Sets the monitor that this command reports its progress to when executed.
+     */
+    public void setProgressMonitor(ProgressMonitor progressMonitor) {
+        this.progressMonitor = requireNonNull(progressMonitor);
+    }
+
+    /**
+     * Reports that {@code done} of the {@code total} steps of this command are done.
+     * Commands that go through many persons or schedules call this at every step.
+     *
+     * @throws CommandException if the command was cancelled, to stop it at this step.
+     */
+    protected void reportProgress(long done, long total) throws CommandException {
+        if (progressMonitor.isCancelled()) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
+        progressMonitor.progress(done, total);
+    }
+
 }
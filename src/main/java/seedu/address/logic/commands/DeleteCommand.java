@@ -4,22 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelTypes;
-import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
-import seedu.address.model.expenses.Expenses;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
 
 /**
  * The {@code DeleteCommand} class is used for deleting a person identified using it's
@@ -45,7 +38,7 @@ public class DeleteCommand extends Command {
      * <p>
      *     Checks if schedule storage has schedule/expenses data containing the same employee id
      *     as the person to delete, if so, clear it.
-     *     {@code Set<ModelTypes> set} takes note of the set of storage involved in clearing.
+     *     All deletions are done in one model batch, which commits only the storages involved in clearing.
      *     Important for undo and redo command to work properly.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
@@ -64,19 +57,16 @@ public class DeleteCommand extends Command {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        Set<ModelTypes> set = new HashSet<>();
-        set.add(ModelTypes.ADDRESS_BOOK);
-        model.deletePerson(personToDelete);
-
-        if (deleteAllSchedulesFromPerson(model, personToDelete)) {
-            set.add(ModelTypes.SCHEDULES_LIST);
-        }
-
-        if (deleteAllExpensesFromPerson (model, personToDelete)) {
-            set.add(ModelTypes.EXPENSES_LIST);
+        model.beginBatch();
+        try {
+            model.deletePerson(personToDelete);
+            deleteAllSchedulesFromPerson(model, personToDelete);
+            deleteAllExpensesFromPerson(model, personToDelete);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
-
-        model.commitMultipleLists(set);
+        model.commitBatch();
 
         model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
@@ -99,60 +89,30 @@ public class DeleteCommand extends Command {
     /**
      * Deletes all expenses related to person
      * <p>
-     *     Runs a O(n) loop on the expenses list to delete all expenses containing
-     *     the employee id of the person to delete.
+     *     Removes all expenses containing the employee id of the person to delete from the expenses list
+     *     in a single pass.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
      * @return True if at least 1 expenses is deleted
      */
     public boolean deleteAllExpensesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdExpensesContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Expenses> lastShownListExpenses;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredExpensesList(predicatEmployeeId);
-        lastShownListExpenses = model.getFilteredExpensesList();
-        if (lastShownListExpenses.size() == 0) {
-            return false;
-        }
-
-        while (lastShownListExpenses.size() != 0) {
-            Expenses expenseToDelete = lastShownListExpenses.get(0);
-            model.deleteExpenses(expenseToDelete);
-        }
-        return true;
+        EmployeeId employeeId = personToDelete.getEmployeeId();
+        return model.removeExpensesIf(expenses -> expenses.getEmployeeId().equals(employeeId));
     }
 
     /**
      * Deletes all schedules related to person
      * <p>
-     *     Runs a O(n) loop on the schedule list to delete all schedules containing
-     *     the employee id of the person to delete
+     *     Removes all schedules containing the employee id of the person to delete from the schedule list
+     *     in a single pass.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
-     * @return True if at least 1 expenses is deleted
+     * @return True if at least 1 schedule is deleted
      */
     public boolean deleteAllSchedulesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdScheduleContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Schedule> lastShownListSchedule;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(predicatEmployeeId);
-        lastShownListSchedule = model.getFilteredScheduleList();
-        if (lastShownListSchedule.size() == 0) {
-            return false;
-        }
-
-        while (lastShownListSchedule.size() != 0) {
-            Schedule scheduleToDelete = lastShownListSchedule.get(0);
-            model.deleteSchedule(scheduleToDelete);
-        }
-        return true;
+        EmployeeId employeeId = personToDelete.getEmployeeId();
+        return model.removeSchedulesIf(schedule -> schedule.getEmployeeId().equals(employeeId));
     }
 }
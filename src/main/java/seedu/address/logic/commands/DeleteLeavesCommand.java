@@ -71,21 +71,30 @@ public class DeleteLeavesCommand extends Command {
         if (model.getFilteredPersonList().size() == 0) {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
         }
-        for (Date date : setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), leave , date);
-                if (model.hasSchedule(toDeleteSchedule)) {
-                    model.deleteSchedule(toDeleteSchedule);
-                    commit = true;
+        long steps = (long) setOfDates.size() * model.getFilteredPersonList().size();
+        long stepsDone = 0;
+        model.beginBatch();
+        try {
+            for (Date date : setOfDates) {
+                for (Person person : model.getFilteredPersonList()) {
+                    reportProgress(stepsDone++, steps);
+                    Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), leave , date);
+                    if (model.hasSchedule(toDeleteSchedule)) {
+                        model.deleteSchedule(toDeleteSchedule);
+                        commit = true;
+                    }
                 }
             }
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.commitBatch();
 
         if (!commit) {
             throw new CommandException(String.format(MESSAGE_PERSON_ALL_DELETED_LEAVE, setOfDates));
         }
 
-        model.commitScheduleList();
         return new CommandResult(String.format(MESSAGE_SUCCESS, setOfDates));
     }
 
@@ -73,21 +73,30 @@ public class DeleteWorksCommand extends Command {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
         }
 
-        for (Date date : setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), work , date);
-                if (model.hasSchedule(toDeleteSchedule)) {
-                    commit = true;
-                    model.deleteSchedule(toDeleteSchedule);
+        long steps = (long) setOfDates.size() * model.getFilteredPersonList().size();
+        long stepsDone = 0;
+        model.beginBatch();
+        try {
+            for (Date date : setOfDates) {
+                for (Person person : model.getFilteredPersonList()) {
+                    reportProgress(stepsDone++, steps);
+                    Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), work , date);
+                    if (model.hasSchedule(toDeleteSchedule)) {
+                        commit = true;
+                        model.deleteSchedule(toDeleteSchedule);
+                    }
                 }
             }
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.commitBatch();
 
         if (!commit) {
             throw new CommandException(String.format(MESSAGE_PERSON_ALL_DELETED_WORK, setOfDates));
         }
 
-        model.commitScheduleList();
         return new CommandResult(String.format(MESSAGE_SUCCESS, setOfDates));
     }
 
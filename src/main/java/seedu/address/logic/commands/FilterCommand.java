@@ -3,12 +3,17 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPARTMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -22,6 +27,9 @@ import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
 /**
  * Filters and lists all persons in address book whose department and/or position contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The keywords are only matched against the distinct departments and positions in the address book. The person list
+ * is filtered by those departments and positions, so persons edited later are still shown if they match, while the
+ * persons whose expenses and schedules are shown are read from the address book indexes of them.
  * The list is sorted either in ascending or descending name order based on the user's input
  */
 public class FilterCommand extends Command {
@@ -89,22 +97,71 @@ public class FilterCommand extends Command {
         String allAvailableDepartments = listAvailableDepartments(model);
         String allAvailablePositions = listAvailablePositions(model);
 
+        Collection<Person> matchedPersons = model.getFilteredPersonList();
         if (isDepartmentPrefixPresent && !isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate, sortOrder);
+            Set<String> departments = findKeys(model.getDepartments(), departmentPredicate::matches);
+            model.updateFilteredPersonList(person -> departments.contains(toKey(person.getDepartment().value)),
+                    sortOrder);
+            matchedPersons = findPersons(departments, model::getPersonsInDepartment);
         } else if (isPositionPrefixPresent && !isDepartmentPrefixPresent) {
-            model.updateFilteredPersonList(positionPredicate, sortOrder);
+            Set<String> positions = findKeys(model.getPositions(), positionPredicate::matches);
+            model.updateFilteredPersonList(person -> positions.contains(toKey(person.getPosition().value)),
+                    sortOrder);
+            matchedPersons = findPersons(positions, model::getPersonsInPosition);
         } else if (isDepartmentPrefixPresent && isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate.and(positionPredicate), sortOrder);
+            Set<String> departments = findKeys(model.getDepartments(), departmentPredicate::matches);
+            Set<String> positions = findKeys(model.getPositions(), positionPredicate::matches);
+            model.updateFilteredPersonList(person -> departments.contains(toKey(person.getDepartment().value))
+                    && positions.contains(toKey(person.getPosition().value)), sortOrder);
+            Set<Person> personsInDepartments = findPersons(departments, model::getPersonsInDepartment);
+            personsInDepartments.retainAll(findPersons(positions, model::getPersonsInPosition));
+            matchedPersons = personsInDepartments;
         }
 
-        EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate = generateEmployeeIdExpensesPredicate(model);
-        EmployeeIdScheduleContainsKeywordsPredicate schedulePredicate = generateEmployeeIdSchedulePredicate(model);
+        EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate =
+                generateEmployeeIdExpensesPredicate(matchedPersons);
+        EmployeeIdScheduleContainsKeywordsPredicate schedulePredicate =
+                generateEmployeeIdSchedulePredicate(matchedPersons);
         model.updateFilteredExpensesList(expensesPredicate);
         model.updateFilteredScheduleList(schedulePredicate);
 
         return new CommandResult(feedbackToUser(model, allAvailableDepartments, allAvailablePositions));
     }
 
+    /**
+     * Returns the upper-cased {@code values} that match {@code valueMatcher}. Only the distinct values in the address
+     * book are matched against the keywords, not the value of every person.
+     */
+    private static Set<String> findKeys(Set<String> values, Predicate<String> valueMatcher) {
+        Set<String> matchedValues = new HashSet<>();
+        for (String value : values) {
+            if (valueMatcher.test(value)) {
+                matchedValues.add(value);
+            }
+        }
+        return matchedValues;
+    }
+
+    /**
+     * Returns the persons under all the upper-cased {@code values}, as read from the address book index of those
+     * values by {@code personsWithValue}.
+     * The returned set compares persons by identity, as they are the persons in the address book.
+     */
+    private static Set<Person> findPersons(Set<String> values, Function<String, Set<Person>> personsWithValue) {
+        Set<Person> matchedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String value : values) {
+            matchedPersons.addAll(personsWithValue.apply(value));
+        }
+        return matchedPersons;
+    }
+
+    /**
+     * Returns {@code value} upper-cased, as the departments and positions of the address book are.
+     */
+    private static String toKey(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -121,18 +178,7 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public String listAvailableDepartments(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allDepartments = new HashSet<>();
-
-        for (Person department : getFullList) {
-            allDepartments.add(department.getDepartment().toString().toUpperCase());
-        }
-
-        String availableDepartments = String.join(", ", allDepartments);
-
-        return "\nAvailable Departments: " + availableDepartments;
+        return "\nAvailable Departments: " + String.join(", ", model.getDepartments());
     }
 
     /**
@@ -141,30 +187,19 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public String listAvailablePositions(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allPositions = new HashSet<>();
-
-        for (Person position : getFullList) {
-            allPositions.add(position.getPosition().toString().toUpperCase());
-        }
-
-        String availablePositions = String.join(", ", allPositions);
-
-        return "\nAvailable Positions: " + availablePositions;
+        return "\nAvailable Positions: " + String.join(", ", model.getPositions());
     }
 
     /**
      * Creates and returns a {@code EmployeeIdExpensesContainsKeywordsPredicate} that contains all the employee ID(s)
      * that matches the matched persons' employee ID.
-     * @param model The actual model
+     * @param matchedPersons The persons whose expenses are to be shown
      */
-    public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
+    public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(
+            Collection<Person> matchedPersons) {
         List<String> matchedEmployeeIds = new ArrayList<>();
 
-        for (Person person : getFilteredList) {
+        for (Person person : matchedPersons) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
         }
 
@@ -174,13 +209,13 @@ public class FilterCommand extends Command {
     /**
      * Creates and returns a {@code EmployeeIdScheduleContainsKeywordsPredicate} that contains all the employee ID(s)
      * that matches the matched persons' employee ID.
-     * @param model The actual model
+     * @param matchedPersons The persons whose schedules are to be shown
      */
-    public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
+    public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(
+            Collection<Person> matchedPersons) {
         List<String> matchedEmployeeIds = new ArrayList<>();
 
-        for (Person person : getFilteredList) {
+        for (Person person : matchedPersons) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
         }
 
@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -13,7 +15,6 @@ import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.EmployeeIdContainsKeywordsPredicate;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
 
@@ -36,7 +37,7 @@ public class FindCommand extends Command {
 
     private final String keyword;
     private EmployeeIdContainsKeywordsPredicate employeeIdPredicate;
-    private NameContainsKeywordsPredicate namePredicate;
+    private Predicate<Person> namePredicate;
     private boolean isInputName;
     private boolean isInputEmployeeId;
 
@@ -68,16 +69,21 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
+        Collection<Person> matchedPersons = model.getFilteredPersonList();
         if (isInputName && !isInputEmployeeId) {
-            namePredicate = generateNamesPredicate(model, keyword);
+            namePredicate = generateNamesPredicate(keyword);
             model.updateFilteredPersonList(namePredicate);
+            // the name index gives the same persons without going through the list again
+            matchedPersons = model.getPersonsWithNameContaining(keyword);
         } else if (!isInputName && isInputEmployeeId) {
             employeeIdPredicate = new EmployeeIdContainsKeywordsPredicate(keyword);
             model.updateFilteredPersonList(employeeIdPredicate);
         }
 
-        EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate = generateEmployeeIdExpensesPredicate(model);
-        EmployeeIdScheduleContainsKeywordsPredicate schedulePredicate = generateEmployeeIdSchedulePredicate(model);
+        EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate =
+                generateEmployeeIdExpensesPredicate(matchedPersons);
+        EmployeeIdScheduleContainsKeywordsPredicate schedulePredicate =
+                generateEmployeeIdSchedulePredicate(matchedPersons);
         model.updateFilteredExpensesList(expensesPredicate);
         model.updateFilteredScheduleList(schedulePredicate);
 
@@ -95,13 +101,13 @@ public class FindCommand extends Command {
     /**
      * Creates and returns a {@code EmployeeIdExpensesContainsKeywordsPredicate} that contains all the employee ID(s)
      * that matches the matched person's employee ID.
-     * @param model The actual model
+     * @param matchedPersons The persons whose expenses are to be shown
      */
-    public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
+    public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(
+            Collection<Person> matchedPersons) {
         List<String> matchedEmployeeIds = new ArrayList<>();
 
-        for (Person person : getFilteredList) {
+        for (Person person : matchedPersons) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
         }
 
@@ -112,13 +118,13 @@ public class FindCommand extends Command {
     /**
      * Creates and returns a {@code EmployeeIdScheduleContainsKeywordsPredicate} that contains all the employee ID(s)
      * that matches the matched person's employee ID.
-     * @param model The actual model
+     * @param matchedPersons The persons whose schedules are to be shown
      */
-    public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
+    public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(
+            Collection<Person> matchedPersons) {
         List<String> matchedEmployeeIds = new ArrayList<>();
 
-        for (Person person : getFilteredList) {
+        for (Person person : matchedPersons) {
             matchedEmployeeIds.add(person.getEmployeeId().value);
         }
 
@@ -126,23 +132,11 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Creates and returns a {@code NameContainsKeywordsPredicate} that holds all the name(s) that contains
-     * the input keyword.
-     * @param model The actual model
+     * Creates and returns a predicate that matches the persons whose names contain the input keyword, ignoring case.
      * @param keyword The user's input
      */
-    public NameContainsKeywordsPredicate generateNamesPredicate (Model model, String keyword) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        List<String> matchingNames = new ArrayList<>();
-
-        for (Person name : getFullList) {
-            if (name.getName().fullName.toLowerCase().contains(keyword.toLowerCase())) {
-                matchingNames.add(name.getName().fullName);
-            }
-        }
-
-        return new NameContainsKeywordsPredicate(matchingNames);
+    public Predicate<Person> generateNamesPredicate(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        return person -> person.getName().fullName.toLowerCase(Locale.ROOT).contains(lowerCaseKeyword);
     }
 }
@@ -5,8 +5,6 @@ import static seedu.address.commons.core.Messages.MESSAGE_MODIFIED_PAY_OVERVIEW;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BONUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +13,9 @@ import java.util.Set;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.Money;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Bonus;
 import seedu.address.model.person.DateOfBirth;
@@ -61,9 +59,6 @@ public class ModifyAllPayCommand extends Command {
             + " AND/OR "
             + PREFIX_BONUS
             + " must be provided";
-    private static final double LIMIT = 0.0;
-    private static final double PERCENT = 100.0;
-    private static final String OUTPUT_FORMAT = "#0.00";
     private final ModSalaryDescriptor modSalaryDescriptor;
 
     /**
@@ -91,92 +86,65 @@ public class ModifyAllPayCommand extends Command {
             modifiedList.add(modifiedPerson);
         }
 
-        for (int i = 0; i < newList.size(); i++) {
-            model.updatePerson(newList.get(i), modifiedList.get(i));
+        model.beginBatch();
+        try {
+            for (int i = 0; i < newList.size(); i++) {
+                reportProgress(i, newList.size());
+                model.updatePerson(newList.get(i), modifiedList.get(i));
+            }
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.commitBatch();
 
-        model.commitAddressBook();
         return new CommandResult(String.format(MESSAGE_MODIFIED_PAY_OVERVIEW, lastShownList.size()));
     }
 
     /**
-     * Creates and returns a boolean with the details of {@code salary}
-     */
-    private static boolean isNegative (double salary) {
-        return salary <= LIMIT;
-    }
-    /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
-     */
-    private static double addSalaryAmount (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Double.parseDouble(change);
-
-        return payOut;
-    }
-
-    /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the Salary of {@code personToEdit} modified with {@code modSalaryDescriptor},
+     * either by an amount or by a percentage of the current salary.
+     * The salary is reformatted to two decimal places even if it is not modified.
      */
-    private static double modifySalaryPercent (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Math.abs(payOut) * (Double.parseDouble(change) / PERCENT);
-
-        return payOut;
-    }
-
-    /**
-     * Creates and returns a new String of Salary with the functions modifySalaryPercent and addSalaryAmount
-     * details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
-     */
-    private static String typeOfSalaryMod (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
-        throws CommandException {
-        String newSalary = personToEdit.getSalary().toString();
-        NumberFormat formatter = new DecimalFormat(OUTPUT_FORMAT);
-        double payOut = Double.parseDouble(newSalary);
-
-        if (!modSalaryDescriptor.getSalary().equals(Optional.empty())) {
-            String change = modSalaryDescriptor.getSalary().toString();
-            char type = change.charAt(9);
-
-            if (type == '%') {
-                payOut = modifySalaryPercent(personToEdit, modSalaryDescriptor);
-            } else {
-                payOut = addSalaryAmount(personToEdit, modSalaryDescriptor);
-            }
+    private static Salary modifySalary(Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
+            throws CommandException, ParseException {
+        long payOut = personToEdit.getSalary().getAmount().getCents();
+
+        if (modSalaryDescriptor.getSalary().isPresent()) {
+            Salary change = modSalaryDescriptor.getSalary().get();
+            long changeCents = change.getAmount().getCents();
+            payOut = change.isPercentage()
+                    ? Money.adjustCentsByPercent(payOut, changeCents)
+                    : payOut + changeCents;
         }
 
-        if (isNegative(payOut)) {
+        if (payOut <= 0) {
             throw new CommandException(MESSAGE_NEGATIVE_PAY);
         }
 
-        newSalary = String.valueOf(formatter.format(payOut));
-
-        return newSalary;
+        Money newSalary = Money.ofCents(payOut);
+        if (!Salary.isValidAmount(newSalary)) {
+            throw new ParseException(Salary.MESSAGE_SALARY_CONSTRAINTS);
+        }
+        return Salary.fromAmount(newSalary);
     }
 
     /**
-     * Creates and returns a new String value of Bonus with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the Bonus of {@code personToEdit}, which is {@code newSalary} multiplied by the
+     * months of salary in {@code modSalaryDescriptor} if it has a bonus.
      */
-    private static String modifyBonusMonth (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
-                                            Salary newSalary) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String bonus = personToEdit.getBonus().toString();
-        double currentSalary = Double.parseDouble(newSalary.toString());
-        if (!modSalaryDescriptor.getBonus().equals(Optional.empty())) {
-            String bonusMonth = modSalaryDescriptor.getBonus().toString().replaceAll("[^0-9.]", "");
-            double payOut = currentSalary * Double.parseDouble(bonusMonth);
-            bonus = String.valueOf(formatter.format(payOut));
+    private static Bonus modifyBonus(Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
+                                     Salary newSalary) throws ParseException {
+        if (!modSalaryDescriptor.getBonus().isPresent()) {
+            return personToEdit.getBonus();
+        }
+
+        long bonusMonths = modSalaryDescriptor.getBonus().get().getAmount().getCents();
+        Money newBonus = Money.ofCents(Money.multiplyCents(newSalary.getAmount().getCents(), bonusMonths));
+        if (!Bonus.isValidAmount(newBonus)) {
+            throw new ParseException(Bonus.MESSAGE_BONUS_CONSTRAINTS);
         }
-        return bonus;
+        return Bonus.fromAmount(newBonus);
     }
 
     /**
@@ -195,8 +163,8 @@ public class ModifyAllPayCommand extends Command {
         Department updatedDepartment = personToEdit.getDepartment();
         Position updatedPosition = personToEdit.getPosition();
         Address updatedAddress = personToEdit.getAddress();
-        Salary updatedSalary = ParserUtil.parseSalary(typeOfSalaryMod(personToEdit, modSalaryDescriptor));
-        Bonus updatedBonus = ParserUtil.parseBonus(modifyBonusMonth(personToEdit, modSalaryDescriptor, updatedSalary));
+        Salary updatedSalary = modifySalary(personToEdit, modSalaryDescriptor);
+        Bonus updatedBonus = modifyBonus(personToEdit, modSalaryDescriptor, updatedSalary);
         Set<Tag> updatedTags = personToEdit.getTags();
 
         return new Person(updatedEmployeeId, updatedName, updatedDateOfBirth, updatedPhone, updatedEmail,
@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+/**
+ * Receives the progress of a running command, and tells the command whether it has been cancelled.
+ * A command is only stopped at the steps where it reports its progress.
+ */
+public interface ProgressMonitor {
+
+    /** A monitor that ignores progress and never cancels, for commands that are run to completion. */
+    ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void progress(long done, long total) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Called when {@code done} of the {@code total} steps of the command are done.
+     */
+    void progress(long done, long total);
+
+    /**
+     * Returns true if the command should stop at its next step.
+     */
+    boolean isCancelled();
+}
@@ -36,13 +36,16 @@ public class CalculateLeavesCommandParser implements Parser<CalculateLeavesComma
                     CalculateLeavesCommand.MESSAGE_USAGE));
         }
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_SCHEDULE_YEAR, PREFIX_EMPLOYEEID)
+        if (!arePrefixesPresent(argMultimap, PREFIX_SCHEDULE_YEAR)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     CalculateLeavesCommand.MESSAGE_USAGE));
         }
 
         Year year = ParserUtil.parseYear(argMultimap.getValue(PREFIX_SCHEDULE_YEAR).get());
+        if (!arePrefixesPresent(argMultimap, PREFIX_EMPLOYEEID)) {
+            return new CalculateLeavesCommand(year);
+        }
         EmployeeId id = ParserUtil.parseEmployeeId(argMultimap.getValue(PREFIX_EMPLOYEEID).get());
 
         return new CalculateLeavesCommand(id, year);
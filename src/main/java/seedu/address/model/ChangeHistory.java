@@ -0,0 +1,282 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps track of the changes made to a list of {@code T}, grouped into committed states, for undo and redo.
+ * Each state is stored as the changes made since the state before it rather than as a copy of the whole list,
+ * so a commit only costs as much as the elements changed since the last commit.
+ * Each element added or removed is recorded with its index in the list, so that undoing and redoing put it back
+ * where it was; lists that are kept sorted only use the index to keep the order of the elements that compare equal.
+ *
+ * Every change recorded, undone or redone is also collected as {@link ListChanges}, so that the list can tell others
+ * what changed since it last did, see {@link #takeChanges()}.
+ */
+public class ChangeHistory<T> {
+
+    private final List<List<Change<T>>> committedChanges = new ArrayList<>();
+    private final List<Change<T>> uncommittedChanges = new ArrayList<>();
+    private int currentStatePointer = 0;
+    private final ListChanges.Recorder<T> unpublishedChanges = new ListChanges.Recorder<>();
+
+    /**
+     * Records that {@code added} was added to the list at {@code index}.
+     */
+    public void recordAdd(T added, int index) {
+        uncommittedChanges.add(new ElementChange<>(null, added, index));
+        unpublishedChanges.recordAdd(added);
+    }
+
+    /**
+     * Records that {@code removed} was removed from {@code index} of the list.
+     */
+    public void recordRemove(T removed, int index) {
+        uncommittedChanges.add(new ElementChange<>(removed, null, index));
+        unpublishedChanges.recordRemove(removed);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code edited} in the list.
+     */
+    public void recordUpdate(T target, T edited) {
+        uncommittedChanges.add(new ElementChange<>(target, edited, -1));
+        unpublishedChanges.recordUpdate(target, edited);
+    }
+
+    /**
+     * Records that the contents of the list were replaced from {@code oldElements} to {@code newElements}.
+     * The given lists are kept as they are, so they must not be modified afterwards.
+     */
+    public void recordReset(List<T> oldElements, List<T> newElements) {
+        uncommittedChanges.add(new ResetChange<>(oldElements, newElements));
+        unpublishedChanges.recordReset();
+    }
+
+    /**
+     * Saves the changes recorded since the last commit as a new state.
+     * Undone states are removed.
+     */
+    public void commit() {
+        committedChanges.subList(currentStatePointer, committedChanges.size()).clear();
+        committedChanges.add(new ArrayList<>(uncommittedChanges));
+        uncommittedChanges.clear();
+        currentStatePointer++;
+    }
+
+    /**
+     * Restores {@code list} to its previous state, discarding uncommitted changes.
+     */
+    public void undo(ChangeTarget<T> list) {
+        assert canUndo();
+        ChangeTarget<T> recordedList = new RecordedChangeTarget<>(list, unpublishedChanges);
+        revertUncommittedChanges(recordedList);
+        currentStatePointer--;
+        revert(committedChanges.get(currentStatePointer), recordedList);
+    }
+
+    /**
+     * Restores {@code list} to its previously undone state, discarding uncommitted changes.
+     */
+    public void redo(ChangeTarget<T> list) {
+        assert canRedo();
+        ChangeTarget<T> recordedList = new RecordedChangeTarget<>(list, unpublishedChanges);
+        revertUncommittedChanges(recordedList);
+        committedChanges.get(currentStatePointer).forEach(change -> change.apply(recordedList));
+        currentStatePointer++;
+    }
+
+    /**
+     * Returns the number of changes recorded since the last commit.
+     */
+    public int getUncommittedChangeCount() {
+        return uncommittedChanges.size();
+    }
+
+    /**
+     * Reverts the changes recorded since the last commit on {@code list}, except for the first
+     * {@code keptChangeCount} of them, and forgets the reverted changes.
+     */
+    public void rollback(ChangeTarget<T> list, int keptChangeCount) {
+        assert keptChangeCount >= 0 && keptChangeCount <= uncommittedChanges.size();
+        List<Change<T>> revertedChanges = uncommittedChanges.subList(keptChangeCount, uncommittedChanges.size());
+        revert(revertedChanges, new RecordedChangeTarget<>(list, unpublishedChanges));
+        revertedChanges.clear();
+    }
+
+    /**
+     * Returns the changes recorded, undone or redone since the last call, as the next version of the list.
+     */
+    public ListChanges<T> takeChanges() {
+        return unpublishedChanges.takeChanges();
+    }
+
+    /**
+     * Returns true if {@code undo()} has states to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if {@code redo()} has states to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < committedChanges.size();
+    }
+
+    private void revertUncommittedChanges(ChangeTarget<T> list) {
+        revert(uncommittedChanges, list);
+        uncommittedChanges.clear();
+    }
+
+    private static <T> void revert(List<Change<T>> changes, ChangeTarget<T> list) {
+        List<Change<T>> reversedChanges = new ArrayList<>(changes);
+        Collections.reverse(reversedChanges);
+        reversedChanges.forEach(change -> change.revert(list));
+    }
+
+    /**
+     * Returns true if both histories have the same number of states and point at the same state.
+     * The changes themselves are not compared, as different changes can lead to the same states.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ChangeHistory // instanceof handles nulls
+                && committedChanges.size() == ((ChangeHistory) other).committedChanges.size()
+                && currentStatePointer == ((ChangeHistory) other).currentStatePointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(committedChanges.size(), currentStatePointer);
+    }
+
+    /**
+     * The list operations used to apply and revert changes. They must not be recorded in the history.
+     */
+    public interface ChangeTarget<T> {
+        /**
+         * Adds {@code element} at {@code index}, where it was when the change was recorded.
+         */
+        void add(int index, T element);
+
+        void remove(T element);
+
+        void update(T target, T edited);
+
+        void setAll(List<T> elements);
+    }
+
+    /**
+     * Applies changes to a list and also records them as {@link ListChanges}.
+     */
+    private static class RecordedChangeTarget<T> implements ChangeTarget<T> {
+        private final ChangeTarget<T> list;
+        private final ListChanges.Recorder<T> recorder;
+
+        private RecordedChangeTarget(ChangeTarget<T> list, ListChanges.Recorder<T> recorder) {
+            this.list = list;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+            recorder.recordAdd(element);
+        }
+
+        @Override
+        public void remove(T element) {
+            list.remove(element);
+            recorder.recordRemove(element);
+        }
+
+        @Override
+        public void update(T target, T edited) {
+            list.update(target, edited);
+            recorder.recordUpdate(target, edited);
+        }
+
+        @Override
+        public void setAll(List<T> elements) {
+            list.setAll(elements);
+            recorder.recordReset();
+        }
+    }
+
+    /**
+     * A change made to the list.
+     */
+    private interface Change<T> {
+        void apply(ChangeTarget<T> list);
+
+        void revert(ChangeTarget<T> list);
+    }
+
+    /**
+     * An element added to, removed from or replaced in the list.
+     */
+    private static class ElementChange<T> implements Change<T> {
+        private final T oldElement;
+        private final T newElement;
+        // index of the element added or removed, which is not needed for a replaced element
+        private final int index;
+
+        private ElementChange(T oldElement, T newElement, int index) {
+            this.oldElement = oldElement;
+            this.newElement = newElement;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(ChangeTarget<T> list) {
+            change(list, oldElement, newElement, index);
+        }
+
+        @Override
+        public void revert(ChangeTarget<T> list) {
+            change(list, newElement, oldElement, index);
+        }
+
+        /**
+         * Replaces {@code from} with {@code to} in {@code list}, where a null element stands for no element
+         * and {@code index} is where the element added or removed is.
+         */
+        private static <T> void change(ChangeTarget<T> list, T from, T to, int index) {
+            if (from == null) {
+                list.add(index, to);
+            } else if (to == null) {
+                list.remove(from);
+            } else {
+                list.update(from, to);
+            }
+        }
+    }
+
+    /**
+     * The whole contents of the list replaced.
+     */
+    private static class ResetChange<T> implements Change<T> {
+        private final List<T> oldElements;
+        private final List<T> newElements;
+
+        private ResetChange(List<T> oldElements, List<T> newElements) {
+            this.oldElements = oldElements;
+            this.newElements = newElements;
+        }
+
+        @Override
+        public void apply(ChangeTarget<T> list) {
+            list.setAll(newElements);
+        }
+
+        @Override
+        public void revert(ChangeTarget<T> list) {
+            list.setAll(oldElements);
+        }
+    }
+}
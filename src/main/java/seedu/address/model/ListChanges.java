@@ -0,0 +1,204 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The net changes made to a list of {@code T} between two versions of it: the elements added, the elements removed
+ * and the elements replaced by an edited element. An element that is added and then removed again, or edited back
+ * to what it was, does not appear at all.
+ *
+ * If the whole contents of the list were replaced, such as by a reset of the data, the changes are a reset instead,
+ * and the list should be read again in full.
+ */
+public class ListChanges<T> {
+
+    private final long version;
+    private final boolean isReset;
+    private final List<T> added;
+    private final List<T> removed;
+    private final Map<T, T> replaced;
+
+    private ListChanges(long version, boolean isReset, List<T> added, List<T> removed, Map<T, T> replaced) {
+        this.version = version;
+        this.isReset = isReset;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.replaced = Collections.unmodifiableMap(replaced);
+    }
+
+    /**
+     * Returns changes of unknown elements at version {@code version}, which must be handled as a reset.
+     */
+    public static <T> ListChanges<T> reset(long version) {
+        return new ListChanges<>(version, true, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyMap());
+    }
+
+    /**
+     * Returns the version of the list after these changes. Versions of a list increase with every set of changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if the whole contents of the list were replaced, in which case there are no element changes.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if the list did not change.
+     */
+    public boolean isEmpty() {
+        return !isReset && added.isEmpty() && removed.isEmpty() && replaced.isEmpty();
+    }
+
+    /**
+     * Returns the elements added to the list, in the order they were added.
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the elements removed from the list, in the order they were removed.
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the elements of the list that were edited, each mapped to the element that replaced it,
+     * in the order they were first edited.
+     */
+    public Map<T, T> getReplaced() {
+        return replaced;
+    }
+
+    @Override
+    public String toString() {
+        if (isReset) {
+            return "version " + version + ": reset";
+        }
+        return "version " + version + ": " + added.size() + " added, " + removed.size() + " removed, "
+                + replaced.size() + " replaced";
+    }
+
+    /**
+     * Collects the changes made to a list, netting out changes that undo each other.
+     * Elements are matched with {@code equals}, as the lists do not hold equal elements.
+     */
+    public static class Recorder<T> {
+
+        private long version;
+        private boolean isReset;
+        private final Set<T> added = new LinkedHashSet<>();
+        // original element -> element that replaced it, or null if it was removed
+        private final Map<T, T> changed = new LinkedHashMap<>();
+        // element that replaced an original element -> that original element
+        private final Map<T, T> originals = new HashMap<>();
+
+        /**
+         * Records that {@code element} was added to the list.
+         */
+        public void recordAdd(T element) {
+            requireNonNull(element);
+            if (isReset) {
+                return;
+            }
+            if (changed.containsKey(element) && changed.get(element) == null) {
+                changed.remove(element);
+            } else {
+                added.add(element);
+            }
+        }
+
+        /**
+         * Records that {@code element} was removed from the list.
+         */
+        public void recordRemove(T element) {
+            requireNonNull(element);
+            if (isReset || added.remove(element)) {
+                return;
+            }
+            T original = originals.containsKey(element) ? originals.remove(element) : element;
+            changed.put(original, null);
+        }
+
+        /**
+         * Records that {@code target} was replaced by {@code edited} in the list.
+         */
+        public void recordUpdate(T target, T edited) {
+            requireNonNull(target);
+            requireNonNull(edited);
+            if (isReset) {
+                return;
+            }
+            if (added.remove(target)) {
+                added.add(edited);
+                return;
+            }
+
+            T original = originals.containsKey(target) ? originals.remove(target) : target;
+            if (original.equals(edited)) {
+                changed.remove(original);
+            } else {
+                changed.put(original, edited);
+                originals.put(edited, original);
+            }
+        }
+
+        /**
+         * Records that the whole contents of the list were replaced.
+         */
+        public void recordReset() {
+            isReset = true;
+            clearElementChanges();
+        }
+
+        /**
+         * Returns the changes recorded since the last call as the next version of the list, and starts recording
+         * the changes of the version after it.
+         */
+        public ListChanges<T> takeChanges() {
+            version++;
+            if (isReset) {
+                isReset = false;
+                return reset(version);
+            }
+
+            List<T> removed = new ArrayList<>();
+            Map<T, T> replaced = new LinkedHashMap<>();
+            changed.forEach((original, current) -> {
+                if (current == null) {
+                    removed.add(original);
+                } else {
+                    replaced.put(original, current);
+                }
+            });
+            ListChanges<T> changes = new ListChanges<>(version, false, new ArrayList<>(added), removed, replaced);
+            clearElementChanges();
+            return changes;
+        }
+
+        /**
+         * Forgets the element changes recorded so far.
+         */
+        private void clearElementChanges() {
+            added.clear();
+            changed.clear();
+            originals.clear();
+        }
+    }
+}
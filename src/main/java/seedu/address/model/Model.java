@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -8,11 +9,15 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
 
 /**
  * The API of the Model component.
@@ -57,9 +62,66 @@ public interface Model {
     boolean hasPerson(Person person);
     boolean hasPerson(Person person, Predicate<Person> predicate);
     boolean hasSchedule(Schedule schedule);
+
+    /**
+     * Returns true if the employee with {@code employeeId} has a schedule of {@code type} on {@code date}.
+     */
+    boolean hasSchedule(EmployeeId employeeId, Type type, Date date);
+
+    /**
+     * Returns true if the employee with {@code employeeId} has any schedule.
+     */
+    boolean hasSchedules(EmployeeId employeeId);
+
+    /**
+     * Returns the number of schedules of {@code type} the employee with {@code employeeId} has in {@code year}.
+     */
+    int countSchedules(EmployeeId employeeId, Type type, Year year);
+
+    /**
+     * Returns the number of schedules of {@code type} in {@code year} of each employee with at least one of them,
+     * in order of employee id.
+     */
+    Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year);
     boolean hasRecruitment(Recruitment recruitment);
     boolean hasEmployeeId(Person person);
 
+    /**
+     * Returns true if a person with the employee id {@code employeeId} exists in the address book.
+     */
+    boolean hasEmployeeId(EmployeeId employeeId);
+
+    /**
+     * Returns the person with the employee id {@code employeeId}.
+     * The person must exist in the address book.
+     */
+    Person getPerson(EmployeeId employeeId);
+
+    /**
+     * Returns the persons in the address book whose names contain {@code keyword}, ignoring case.
+     */
+    Set<Person> getPersonsWithNameContaining(String keyword);
+
+    /**
+     * Returns the distinct departments of the persons in the address book, upper-cased and in alphabetical order.
+     */
+    Set<String> getDepartments();
+
+    /**
+     * Returns the persons in the address book whose department is {@code department}, ignoring case.
+     */
+    Set<Person> getPersonsInDepartment(String department);
+
+    /**
+     * Returns the distinct positions of the persons in the address book, upper-cased and in alphabetical order.
+     */
+    Set<String> getPositions();
+
+    /**
+     * Returns the persons in the address book whose position is {@code position}, ignoring case.
+     */
+    Set<Person> getPersonsInPosition(String position);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -69,6 +131,18 @@ public interface Model {
     void deleteSchedule(Schedule target);
     void deleteRecruitmentPost(Recruitment target);
 
+    /**
+     * Deletes all the schedules that match {@code predicate} at once.
+     * Returns true if any schedule was deleted.
+     */
+    boolean removeSchedulesIf(Predicate<Schedule> predicate);
+
+    /**
+     * Deletes all the expenses that match {@code predicate} at once.
+     * Returns true if any expenses was deleted.
+     */
+    boolean removeExpensesIf(Predicate<Expenses> predicate);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -141,6 +215,7 @@ public interface Model {
 
     /**
      * Saves the current address book state for undo/redo.
+     * Inside a batch, the lists are only committed when the outermost batch is committed.
      */
     void commitAddressBook();
     void commitExpensesList();
@@ -148,4 +223,25 @@ public interface Model {
     void commitRecruitmentPostList();
     void commitMultipleLists(Set<ModelTypes> stack);
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()} or {@link #abortBatch()},
+     * no change events are raised, so storage is not rewritten after every single change, and nothing is committed
+     * for undo/redo, so undo and redo must not be used inside a batch.
+     * Batches may be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}, keeping its changes.
+     * When the outermost batch ends, every list changed or committed in it is committed together for undo/redo,
+     * and one change event per changed list is raised.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}, reverting the changes made since then.
+     * Changes made before it in an enclosing batch are kept.
+     */
+    void abortBatch();
+
 }
@@ -3,6 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -10,12 +14,14 @@ import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpensesListChangedEvent;
 import seedu.address.commons.events.model.RecruitmentListChangedEvent;
 import seedu.address.commons.events.model.ScheduleListChangedEvent;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.addressbook.VersionedAddressBook;
@@ -23,22 +29,26 @@ import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
 import seedu.address.model.expenses.VersionedExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
 import seedu.address.model.recruitment.VersionedRecruitmentList;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.VersionedScheduleList;
+import seedu.address.model.schedule.Year;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private static final String ASCENDING_ORDER = "asc";
 
     private final VersionedModelList versionedModelList;
     private final VersionedAddressBook versionedAddressBook;
@@ -46,10 +56,16 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedScheduleList versionedScheduleList;
     private final VersionedRecruitmentList versionedRecruitmentList;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Expenses> filteredExpenses;
     private final FilteredList<Schedule> filteredSchedules;
     private final FilteredList<Recruitment> filteredRecruitment;
 
+    private final Set<ModelTypes> uncommittedTypes = EnumSet.noneOf(ModelTypes.class);
+    private final Set<ModelTypes> unsavedTypes = EnumSet.noneOf(ModelTypes.class);
+    // one for each batch in progress, the innermost last
+    private final Deque<BatchSavepoint> batchSavepoints = new ArrayDeque<>();
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -68,6 +84,7 @@ public class ModelManager extends ComponentManager implements Model {
         versionedRecruitmentList = new VersionedRecruitmentList(recruitmentList);
         filteredExpenses = new FilteredList<>(versionedExpensesList.getExpensesRequestList());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredSchedules = new FilteredList<>(versionedScheduleList.getScheduleList());
         filteredRecruitment = new FilteredList<>(versionedRecruitmentList.getRecruitmentList());
         versionedModelList = new VersionedModelList();
@@ -138,20 +155,115 @@ public class ModelManager extends ComponentManager implements Model {
 
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        indicateChanged(ModelTypes.ADDRESS_BOOK);
     }
 
     private void indicateExpensesListChanged() {
-        raise(new ExpensesListChangedEvent(versionedExpensesList)); }
+        indicateChanged(ModelTypes.EXPENSES_LIST); }
 
     private void indicateScheduleListChanged() {
-        raise(new ScheduleListChangedEvent(versionedScheduleList));
+        indicateChanged(ModelTypes.SCHEDULES_LIST);
     }
 
     private void indicateRecruitmentListChanged() {
-        raise(new RecruitmentListChangedEvent(versionedRecruitmentList));
+        indicateChanged(ModelTypes.RECRUITMENT_LIST);
+    }
+
+    /**
+     * Shows the list of the given {@code type} in its default order and raises its change event.
+     * Inside a batch, both are held back until the outermost {@link #commitBatch()}.
+     */
+    private void indicateChanged(ModelTypes type) {
+        if (isInBatch()) {
+            uncommittedTypes.add(type);
+            unsavedTypes.add(type);
+            return;
+        }
+        showDefaultOrder(type);
+        raiseChangedEvent(type);
+    }
+
+    /**
+     * Shows the list of the given {@code type} in the order it is kept in.
+     * The lists keep themselves sorted, so only a different order chosen for the displayed persons is dropped.
+     */
+    private void showDefaultOrder(ModelTypes type) {
+        if (type == ModelTypes.ADDRESS_BOOK) {
+            sortedPersons.setComparator(null);
+        }
+    }
+
+    /**
+     * Raises the change event of the list of the given {@code type}, with the changes made to it since its last one.
+     */
+    private void raiseChangedEvent(ModelTypes type) {
+        switch (type) {
+        case ADDRESS_BOOK:
+            raise(new AddressBookChangedEvent(versionedAddressBook, versionedAddressBook.takeChanges()));
+            break;
+        case EXPENSES_LIST:
+            raise(new ExpensesListChangedEvent(versionedExpensesList, versionedExpensesList.takeChanges()));
+            break;
+        case SCHEDULES_LIST:
+            raise(new ScheduleListChangedEvent(versionedScheduleList, versionedScheduleList.takeChanges()));
+            break;
+        case RECRUITMENT_LIST:
+            raise(new RecruitmentListChangedEvent(versionedRecruitmentList,
+                    versionedRecruitmentList.takeChanges()));
+            break;
+        default:
+            break;
+        }
+    }
+
+    //=========== Batch =================================================================================
+
+    private boolean isInBatch() {
+        return !batchSavepoints.isEmpty();
+    }
+
+    @Override
+    public void beginBatch() {
+        batchSavepoints.addLast(new BatchSavepoint());
+    }
+
+    /**
+     * Ends the innermost batch, keeping its changes.
+     * The lists changed in the whole batch are committed and their change events raised only when the outermost
+     * batch is committed.
+     */
+    @Override
+    public void commitBatch() {
+        if (!isInBatch()) {
+            throw new NoBatchInProgressException();
+        }
+
+        batchSavepoints.removeLast();
+        if (isInBatch()) {
+            return;
+        }
+        if (!uncommittedTypes.isEmpty()) {
+            commitMultipleLists(EnumSet.copyOf(uncommittedTypes));
+            uncommittedTypes.clear();
+        }
+        for (ModelTypes type : unsavedTypes) {
+            showDefaultOrder(type);
+            raiseChangedEvent(type);
+        }
+        unsavedTypes.clear();
     }
 
+    /**
+     * Ends the innermost batch, reverting the changes made in it from the uncommitted changes of each list.
+     */
+    @Override
+    public void abortBatch() {
+        if (!isInBatch()) {
+            throw new NoBatchInProgressException();
+        }
+
+        batchSavepoints.removeLast().restore();
+    }
 
     //-----------------------------------------------------------------------------
     @Override
@@ -181,12 +293,76 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.hasEmployeeId(person);
     }
 
+    @Override
+    public boolean hasEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return versionedAddressBook.hasEmployeeId(employeeId);
+    }
+
+    @Override
+    public Person getPerson(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return versionedAddressBook.getPerson(employeeId);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return versionedAddressBook.getPersonsWithNameContaining(keyword);
+    }
+
+    @Override
+    public Set<String> getDepartments() {
+        return versionedAddressBook.getDepartments();
+    }
+
+    @Override
+    public Set<Person> getPersonsInDepartment(String department) {
+        requireNonNull(department);
+        return versionedAddressBook.getPersonsInDepartment(department);
+    }
+
+    @Override
+    public Set<String> getPositions() {
+        return versionedAddressBook.getPositions();
+    }
+
+    @Override
+    public Set<Person> getPersonsInPosition(String position) {
+        requireNonNull(position);
+        return versionedAddressBook.getPersonsInPosition(position);
+    }
+
     @Override
     public boolean hasSchedule(Schedule target) {
         requireNonNull(target);
         return versionedScheduleList.hasSchedule(target);
     }
 
+    @Override
+    public boolean hasSchedule(EmployeeId employeeId, Type type, Date date) {
+        requireAllNonNull(employeeId, type, date);
+        return versionedScheduleList.hasSchedule(employeeId, type, date);
+    }
+
+    @Override
+    public boolean hasSchedules(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return versionedScheduleList.hasSchedules(employeeId);
+    }
+
+    @Override
+    public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+        requireAllNonNull(employeeId, type, year);
+        return versionedScheduleList.countSchedules(employeeId, type, year);
+    }
+
+    @Override
+    public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+        requireAllNonNull(type, year);
+        return versionedScheduleList.countSchedulesByEmployeeId(type, year);
+    }
+
     @Override
     public boolean hasRecruitment(Recruitment target) {
         requireNonNull(target);
@@ -197,24 +373,41 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteExpenses(Expenses target) {
         versionedExpensesList.removeExpenses(target);
-        versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
     }
 
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
         indicateAddressBookChanged();
     }
 
     @Override
     public void deleteSchedule(Schedule target) {
         versionedScheduleList.removeSchedule(target);
-        versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
     }
 
+    @Override
+    public boolean removeSchedulesIf(Predicate<Schedule> predicate) {
+        requireNonNull(predicate);
+        if (versionedScheduleList.removeSchedulesIf(predicate).isEmpty()) {
+            return false;
+        }
+        indicateScheduleListChanged();
+        return true;
+    }
+
+    @Override
+    public boolean removeExpensesIf(Predicate<Expenses> predicate) {
+        requireNonNull(predicate);
+        if (versionedExpensesList.removeExpensesIf(predicate).isEmpty()) {
+            return false;
+        }
+        indicateExpensesListChanged();
+        return true;
+    }
+
     @Override
     public void deleteRecruitmentPost(Recruitment target) {
         versionedRecruitmentList.removeRecruitment(target);
@@ -227,7 +420,6 @@ public class ModelManager extends ComponentManager implements Model {
     public void addExpenses(Expenses expenses) {
         versionedExpensesList.addExpenses(expenses);
         updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-        versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
     }
 
@@ -239,7 +431,6 @@ public class ModelManager extends ComponentManager implements Model {
         updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
         updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
         indicateAddressBookChanged();
     }
 
@@ -247,7 +438,6 @@ public class ModelManager extends ComponentManager implements Model {
     public void addSchedule(Schedule schedule) {
         versionedScheduleList.addSchedule(schedule);
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
     }
 
@@ -263,7 +453,6 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateExpenses(Expenses target, Expenses editedExpenses) {
         requireAllNonNull(target, editedExpenses);
         versionedExpensesList.updateExpenses(target, editedExpenses);
-        versionedExpensesList.sortExpensesBy();
         indicateExpensesListChanged();
     }
 
@@ -271,7 +460,6 @@ public class ModelManager extends ComponentManager implements Model {
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         versionedAddressBook.updatePerson(target, editedPerson);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
         indicateAddressBookChanged();
     }
 
@@ -279,7 +467,6 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
         versionedScheduleList.updateSchedule(target, editedSchedule);
-        versionedScheduleList.sortSchedulesBy();
         indicateScheduleListChanged();
     }
 
@@ -304,7 +491,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
@@ -326,28 +513,39 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredExpensesList(Predicate<Expenses> predicate) {
         requireNonNull(predicate);
-        versionedExpensesList.sortExpensesBy();
         filteredExpenses.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * The persons are kept sorted by name in ascending order, so that order is shown as it is, and the descending
+     * order is a sorted view over the filtered persons rather than a sort of the address book.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate, String sortOrder) {
         requireNonNull(predicate);
-        versionedAddressBook.sortEmployeesBy(sortOrder);
+        switch (sortOrder) {
+        case FilterCommand.ASCENDING:
+            sortedPersons.setComparator(null);
+            break;
+        case FilterCommand.DESCENDING:
+            sortedPersons.setComparator(UniquePersonList.NAME_COMPARATOR.reversed());
+            break;
+        default:
+            throw new AssertionError("Invalid parameter for order entered");
+        }
         filteredPersons.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
         requireNonNull(predicate);
-        versionedScheduleList.sortSchedulesBy();
         filteredSchedules.setPredicate(predicate);
     }
 
@@ -469,6 +667,10 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void commitAddressBook() {
+        if (isInBatch()) {
+            uncommittedTypes.add(ModelTypes.ADDRESS_BOOK);
+            return;
+        }
         versionedAddressBook.commit();
         versionedModelList.add(ModelTypes.ADDRESS_BOOK);
     }
@@ -477,6 +679,10 @@ public class ModelManager extends ComponentManager implements Model {
      * Commits the expenses list storage and sets the last commit storage type
      */
     public void commitExpensesList() {
+        if (isInBatch()) {
+            uncommittedTypes.add(ModelTypes.EXPENSES_LIST);
+            return;
+        }
         versionedExpensesList.commit();
         versionedModelList.add(ModelTypes.EXPENSES_LIST);
     }
@@ -485,6 +691,10 @@ public class ModelManager extends ComponentManager implements Model {
      * Commits the schedule list storage and sets the last commit storage type
      */
     public void commitScheduleList() {
+        if (isInBatch()) {
+            uncommittedTypes.add(ModelTypes.SCHEDULES_LIST);
+            return;
+        }
         versionedScheduleList.commit();
         versionedModelList.add(ModelTypes.SCHEDULES_LIST);
     }
@@ -493,6 +703,10 @@ public class ModelManager extends ComponentManager implements Model {
      * Commits the recruitment list storage and sets the last commit storage type
      */
     public void commitRecruitmentPostList() {
+        if (isInBatch()) {
+            uncommittedTypes.add(ModelTypes.RECRUITMENT_LIST);
+            return;
+        }
         versionedRecruitmentList.commit();
         versionedModelList.add(ModelTypes.RECRUITMENT_LIST);
     }
@@ -501,6 +715,10 @@ public class ModelManager extends ComponentManager implements Model {
      * Commits the multiple storages list and sets the commit storage type
      */
     public void commitMultipleLists(Set<ModelTypes> set) {
+        if (isInBatch()) {
+            uncommittedTypes.addAll(set);
+            return;
+        }
 
         for (ModelTypes myModel : set) {
             switch(myModel) {
@@ -540,7 +758,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons)
+                && sortedPersons.equals(other.sortedPersons)
                 && versionedRecruitmentList.equals(other.versionedRecruitmentList)
                 && filteredRecruitment.equals(other.filteredRecruitment)
                 && versionedScheduleList.equals(other.versionedScheduleList)
@@ -549,4 +767,37 @@ public class ModelManager extends ComponentManager implements Model {
                 && filteredExpenses.equals(other.filteredExpenses);
     }
 
+    /**
+     * The state of the model when a batch began, to go back to if the batch is aborted.
+     */
+    private class BatchSavepoint {
+        private final Set<ModelTypes> uncommittedTypes = EnumSet.copyOf(ModelManager.this.uncommittedTypes);
+        private final Set<ModelTypes> unsavedTypes = EnumSet.copyOf(ModelManager.this.unsavedTypes);
+        private final int addressBookChangeCount = versionedAddressBook.getUncommittedChangeCount();
+        private final int expensesListChangeCount = versionedExpensesList.getUncommittedChangeCount();
+        private final int scheduleListChangeCount = versionedScheduleList.getUncommittedChangeCount();
+        private final int recruitmentListChangeCount = versionedRecruitmentList.getUncommittedChangeCount();
+
+        /**
+         * Reverts the changes made to the lists since this savepoint, and forgets that they changed.
+         */
+        private void restore() {
+            versionedAddressBook.rollback(addressBookChangeCount);
+            versionedExpensesList.rollback(expensesListChangeCount);
+            versionedScheduleList.rollback(scheduleListChangeCount);
+            versionedRecruitmentList.rollback(recruitmentListChangeCount);
+            ModelManager.this.uncommittedTypes.retainAll(uncommittedTypes);
+            ModelManager.this.unsavedTypes.retainAll(unsavedTypes);
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code commitBatch()} or {@code abortBatch()} without a matching {@code beginBatch()}.
+     */
+    public static class NoBatchInProgressException extends RuntimeException {
+        private NoBatchInProgressException() {
+            super("No batch in progress, unable to end batch.");
+        }
+    }
+
 }
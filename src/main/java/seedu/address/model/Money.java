@@ -0,0 +1,213 @@
+package seedu.address.model;
+
+/**
+ * Represents an amount of money as a whole number of cents.
+ * Guarantees: immutable; arithmetic is exact, and results are rounded half-even to the cent.
+ *
+ * The static methods work on plain {@code long} cents, so loops over many amounts (such as payroll-wide changes)
+ * can do their arithmetic without creating any objects.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static final String MESSAGE_MONEY_CONSTRAINTS =
+            "Amounts of money should be numbers with at most 2 decimal places";
+
+    private static final int CENTS_PER_UNIT = 100;
+    private static final int MAX_WHOLE_DIGITS = 15;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of money of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount of money written in {@code amount}, such as "-12", "1200.5" or "1200.50".
+     *
+     * @throws NumberFormatException if {@code amount} is not a valid amount of money.
+     */
+    public static Money parse(String amount) {
+        return ofCents(parseCents(amount));
+    }
+
+    /**
+     * Returns true if {@code test} is a number with at most 2 decimal places that {@link #parse(String)} accepts.
+     */
+    public static boolean isValidMoney(String test) {
+        try {
+            parseCents(test);
+            return true;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of cents in {@code amount}, such as "-12", "1200.5" or "1200.50".
+     * The amount is parsed by hand, without regular expressions or intermediate objects.
+     *
+     * @throws NumberFormatException if {@code amount} is not a valid amount of money.
+     */
+    public static long parseCents(String amount) {
+        int length = amount.length();
+        int i = 0;
+        boolean isNegative = length > 0 && amount.charAt(0) == '-';
+        if (isNegative) {
+            i++;
+        }
+
+        long units = 0;
+        int wholeDigits = 0;
+        while (i < length && isDigit(amount.charAt(i))) {
+            units = units * 10 + (amount.charAt(i) - '0');
+            wholeDigits++;
+            i++;
+        }
+        if (wholeDigits == 0 || wholeDigits > MAX_WHOLE_DIGITS) {
+            throw new NumberFormatException(MESSAGE_MONEY_CONSTRAINTS + ": " + amount);
+        }
+
+        long fraction = 0;
+        if (i < length && amount.charAt(i) == '.') {
+            i++;
+            int decimalPlaces = 0;
+            while (i < length && isDigit(amount.charAt(i)) && decimalPlaces < 2) {
+                fraction = fraction * 10 + (amount.charAt(i) - '0');
+                decimalPlaces++;
+                i++;
+            }
+            if (decimalPlaces == 0) {
+                throw new NumberFormatException(MESSAGE_MONEY_CONSTRAINTS + ": " + amount);
+            }
+            fraction *= decimalPlaces == 1 ? 10 : 1;
+        }
+        if (i != length) {
+            throw new NumberFormatException(MESSAGE_MONEY_CONSTRAINTS + ": " + amount);
+        }
+
+        long cents = units * CENTS_PER_UNIT + fraction;
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Returns {@code cents} as an amount with two decimal places, such as "1200.50" or "-0.05".
+     */
+    public static String formatCents(long cents) {
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        int fraction = (int) Math.abs(cents % CENTS_PER_UNIT);
+        StringBuilder builder = new StringBuilder(24);
+        if (cents < 0) {
+            builder.append('-');
+        }
+        builder.append(units).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
+
+    /**
+     * Returns {@code cents} multiplied by {@code factorCents / 100}, such as a salary multiplied by a number of
+     * months given with up to two decimal places, rounded to the cent.
+     */
+    public static long multiplyCents(long cents, long factorCents) {
+        return divideRounded(Math.multiplyExact(cents, factorCents), CENTS_PER_UNIT);
+    }
+
+    /**
+     * Returns {@code cents} increased by {@code percentCents / 100} percent of its magnitude, rounded to the cent.
+     * A negative percentage decreases the amount.
+     */
+    public static long adjustCentsByPercent(long cents, long percentCents) {
+        long change = divideRounded(Math.multiplyExact(Math.abs(cents), percentCents),
+                (long) CENTS_PER_UNIT * CENTS_PER_UNIT);
+        return Math.addExact(cents, change);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount less {@code other}.
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount multiplied by {@code factor}, rounded to the cent.
+     */
+    public Money times(Money factor) {
+        return ofCents(multiplyCents(cents, factor.cents));
+    }
+
+    /**
+     * Returns this amount increased by {@code percent} percent of its magnitude, rounded to the cent.
+     */
+    public Money adjustedByPercent(Money percent) {
+        return ofCents(adjustCentsByPercent(cents, percent.cents));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return formatCents(cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Money // instanceof handles nulls
+                && cents == ((Money) other).cents); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns {@code dividend / divisor} rounded half-even, for a positive {@code divisor}.
+     */
+    private static long divideRounded(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long twiceRemainder = 2 * Math.floorMod(dividend, divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.model.addressbook;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -85,6 +87,58 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsEmployeeId(person);
     }
 
+    /**
+     * Returns true if a person with the employee id {@code employeeId} exists in the address book.
+     */
+    public boolean hasEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return persons.containsEmployeeId(employeeId);
+    }
+
+    /**
+     * Returns the person with the employee id {@code employeeId}.
+     * The person must exist in the address book.
+     */
+    public Person getPerson(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return persons.getPerson(employeeId);
+    }
+
+    /**
+     * Returns the persons in the address book whose names contain {@code keyword}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameContaining(String keyword) {
+        return persons.getPersonsWithNameContaining(keyword);
+    }
+
+    /**
+     * Returns the distinct departments of the persons in the address book, upper-cased and in alphabetical order.
+     */
+    public Set<String> getDepartments() {
+        return persons.getDepartments();
+    }
+
+    /**
+     * Returns the persons in the address book whose department is {@code department}, ignoring case.
+     */
+    public Set<Person> getPersonsInDepartment(String department) {
+        return persons.getPersonsInDepartment(department);
+    }
+
+    /**
+     * Returns the distinct positions of the persons in the address book, upper-cased and in alphabetical order.
+     */
+    public Set<String> getPositions() {
+        return persons.getPositions();
+    }
+
+    /**
+     * Returns the persons in the address book whose position is {@code position}, ignoring case.
+     */
+    public Set<Person> getPersonsInPosition(String position) {
+        return persons.getPersonsInPosition(position);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -93,6 +147,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at {@code index}, to put back a person removed from there.
+     * The person is still added in order of name, see {@link UniquePersonList#add(int, Person)}.
+     */
+    protected void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Returns the index of {@code p} in the address book, or -1 if it is not in the address book.
+     */
+    protected int indexOfPerson(Person p) {
+        return persons.indexOf(p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -111,14 +180,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
-    /**
-     * Sort Employees within CHRS by name
-     * Sorting will be done in either ascending or descending order based on user's input
-     */
-    public void sortEmployeesBy(String sortOrder) {
-        persons.sortByName(sortOrder);
-    }
-
     //// util methods
 
     @Override
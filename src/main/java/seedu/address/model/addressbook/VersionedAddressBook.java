@@ -3,34 +3,103 @@ package seedu.address.model.addressbook;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.ChangeHistory.ChangeTarget;
+import seedu.address.model.ListChanges;
+import seedu.address.model.person.Person;
+
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Only the changes made between commits are kept, see {@link ChangeHistory}.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    private final ChangeHistory<Person> history;
+
+    /** Applies the changes of {@code history} to this address book without recording them again. */
+    private final ChangeTarget<Person> unrecordedAddressBook = new ChangeTarget<Person>() {
+        @Override
+        public void add(int index, Person element) {
+            VersionedAddressBook.super.addPerson(index, element);
+        }
+
+        @Override
+        public void remove(Person element) {
+            VersionedAddressBook.super.removePerson(element);
+        }
+
+        @Override
+        public void update(Person target, Person edited) {
+            VersionedAddressBook.super.updatePerson(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Person> elements) {
+            VersionedAddressBook.super.setPersons(elements);
+        }
+    };
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        super();
+        history = new ChangeHistory<>();
+        super.setPersons(initialState.getPersonList());
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        history.recordReset(oldPersons, new ArrayList<>(getPersonList()));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        history.recordAdd(p, indexOfPerson(p));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        super.updatePerson(target, editedPerson);
+        history.recordUpdate(target, editedPerson);
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        super.removePerson(key);
+        history.recordRemove(key, index);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made to the current {@code AddressBook} since the last commit as a new state.
+     * Undone states are removed.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        history.commit();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    /**
+     * Returns the changes made to the address book since this was last called, including those undone or redone,
+     * as its next version.
+     */
+    public ListChanges<Person> takeChanges() {
+        return history.takeChanges();
+    }
+
+    /**
+     * Returns the number of changes made to the address book since the last commit.
+     */
+    public int getUncommittedChangeCount() {
+        return history.getUncommittedChangeCount();
+    }
+
+    /**
+     * Reverts the changes made to the address book since the last commit,
+     * except for the first {@code keptChangeCount} of them.
+     */
+    public void rollback(int keptChangeCount) {
+        history.rollback(unrecordedAddressBook, keptChangeCount);
     }
 
     /**
@@ -40,8 +109,7 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.undo(unrecordedAddressBook);
     }
 
     /**
@@ -51,22 +119,21 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.redo(unrecordedAddressBook);
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +152,7 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && history.equals(otherVersionedAddressBook.history);
     }
 
     /**
@@ -1,10 +1,10 @@
 package seedu.address.model.expenses;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Expenses}'s {@code Employee_Id} matches any of the Id given.
  */
@@ -12,15 +12,20 @@ import seedu.address.commons.util.StringUtil;
 
 public class EmployeeIdExpensesContainsKeywordsPredicate implements Predicate<Expenses> {
     private final List<String> keywords;
+    private final Set<String> employeeIds;
 
     public EmployeeIdExpensesContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.employeeIds = new HashSet<>(keywords);
     }
 
+    /**
+     * Looks the employee id up in a hash set of the keywords, so the cost of a test does not grow with the keywords.
+     * Employee ids are only digits, so the exact match is the same as a match ignoring case.
+     */
     @Override
     public boolean test(Expenses expenses) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(expenses.getEmployeeId().value, keyword));
+        return employeeIds.contains(expenses.getEmployeeId().value);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Expenses Amount in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidExpensesAmount(String)}
@@ -11,9 +13,12 @@ public class ExpensesAmount {
 
     public static final String MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS =
             "Expenses Amount should only contain numbers, and it should be at least 1 digits long";
-    public static final String EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX = "[-]?[0-9]+(.[0-9]{0,2})?";
+    public static final String EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX = "[-]?[0-9]{1,15}([.][0-9]{0,2})?";
+
+    private static final long MAX_CENTS = 99_999_999_999_999_99L;
 
     public final String expensesAmount;
+    private final Money amount;
 
     /**
      * Constructs a {@code ExpensesAmount}.
@@ -24,6 +29,27 @@ public class ExpensesAmount {
         requireNonNull(expensesAmount);
         checkArgument(isValidExpensesAmount(expensesAmount), MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS);
         this.expensesAmount = expensesAmount;
+        // the point may end an expenses amount, as in "5.", which is not an amount of money by itself
+        amount = Money.parse(expensesAmount.endsWith(".")
+                ? expensesAmount.substring(0, expensesAmount.length() - 1)
+                : expensesAmount);
+    }
+
+    private ExpensesAmount(Money amount, String text) {
+        this.amount = amount;
+        this.expensesAmount = text;
+    }
+
+    /**
+     * Returns the expenses amount of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of expenses amount.
+     */
+    public static ExpensesAmount fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS);
+        return new ExpensesAmount(amount, amount.toString());
     }
 
     /**
@@ -33,6 +59,20 @@ public class ExpensesAmount {
         return test.matches(EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid expenses amount.
+     */
+    public static boolean isValidAmount(Money test) {
+        return Math.abs(test.getCents()) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the expenses amount as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return expensesAmount;
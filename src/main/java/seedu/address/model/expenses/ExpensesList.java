@@ -3,6 +3,7 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 
@@ -72,6 +73,21 @@ public class ExpensesList implements ReadOnlyExpensesList {
         multiExpenses.add(e);
     }
 
+    /**
+     * Adds an expenses to the expenses list at {@code index}, to put back an expenses removed from there.
+     * The expenses is still added in order of employee id, see {@link UniqueExpensesList#add(int, Expenses)}.
+     */
+    protected void addExpenses(int index, Expenses e) {
+        multiExpenses.add(index, e);
+    }
+
+    /**
+     * Returns the index of {@code e} in the expenses list, or -1 if it is not in the expenses list.
+     */
+    protected int indexOfExpenses(Expenses e) {
+        return multiExpenses.indexOf(e);
+    }
+
     /**
      * Replaces the given expenses {@code target} in the list with {@code editedExpenses}.
      * {@code target} must exist in the expenses list.
@@ -93,10 +109,10 @@ public class ExpensesList implements ReadOnlyExpensesList {
     }
 
     /**
-     * Sort Expenses within CHRS by employeeId
+     * Removes the expenses that match {@code predicate} from this {@code ExpensesList} and returns them.
      */
-    public void sortExpensesBy() {
-        multiExpenses.sortByEmployeeId();
+    public List<Expenses> removeExpensesIf(Predicate<? super Expenses> predicate) {
+        return multiExpenses.removeIf(predicate);
     }
 
 
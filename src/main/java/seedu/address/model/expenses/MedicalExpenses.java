@@ -3,6 +3,8 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Medical Expenses in the expenses list.
  * Guarantees: immutable; is valid as declared in {@link #isValidMedicalExpenses(String)}
@@ -12,9 +14,12 @@ public class MedicalExpenses {
     public static final String MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS =
             "Medical Expenses should only contain numbers, maximum of 6 whole numbers and 2 decimal points and "
                     + "minimum 1 digit long";
-    public static final String EMPLOYEE_MEDICAL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+(.[0-9]{1,2})?";
+    public static final String EMPLOYEE_MEDICAL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+([.][0-9]{1,2})?";
+
+    private static final long MAX_CENTS = 99_999_999L;
 
     public final String medicalExpenses;
+    private final Money amount;
 
     /**
      * Constructs a {@code ExpensesAmount}.
@@ -25,6 +30,24 @@ public class MedicalExpenses {
         requireNonNull(medicalExpenses);
         checkArgument(isValidMedicalExpenses(medicalExpenses), MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS);
         this.medicalExpenses = medicalExpenses;
+        amount = Money.parse(medicalExpenses);
+    }
+
+    private MedicalExpenses(Money amount, String text) {
+        this.amount = amount;
+        this.medicalExpenses = text;
+    }
+
+    /**
+     * Returns the medical expenses of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of medical expenses.
+     */
+    public static MedicalExpenses fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS);
+        return new MedicalExpenses(amount, amount.toString());
     }
 
     /**
@@ -34,6 +57,20 @@ public class MedicalExpenses {
         return test.matches(EMPLOYEE_MEDICAL_EXPENSES_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid medical expenses.
+     */
+    public static boolean isValidAmount(Money test) {
+        return Math.abs(test.getCents()) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the medical expenses as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return medicalExpenses;
@@ -3,6 +3,8 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Miscellaneous Expenses in the expenses list.
  * Guarantees: immutable; is valid as declared in {@link #isValidMiscellaneousExpenses(String)}
@@ -12,9 +14,12 @@ public class MiscellaneousExpenses {
     public static final String MESSAGE_MISCELLANEOUS_EXPENSES_CONSTRAINTS =
             "Miscellaneous Expenses should only contain numbers, maximum of 6 whole numbers and 2 decimal points and "
                     + "minimum 1 digit long";
-    public static final String EMPLOYEE_MISCELLANEOUS_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+(.[0-9]{1,2})?";
+    public static final String EMPLOYEE_MISCELLANEOUS_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+([.][0-9]{1,2})?";
+
+    private static final long MAX_CENTS = 99_999_999L;
 
     public final String miscellaneousExpenses;
+    private final Money amount;
 
     /**
      * Constructs a {@code ExpensesAmount}.
@@ -25,6 +30,24 @@ public class MiscellaneousExpenses {
         requireNonNull(miscellaneousExpenses);
         checkArgument(isValidMiscellaneousExpenses(miscellaneousExpenses), MESSAGE_MISCELLANEOUS_EXPENSES_CONSTRAINTS);
         this.miscellaneousExpenses = miscellaneousExpenses;
+        amount = Money.parse(miscellaneousExpenses);
+    }
+
+    private MiscellaneousExpenses(Money amount, String text) {
+        this.amount = amount;
+        this.miscellaneousExpenses = text;
+    }
+
+    /**
+     * Returns the miscellaneous expenses of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of miscellaneous expenses.
+     */
+    public static MiscellaneousExpenses fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_MISCELLANEOUS_EXPENSES_CONSTRAINTS);
+        return new MiscellaneousExpenses(amount, amount.toString());
     }
 
     /**
@@ -34,6 +57,20 @@ public class MiscellaneousExpenses {
         return test.matches(EMPLOYEE_MISCELLANEOUS_EXPENSES_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid miscellaneous expenses.
+     */
+    public static boolean isValidAmount(Money test) {
+        return Math.abs(test.getCents()) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the miscellaneous expenses as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return miscellaneousExpenses;
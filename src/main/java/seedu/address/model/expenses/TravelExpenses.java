@@ -3,6 +3,8 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Travel Expenses in the expenses list
  * Guarantees: immutable; is valid as declared in {@link #isValidTravelExpenses(String)}
@@ -12,9 +14,12 @@ public class TravelExpenses {
     public static final String MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS =
             "Travel Expenses should only contain numbers, maximum of 6 whole numbers and 2 decimal points and "
                     + "minimum 1 digit long";
-    public static final String EMPLOYEE_TRAVEL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+(.[0-9]{1,2})?";
+    public static final String EMPLOYEE_TRAVEL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+([.][0-9]{1,2})?";
+
+    private static final long MAX_CENTS = 99_999_999L;
 
     public final String travelExpenses;
+    private final Money amount;
 
     /**
      * Constructs a {@code TravelExpenses}.
@@ -25,6 +30,24 @@ public class TravelExpenses {
         requireNonNull(travelExpenses);
         checkArgument(isValidTravelExpenses(travelExpenses), MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS);
         this.travelExpenses = travelExpenses;
+        amount = Money.parse(travelExpenses);
+    }
+
+    private TravelExpenses(Money amount, String text) {
+        this.amount = amount;
+        this.travelExpenses = text;
+    }
+
+    /**
+     * Returns the travel expenses of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of travel expenses.
+     */
+    public static TravelExpenses fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS);
+        return new TravelExpenses(amount, amount.toString());
     }
 
     /**
@@ -34,6 +57,20 @@ public class TravelExpenses {
         return test.matches(EMPLOYEE_TRAVEL_EXPENSES_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid travel expenses.
+     */
+    public static boolean isValidAmount(Money test) {
+        return Math.abs(test.getCents()) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the travel expenses as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return travelExpenses;
@@ -1,12 +1,17 @@
 package seedu.address.model.expenses;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.indexOfSorted;
+import static seedu.address.commons.util.CollectionUtil.removeMatching;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,12 +25,18 @@ import seedu.address.model.expenses.exceptions.ExpensesNotFoundException;
  * expenses being added or updated is unique in terms of identity in the UniqueExpensesList. However, the removal of a
  * expenses usesExpenses#equals(Object) so as to ensure that the expenses with exactly the same fields will be removed.
  *
+ * The list is kept sorted by employee id in ascending order: each expenses is inserted at its place by binary search,
+ * so changes do not need the whole list to be sorted again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Expenses#isSameExpensesRequest(Expenses)
  */
 public class UniqueExpensesList implements Iterable<Expenses> {
 
+    private static final Comparator<Expenses> EMPLOYEE_ID_COMPARATOR =
+            Comparator.comparingInt(expenses -> expenses.getEmployeeId().intValue());
+
     private final ObservableList<Expenses> internalExpensesList = FXCollections.observableArrayList();
 
     /**
@@ -37,15 +48,32 @@ public class UniqueExpensesList implements Iterable<Expenses> {
     }
 
     /**
-     * Adds a expenses to the list.
+     * Returns the index of {@code expenses} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Expenses expenses) {
+        requireNonNull(expenses);
+        return indexOfSorted(internalExpensesList, expenses, EMPLOYEE_ID_COMPARATOR);
+    }
+
+    /**
+     * Adds an expenses to the list.
      * The expenses must not already exist in the list.
      */
     public void add(Expenses toAdd) {
+        add(internalExpensesList.size(), toAdd);
+    }
+
+    /**
+     * Adds an expenses to the list at {@code index} if the list stays sorted with it there,
+     * or else at its sorted place.
+     * The expenses must not already exist in the list.
+     */
+    public void add(int index, Expenses toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateExpensesException();
         }
-        internalExpensesList.add(toAdd);
+        addSorted(internalExpensesList, index, toAdd, EMPLOYEE_ID_COMPARATOR);
     }
 
     /**
@@ -56,7 +84,7 @@ public class UniqueExpensesList implements Iterable<Expenses> {
     public void setExpenses(Expenses target, Expenses editedExpenses) {
         requireAllNonNull(target, editedExpenses);
 
-        int index = internalExpensesList.indexOf(target);
+        int index = indexOfSorted(internalExpensesList, target, EMPLOYEE_ID_COMPARATOR);
         if (index == -1) {
             throw new ExpensesNotFoundException();
         }
@@ -65,7 +93,7 @@ public class UniqueExpensesList implements Iterable<Expenses> {
             throw new DuplicateExpensesException();
         }
 
-        internalExpensesList.set(index, editedExpenses);
+        setSorted(internalExpensesList, index, editedExpenses, EMPLOYEE_ID_COMPARATOR);
     }
 
     /**
@@ -74,9 +102,19 @@ public class UniqueExpensesList implements Iterable<Expenses> {
      */
     public void remove(Expenses toRemove) {
         requireNonNull(toRemove);
-        if (!internalExpensesList.remove(toRemove)) {
+        int index = indexOfSorted(internalExpensesList, toRemove, EMPLOYEE_ID_COMPARATOR);
+        if (index == -1) {
             throw new ExpensesNotFoundException();
         }
+        internalExpensesList.remove(index);
+    }
+
+    /**
+     * Removes the expenses that match {@code predicate} in a single pass and returns them.
+     */
+    public List<Expenses> removeIf(Predicate<? super Expenses> predicate) {
+        requireNonNull(predicate);
+        return removeMatching(internalExpensesList, predicate);
     }
 
     public void setMultiExpenses(UniqueExpensesList replacement) {
@@ -85,7 +123,7 @@ public class UniqueExpensesList implements Iterable<Expenses> {
     }
 
     /**
-     * Replaces the contents of this list with {@code multiExpenses}.
+     * Replaces the contents of this list with {@code multiExpenses}, sorted by employee id.
      * {@code multiExpenses} must not contain duplicate expenses.
      */
     public void setMultiExpenses(List<Expenses> multiExpenses) {
@@ -94,22 +132,9 @@ public class UniqueExpensesList implements Iterable<Expenses> {
             throw new DuplicateExpensesException();
         }
 
-        internalExpensesList.setAll(multiExpenses);
-    }
-
-    //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
-    /**
-     * Sorts ExpensesList by employeeId in ascending order
-     */
-    public void sortByEmployeeId() {
-        Comparator<Expenses> expensesComparator = new Comparator<Expenses>() {
-            @Override
-            public int compare(Expenses expensesA, Expenses expensesB) {
-                return expensesA.getEmployeeId().value.compareTo(expensesB.getEmployeeId().value);
-            }
-        };
-
-        Collections.sort(internalExpensesList, expensesComparator);
+        List<Expenses> sortedExpenses = new ArrayList<>(multiExpenses);
+        sortedExpenses.sort(EMPLOYEE_ID_COMPARATOR);
+        internalExpensesList.setAll(sortedExpenses);
     }
 
     /**
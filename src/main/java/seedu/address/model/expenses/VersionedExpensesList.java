@@ -2,70 +2,156 @@ package seedu.address.model.expenses;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.ChangeHistory.ChangeTarget;
+import seedu.address.model.ListChanges;
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code ExpensesList} that keeps track of its own history.
+ * Only the changes made between commits are kept, see {@link ChangeHistory}.
  */
 public class VersionedExpensesList extends ExpensesList {
-    private final List<ReadOnlyExpensesList> expensesStateList;
-    private int currentStatePointer;
+
+    private final ChangeHistory<Expenses> history;
+
+    /** Applies the changes of {@code history} to this expenses list without recording them again. */
+    private final ChangeTarget<Expenses> unrecordedExpensesList = new ChangeTarget<Expenses>() {
+        @Override
+        public void add(int index, Expenses element) {
+            VersionedExpensesList.super.addExpenses(index, element);
+        }
+
+        @Override
+        public void remove(Expenses element) {
+            VersionedExpensesList.super.removeExpenses(element);
+        }
+
+        @Override
+        public void update(Expenses target, Expenses edited) {
+            VersionedExpensesList.super.updateExpenses(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Expenses> elements) {
+            VersionedExpensesList.super.setMultiExpenses(elements);
+        }
+    };
 
     public VersionedExpensesList(ReadOnlyExpensesList initialState) {
-        super(initialState);
+        super();
+        history = new ChangeHistory<>();
+        super.setMultiExpenses(initialState.getExpensesRequestList());
+    }
+
+    @Override
+    public void setMultiExpenses(List<Expenses> multiExpenses) {
+        List<Expenses> oldMultiExpenses = new ArrayList<>(getExpensesRequestList());
+        super.setMultiExpenses(multiExpenses);
+        history.recordReset(oldMultiExpenses, new ArrayList<>(getExpensesRequestList()));
+    }
+
+    @Override
+    public void addExpenses(Expenses e) {
+        super.addExpenses(e);
+        history.recordAdd(e, indexOfExpenses(e));
+    }
+
+    @Override
+    public void updateExpenses(Expenses target, Expenses editedExpenses) {
+        super.updateExpenses(target, editedExpenses);
+        history.recordUpdate(target, editedExpenses);
+    }
 
-        expensesStateList = new ArrayList<>();
-        expensesStateList.add(new ExpensesList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void removeExpenses(Expenses key) {
+        int index = indexOfExpenses(key);
+        super.removeExpenses(key);
+        history.recordRemove(key, index);
+    }
+
+    @Override
+    public List<Expenses> removeExpensesIf(Predicate<? super Expenses> predicate) {
+        List<Expenses> elements = getExpensesRequestList();
+        List<Integer> removedIndexes = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            if (predicate.test(elements.get(i))) {
+                removedIndexes.add(i);
+            }
+        }
+
+        List<Expenses> removed = super.removeExpensesIf(predicate);
+        assert removed.size() == removedIndexes.size();
+        // recorded last first, so that undoing adds them back first to last, each at its index in the list
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            history.recordRemove(removed.get(i), removedIndexes.get(i));
+        }
+        return removed;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made to the current {@code ExpensesList} since the last commit as a new state.
+     * Undone states are removed.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        expensesStateList.add(new ExpensesList(this));
-        currentStatePointer++;
+        history.commit();
+    }
+
+    /**
+     * Returns the changes made to the expenses list since this was last called, including those undone or redone,
+     * as its next version.
+     */
+    public ListChanges<Expenses> takeChanges() {
+        return history.takeChanges();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        expensesStateList.subList(currentStatePointer + 1, expensesStateList.size()).clear();
+    /**
+     * Returns the number of changes made to the expenses list since the last commit.
+     */
+    public int getUncommittedChangeCount() {
+        return history.getUncommittedChangeCount();
+    }
+
+    /**
+     * Reverts the changes made to the expenses list since the last commit,
+     * except for the first {@code keptChangeCount} of them.
+     */
+    public void rollback(int keptChangeCount) {
+        history.rollback(unrecordedExpensesList, keptChangeCount);
     }
 
     /**
-     * Restores the address book to its previous state.
+     * Restores the expenses list to its previous state.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(expensesStateList.get(currentStatePointer));
+        history.undo(unrecordedExpensesList);
     }
 
     /**
-     * Restores the address book to its previously undone state.
+     * Restores the expenses list to its previously undone state.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(expensesStateList.get(currentStatePointer));
+        history.redo(unrecordedExpensesList);
     }
 
     /**
-     * Returns true if {@code undo()} has address book states to undo.
+     * Returns true if {@code undo()} has expenses list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
-     * Returns true if {@code redo()} has address book states to redo.
+     * Returns true if {@code redo()} has expenses list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < expensesStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -84,8 +170,7 @@ public class VersionedExpensesList extends ExpensesList {
 
         // state check
         return super.equals(otherVersionedExpensesList)
-                && expensesStateList.equals(otherVersionedExpensesList.expensesStateList)
-                && currentStatePointer == otherVersionedExpensesList.currentStatePointer;
+                && history.equals(otherVersionedExpensesList.history);
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Bonus in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBonus(String)}
@@ -13,7 +15,10 @@ public class Bonus {
                     + " and it should not be blank";
     public static final String BONUS_VALIDATION_REGEX = "(([0-9]{1,7}([.][0-9]{1,2})?)|(1[0-9]{7}([.][0-9]{1,2})?)"
             + "|(2[0-3]([0-9]{1,6})([.][0-9]{1,2})?))";
+    private static final long MAX_CENTS = 2_399_999_999L;
+
     public final String value;
+    private final Money amount;
 
     /**
      * Constructs a {@code bonus}.
@@ -25,6 +30,24 @@ public class Bonus {
         requireNonNull(bonus);
         checkArgument(isValidBonus(bonus), MESSAGE_BONUS_CONSTRAINTS);
         value = bonus;
+        amount = Money.parse(bonus);
+    }
+
+    private Bonus(Money amount, String text) {
+        this.amount = amount;
+        value = text;
+    }
+
+    /**
+     * Returns the bonus of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of bonus.
+     */
+    public static Bonus fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_BONUS_CONSTRAINTS);
+        return new Bonus(amount, amount.toString());
     }
 
     /**
@@ -34,6 +57,20 @@ public class Bonus {
         return test.matches(BONUS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid bonus.
+     */
+    public static boolean isValidAmount(Money test) {
+        return test.getCents() >= 0 && test.getCents() <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the bonus as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -15,8 +15,15 @@ public class DepartmentContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getDepartment().value.toLowerCase().contains(keyword.toLowerCase()));
+        return matches(person.getDepartment().value);
+    }
+
+    /**
+     * Returns true if {@code department} contains any of the keywords, ignoring case.
+     */
+    public boolean matches(String department) {
+        String lowerCaseDepartment = department.toLowerCase();
+        return keywords.stream().anyMatch(keyword -> lowerCaseDepartment.contains(keyword.toLowerCase()));
     }
 
     @Override
@@ -13,6 +13,7 @@ public class EmployeeId {
             "Employee Ids should only contain a 6 digit number, and it should not be blank";
     public static final String EMPLOYEEID_VALIDATION_REGEX = "[0-9]{6}";
     public final String value;
+    private final int number;
 
     /**
      * Constructs a {@code EmployeeId}.
@@ -24,6 +25,7 @@ public class EmployeeId {
         requireNonNull(employeeId);
         checkArgument(isValidEmployeeId(employeeId), MESSAGE_EMPLOYEEID_CONSTRAINTS);
         value = employeeId;
+        number = Integer.parseInt(employeeId);
     }
 
     /**
@@ -33,6 +35,13 @@ public class EmployeeId {
         return test.matches(EMPLOYEEID_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the employee id as a number from 0 to 999999.
+     */
+    public int intValue() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -42,7 +51,7 @@ public class EmployeeId {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EmployeeId // instanceof handles nulls
-                && value.equals(((EmployeeId) other).value)); // state check
+                && number == ((EmployeeId) other).number); // state check, ids have a fixed number of digits
     }
 
     @Override
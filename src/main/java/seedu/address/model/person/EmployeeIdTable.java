@@ -0,0 +1,208 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A table of persons keyed by the number of their employee id.
+ * Employee ids are six digits, so each one is a small int. The table is an open-addressing hash table over those ints
+ * with linear probing, so looking a person up allocates nothing and needs no string comparisons.
+ *
+ * Employee ids are not part of the person identity, so persons loaded from a data file may share one. Every person
+ * with a given employee id is kept, and the earliest added of them that is still in the table is the one returned.
+ * A slot normally holds its person directly; only an id with several persons holds an array of them, which is
+ * replaced rather than changed so that copies of the table can share it.
+ */
+class EmployeeIdTable {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    /** The person with the key in the same slot, or a {@code Person[]} if several persons share that key. */
+    private Object[] values;
+    private int size;
+
+    EmployeeIdTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the person with the employee id {@code employeeId}, or null if there is none.
+     */
+    Person get(EmployeeId employeeId) {
+        int slot = findSlot(employeeId.intValue());
+        if (keys[slot] == EMPTY) {
+            return null;
+        }
+        return values[slot] instanceof Person ? (Person) values[slot] : ((Person[]) values[slot])[0];
+    }
+
+    /**
+     * Returns true if there is a person with the employee id {@code employeeId}.
+     */
+    boolean containsKey(EmployeeId employeeId) {
+        return keys[findSlot(employeeId.intValue())] != EMPTY;
+    }
+
+    /**
+     * Adds {@code person} under its employee id, after any other persons with that employee id.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        int key = person.getEmployeeId().intValue();
+        int slot = findSlot(key);
+        if (keys[slot] != EMPTY) {
+            values[slot] = append(values[slot], person);
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = person;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under its employee id, if it is there.
+     * The other persons with that employee id are kept.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        int slot = findSlot(person.getEmployeeId().intValue());
+        if (keys[slot] == EMPTY) {
+            return;
+        }
+        if (values[slot] instanceof Person[]) {
+            values[slot] = without((Person[]) values[slot], person);
+        } else if (values[slot] == person) {
+            deleteSlot(slot);
+            size--;
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Replaces the entries of this table with those of {@code other}.
+     */
+    void copyFrom(EmployeeIdTable other) {
+        keys = other.keys.clone();
+        values = other.values.clone();
+        size = other.size;
+    }
+
+    /**
+     * Returns the value of a slot holding {@code value} with {@code person} added after its persons.
+     */
+    private static Object append(Object value, Person person) {
+        if (value instanceof Person) {
+            return new Person[] {(Person) value, person};
+        }
+        Person[] persons = (Person[]) value;
+        Person[] appended = Arrays.copyOf(persons, persons.length + 1);
+        appended[persons.length] = person;
+        return appended;
+    }
+
+    /**
+     * Returns the value of a slot holding {@code persons} with {@code person} removed from them.
+     * A single remaining person is held directly.
+     */
+    private static Object without(Person[] persons, Person person) {
+        int index = 0;
+        while (index < persons.length && persons[index] != person) {
+            index++;
+        }
+        if (index == persons.length) {
+            return persons;
+        }
+        if (persons.length == 2) {
+            return persons[1 - index];
+        }
+        Person[] remaining = new Person[persons.length - 1];
+        System.arraycopy(persons, 0, remaining, 0, index);
+        System.arraycopy(persons, index + 1, remaining, index, remaining.length - index);
+        return remaining;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it would be added.
+     */
+    private int findSlot(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot}, moving back any later entries of its probe run so that they can still be found.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // the entry at next can fill the hole unless its home slot lies cyclically in (hole, next]
+            boolean homeAfterHole = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!homeAfterHole) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+    }
+
+    /**
+     * Moves the entries into new arrays of {@code capacity} slots, which must be a power of two.
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldSize = size;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+        size = oldSize;
+    }
+
+    /**
+     * Replaces the entries with {@code capacity} empty slots.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    /**
+     * Spreads consecutive employee ids over the table.
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of persons by the trigrams (runs of three characters) of their lower-cased names.
+ * A name containing a keyword contains every trigram of the keyword, so the persons whose names contain a keyword are
+ * among the persons under its rarest trigram, and only those are checked. Names are indexed with a marker before their
+ * first character, so a prefix of a name is found as a keyword that starts with the marker.
+ *
+ * Names only hold letters and spaces, so each trigram is a small int and the persons under it are kept in an array.
+ * Other characters are all indexed as one symbol, which only adds persons to be checked.
+ */
+class NameTrigramIndex {
+
+    private static final int SPACE = 0;
+    private static final int OTHER = 27;
+    private static final int START = 28;
+    private static final int SYMBOLS = 29;
+
+    @SuppressWarnings("unchecked")
+    private Set<Person>[] personsByTrigram = new Set[SYMBOLS * SYMBOLS * SYMBOLS];
+    // indexed person -> lower-cased name, which the persons under a trigram are checked against
+    private final Map<Person, String> names = new IdentityHashMap<>();
+
+    /**
+     * Returns the persons whose names contain {@code keyword}, ignoring case.
+     */
+    Set<Person> findContaining(String keyword) {
+        return find(toSymbols(keyword, false), keyword.toLowerCase(Locale.ROOT), false);
+    }
+
+    /**
+     * Returns the persons whose names start with {@code prefix}, ignoring case.
+     */
+    Set<Person> findStartingWith(String prefix) {
+        return find(toSymbols(prefix, true), prefix.toLowerCase(Locale.ROOT), true);
+    }
+
+    /**
+     * Adds {@code person} under the trigrams of its name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        String name = person.getName().fullName.toLowerCase(Locale.ROOT);
+        names.put(person, name);
+        int[] symbols = toSymbols(name, true);
+        for (int i = 2; i < symbols.length; i++) {
+            int trigram = trigram(symbols, i);
+            if (personsByTrigram[trigram] == null) {
+                personsByTrigram[trigram] = newPersonSet();
+            }
+            personsByTrigram[trigram].add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under the trigrams of its name.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        String name = names.remove(person);
+        if (name == null) {
+            return;
+        }
+        int[] symbols = toSymbols(name, true);
+        for (int i = 2; i < symbols.length; i++) {
+            int trigram = trigram(symbols, i);
+            Set<Person> persons = personsByTrigram[trigram];
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByTrigram[trigram] = null;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    @SuppressWarnings("unchecked")
+    void clear() {
+        if (names.isEmpty()) {
+            return;
+        }
+        personsByTrigram = new Set[personsByTrigram.length];
+        names.clear();
+    }
+
+    /**
+     * Replaces the entries of this index with copies of those of {@code other}.
+     */
+    void copyFrom(NameTrigramIndex other) {
+        clear();
+        for (int trigram = 0; trigram < personsByTrigram.length; trigram++) {
+            if (other.personsByTrigram[trigram] != null) {
+                personsByTrigram[trigram] = newPersonSet();
+                personsByTrigram[trigram].addAll(other.personsByTrigram[trigram]);
+            }
+        }
+        names.putAll(other.names);
+    }
+
+    /**
+     * Returns the persons whose lower-cased names contain, or start with if {@code isPrefix}, {@code keyword}.
+     * {@code symbols} are the symbols of the keyword, after the start marker if {@code isPrefix}.
+     */
+    private Set<Person> find(int[] symbols, String keyword, boolean isPrefix) {
+        Set<Person> matchedPersons = newPersonSet();
+        if (symbols.length < 3) {
+            // too short to have a trigram, so every name is checked
+            names.forEach((person, name) -> {
+                if (isMatch(name, keyword, isPrefix)) {
+                    matchedPersons.add(person);
+                }
+            });
+            return matchedPersons;
+        }
+
+        Set<Person> candidates = null;
+        for (int i = 2; i < symbols.length; i++) {
+            Set<Person> persons = personsByTrigram[trigram(symbols, i)];
+            if (persons == null) {
+                return matchedPersons;
+            }
+            if (candidates == null || persons.size() < candidates.size()) {
+                candidates = persons;
+            }
+        }
+        for (Person candidate : candidates) {
+            if (isMatch(names.get(candidate), keyword, isPrefix)) {
+                matchedPersons.add(candidate);
+            }
+        }
+        return matchedPersons;
+    }
+
+    private static boolean isMatch(String name, String keyword, boolean isPrefix) {
+        return isPrefix ? name.startsWith(keyword) : name.contains(keyword);
+    }
+
+    /**
+     * Returns the symbols of the characters of {@code text}, after the start marker if {@code withStart}.
+     */
+    private static int[] toSymbols(String text, boolean withStart) {
+        int offset = withStart ? 1 : 0;
+        int[] symbols = new int[text.length() + offset];
+        if (withStart) {
+            symbols[0] = START;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            symbols[i + offset] = toSymbol(text.charAt(i));
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns the symbol of {@code c}: a space, a letter ignoring case, or any other character.
+     */
+    private static int toSymbol(char c) {
+        if (c == ' ') {
+            return SPACE;
+        }
+        char lowerCase = Character.toLowerCase(c);
+        return lowerCase >= 'a' && lowerCase <= 'z' ? lowerCase - 'a' + 1 : OTHER;
+    }
+
+    /**
+     * Returns the trigram of the three symbols ending at {@code end}.
+     */
+    private static int trigram(int[] symbols, int end) {
+        return (symbols[end - 2] * SYMBOLS + symbols[end - 1]) * SYMBOLS + symbols[end];
+    }
+
+    /**
+     * Returns an empty set of persons compared by identity, as the indexed persons are the ones in the list.
+     */
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
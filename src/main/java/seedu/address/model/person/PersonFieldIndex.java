@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index of persons by the upper-cased value of one of their fields, such as their department.
+ * Each distinct value is a key of the index, mapped to the persons having that value, so the distinct values and the
+ * persons with a given value are read without going through the whole list. Keys are kept in alphabetical order.
+ */
+class PersonFieldIndex {
+
+    private final Function<Person, String> field;
+    private final Map<String, Set<Person>> personsByKey = new TreeMap<>();
+    private final Set<String> keys = Collections.unmodifiableSet(personsByKey.keySet());
+
+    /**
+     * Creates an empty index of persons by the value {@code field} returns for them.
+     */
+    PersonFieldIndex(Function<Person, String> field) {
+        this.field = requireNonNull(field);
+    }
+
+    /**
+     * Returns the distinct upper-cased values of the indexed persons, as an unmodifiable live view.
+     */
+    Set<String> keySet() {
+        return keys;
+    }
+
+    /**
+     * Returns the persons whose value is {@code value}, ignoring case, as an unmodifiable live view.
+     */
+    Set<Person> get(String value) {
+        Set<Person> persons = personsByKey.get(toKey(value));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Adds {@code person} under its value.
+     */
+    void add(Person person) {
+        personsByKey.computeIfAbsent(toKey(field.apply(person)), unused -> newPersonSet()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under its value, dropping the value once no person has it.
+     */
+    void remove(Person person) {
+        String key = toKey(field.apply(person));
+        Set<Person> persons = personsByKey.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Replaces the entries of this index with copies of those of {@code other}.
+     */
+    void copyFrom(PersonFieldIndex other) {
+        personsByKey.clear();
+        other.personsByKey.forEach((key, persons) -> {
+            Set<Person> copy = newPersonSet();
+            copy.addAll(persons);
+            personsByKey.put(key, copy);
+        });
+    }
+
+    /**
+     * Returns the index key of {@code value}.
+     */
+    private static String toKey(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns an empty set of persons compared by identity, as the indexed persons are the ones in the list.
+     */
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
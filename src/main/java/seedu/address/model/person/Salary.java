@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Money;
+
 /**
  * Represents a Person's Salary in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSalary(String)}
@@ -11,8 +13,12 @@ public class Salary {
     public static final String MESSAGE_SALARY_CONSTRAINTS =
             "Salary should only contain numbers, and it should not be blank. Only a maximum of 6 whole numbers and "
                     + "2 decimal place are allowed. (Max Salary store value is 999999.99)\n";
+    public static final String PERCENTAGE_SIGN = "%";
     public static final String SALARY_VALIDATION_REGEX = "[%]?[-]?[0-9]{1,6}([.][0-9]{1,2})?";
+    private static final long MAX_CENTS = 99_999_999L;
+
     public final String value;
+    private final Money amount;
 
     /**
      * Constructs a {@code salary}.
@@ -24,6 +30,24 @@ public class Salary {
         requireNonNull(salary);
         checkArgument(isValidSalary(salary), MESSAGE_SALARY_CONSTRAINTS);
         value = salary;
+        amount = Money.parse(salary.startsWith(PERCENTAGE_SIGN) ? salary.substring(1) : salary);
+    }
+
+    private Salary(Money amount, String text) {
+        this.amount = amount;
+        value = text;
+    }
+
+    /**
+     * Returns the salary of the given amount of money, such as the result of a calculation,
+     * written with two decimal places.
+     *
+     * @param amount A valid amount of salary.
+     */
+    public static Salary fromAmount(Money amount) {
+        requireNonNull(amount);
+        checkArgument(isValidAmount(amount), MESSAGE_SALARY_CONSTRAINTS);
+        return new Salary(amount, amount.toString());
     }
 
     /**
@@ -33,6 +57,27 @@ public class Salary {
         return test.matches(SALARY_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given amount of money is a valid salary.
+     */
+    public static boolean isValidAmount(Money test) {
+        return Math.abs(test.getCents()) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the salary as an amount of money.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns true if this salary is a percentage, such as "%10" in a pay modification, rather than an amount.
+     */
+    public boolean isPercentage() {
+        return value.startsWith(PERCENTAGE_SIGN);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,16 +1,23 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.indexOfSorted;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -21,20 +28,44 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The list is kept sorted by name in ascending order (see {@link #NAME_COMPARATOR}): each person is inserted at its
+ * place by binary search, so changes do not need the whole list to be sorted again.
+ *
+ * Every person is also indexed by employee id (see {@link EmployeeIdTable}) and by each of the identity fields
+ * checked in {@code Person#isSamePerson(Person)}, so that duplicate checks do not need to scan the whole list.
+ * Persons are further indexed by department and by position (see {@link PersonFieldIndex}), which gives the distinct
+ * departments and positions in the list and the persons in each of them. Names are indexed by their trigrams
+ * (see {@link NameTrigramIndex}), so the persons whose names contain a keyword are found without checking every name.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** Orders persons by name, ignoring case. */
+    public static final Comparator<Person> NAME_COMPARATOR = (personA, personB) ->
+            personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
 
+    // Indexes over internalList, updated together with it
+    private final EmployeeIdTable employeeIdIndex = new EmployeeIdTable();
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    private final Map<String, Person> nameAndDateOfBirthIndex = new HashMap<>();
+    private final PersonFieldIndex departmentIndex = new PersonFieldIndex(person -> person.getDepartment().value);
+    private final PersonFieldIndex positionIndex = new PersonFieldIndex(person -> person.getPosition().value);
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        Person samePerson = findSamePerson(toCheck);
+        // isSamePerson is still called as it records which field is duplicated for AddCommand and EditCommand
+        return samePerson != null && toCheck.isSamePerson(samePerson);
     }
 
     /**
@@ -52,20 +83,103 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsEmployeeId(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployeeId);
+        return toCheck.getEmployeeId() != null && employeeIdIndex.containsKey(toCheck.getEmployeeId());
+    }
+
+    /**
+     * Returns true if the list contains a person with the employee id {@code employeeId}.
+     */
+    public boolean containsEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return employeeIdIndex.containsKey(employeeId);
+    }
+
+    /**
+     * Returns the person in the list with the employee id {@code employeeId}.
+     * The person must exist in the list.
+     */
+    public Person getPerson(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Person person = employeeIdIndex.get(employeeId);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
+    }
+
+    /**
+     * Returns the distinct departments of the persons in the list, upper-cased and in alphabetical order.
+     */
+    public Set<String> getDepartments() {
+        return departmentIndex.keySet();
+    }
+
+    /**
+     * Returns the persons in the list whose department is {@code department}, ignoring case.
+     */
+    public Set<Person> getPersonsInDepartment(String department) {
+        requireNonNull(department);
+        return departmentIndex.get(department);
+    }
+
+    /**
+     * Returns the distinct positions of the persons in the list, upper-cased and in alphabetical order.
+     */
+    public Set<String> getPositions() {
+        return positionIndex.keySet();
+    }
+
+    /**
+     * Returns the persons in the list whose position is {@code position}, ignoring case.
+     */
+    public Set<Person> getPersonsInPosition(String position) {
+        requireNonNull(position);
+        return positionIndex.get(position);
+    }
+
+    /**
+     * Returns the persons in the list whose names contain {@code keyword}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return nameIndex.findContaining(keyword);
+    }
+
+    /**
+     * Returns the persons in the list whose names start with {@code prefix}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameStartingWith(String prefix) {
+        requireNonNull(prefix);
+        return nameIndex.findStartingWith(prefix);
     }
 
+    /**
+     * Returns the index of {@code person} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return indexOfSorted(internalList, person, NAME_COMPARATOR);
+    }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index} if the list stays sorted with it there, or else at its sorted place.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        addSorted(internalList, index, toAdd, NAME_COMPARATOR);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -76,16 +190,19 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfSorted(internalList, target, NAME_COMPARATOR);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person targetInList = internalList.get(index);
+        if (hasOtherSamePerson(editedPerson, targetInList)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        setSorted(internalList, index, editedPerson, NAME_COMPARATOR);
+        removeFromIndexes(targetInList);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -94,18 +211,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOfSorted(internalList, toRemove, NAME_COMPARATOR);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        removeFromIndexes(internalList.remove(index));
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        copyIndexes(replacement);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, sorted by name.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
@@ -114,32 +238,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
-    }
-
-    //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
-    /**
-     * Sorts PersonList by name in either ascending or descending order.
-     * @param order The sort order input by the user (either ascending or descending)
-     */
-    public void sortByName(String order) {
-        Comparator <Person> nameComparator = new Comparator<Person>() {
-            @Override
-            public int compare(Person personA, Person personB) {
-                return personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
-            }
-        };
-
-        switch (order) {
-        case FilterCommand.ASCENDING:
-            Collections.sort(internalList, nameComparator);
-            break;
-        case FilterCommand.DESCENDING:
-            Collections.sort(internalList, Collections.reverseOrder(nameComparator));
-            break;
-        default:
-            throw new AssertionError("Invalid parameter for order entered");
-        }
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(NAME_COMPARATOR);
+        internalList.setAll(sortedPersons);
+        rebuildIndexes();
     }
 
     /**
@@ -169,14 +271,121 @@ public class UniquePersonList implements Iterable<Person> {
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static boolean personsAreUnique(List<Person> persons) {
+        Set<String> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<String> namesAndDatesOfBirth = new HashSet<>();
+        for (Person person : persons) {
+            if (!emails.add(emailKey(person)) || !phones.add(person.getPhone())
+                    || !namesAndDatesOfBirth.add(nameAndDateOfBirthKey(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns a person in the list with the same email, phone or name and date of birth as {@code toCheck},
+     * or null if there is none.
+     */
+    private Person findSamePerson(Person toCheck) {
+        Person samePerson = emailIndex.get(emailKey(toCheck));
+        if (samePerson == null) {
+            samePerson = phoneIndex.get(toCheck.getPhone());
+        }
+        if (samePerson == null) {
+            samePerson = nameAndDateOfBirthIndex.get(nameAndDateOfBirthKey(toCheck));
+        }
+        return samePerson;
+    }
+
+    /**
+     * Returns true if a person other than {@code ignored} has the same email, phone or
+     * name and date of birth as {@code toCheck}.
+     */
+    private boolean hasOtherSamePerson(Person toCheck, Person ignored) {
+        return isOtherPerson(emailIndex.get(emailKey(toCheck)), ignored)
+                || isOtherPerson(phoneIndex.get(toCheck.getPhone()), ignored)
+                || isOtherPerson(nameAndDateOfBirthIndex.get(nameAndDateOfBirthKey(toCheck)), ignored);
+    }
+
+    private static boolean isOtherPerson(Person person, Person ignored) {
+        return person != null && person != ignored;
+    }
+
+    /**
+     * Adds {@code person} to the indexes.
+     */
+    private void addToIndexes(Person person) {
+        if (person.getEmployeeId() != null) {
+            employeeIdIndex.put(person);
+        }
+        emailIndex.put(emailKey(person), person);
+        phoneIndex.put(person.getPhone(), person);
+        nameAndDateOfBirthIndex.put(nameAndDateOfBirthKey(person), person);
+        departmentIndex.add(person);
+        positionIndex.add(person);
+        nameIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        if (person.getEmployeeId() != null) {
+            employeeIdIndex.remove(person);
+        }
+        emailIndex.remove(emailKey(person), person);
+        phoneIndex.remove(person.getPhone(), person);
+        nameAndDateOfBirthIndex.remove(nameAndDateOfBirthKey(person), person);
+        departmentIndex.remove(person);
+        positionIndex.remove(person);
+        nameIndex.remove(person);
+    }
+
+    /**
+     * Rebuilds the indexes from the contents of {@code internalList}.
+     */
+    private void rebuildIndexes() {
+        employeeIdIndex.clear();
+        emailIndex.clear();
+        phoneIndex.clear();
+        nameAndDateOfBirthIndex.clear();
+        departmentIndex.clear();
+        positionIndex.clear();
+        nameIndex.clear();
+        internalList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Replaces the indexes with copies of the indexes of {@code other}.
+     */
+    private void copyIndexes(UniquePersonList other) {
+        employeeIdIndex.copyFrom(other.employeeIdIndex);
+        emailIndex.clear();
+        emailIndex.putAll(other.emailIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(other.phoneIndex);
+        nameAndDateOfBirthIndex.clear();
+        nameAndDateOfBirthIndex.putAll(other.nameAndDateOfBirthIndex);
+        departmentIndex.copyFrom(other.departmentIndex);
+        positionIndex.copyFrom(other.positionIndex);
+        nameIndex.copyFrom(other.nameIndex);
+    }
+
+    /**
+     * Returns the index key of the person's email.
+     * Emails are compared ignoring case, so the key is lower-cased.
+     */
+    private static String emailKey(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the index key of the person's name and date of birth.
+     * Names are compared ignoring case, so the name part of the key is lower-cased.
+     */
+    private static String nameAndDateOfBirthKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT) + "/" + person.getDateOfBirth().value;
+    }
 }
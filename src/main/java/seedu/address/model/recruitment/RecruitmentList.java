@@ -72,6 +72,20 @@ public class RecruitmentList implements ReadOnlyRecruitmentList {
         recruitments.add(recruitment);
     }
 
+    /**
+     * Adds a recruitment to the recruitment list at {@code index}, to put back a recruitment removed from there.
+     */
+    protected void addRecruitment(int index, Recruitment recruitment) {
+        recruitments.add(index, recruitment);
+    }
+
+    /**
+     * Returns the index of {@code recruitment} in the recruitment list, or -1 if it is not in the list.
+     */
+    protected int indexOfRecruitment(Recruitment recruitment) {
+        return recruitments.indexOf(recruitment);
+    }
+
     /**
      * Replaces the given recruitmentPost {@code target} in the recruitmentList with {@code editedRecruitment}.
      * {@code target} must exist in the address book.
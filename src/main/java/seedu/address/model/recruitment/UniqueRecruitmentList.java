@@ -39,15 +39,31 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
     }
 
     /**
-     * Adds a recruitmentPost to the list.
+     * Returns the index of {@code recruitment} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Recruitment recruitment) {
+        requireNonNull(recruitment);
+        return internalList.indexOf(recruitment);
+    }
+
+    /**
+     * Adds a recruitmentPost to the end of the list.
      * The recruitmentPost must not already exist in the list.
      */
     public void add(Recruitment toAddRecruitment) {
+        add(internalList.size(), toAddRecruitment);
+    }
+
+    /**
+     * Adds a recruitmentPost to the list at {@code index}.
+     * The recruitmentPost must not already exist in the list.
+     */
+    public void add(int index, Recruitment toAddRecruitment) {
         requireNonNull(toAddRecruitment);
         if (contains(toAddRecruitment)) {
             throw new DuplicateRecruitmentException();
         }
-        internalList.add(toAddRecruitment);
+        internalList.add(index, toAddRecruitment);
     }
 
     /**
@@ -3,70 +3,135 @@ package seedu.address.model.recruitment;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.ChangeHistory.ChangeTarget;
+import seedu.address.model.ListChanges;
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code RecruitmentList} that keeps track of its own history.
+ * Only the changes made between commits are kept, see {@link ChangeHistory}.
  */
 public class VersionedRecruitmentList extends RecruitmentList {
 
-    private final List<ReadOnlyRecruitmentList> recruitmentListStateList;
-    private int currentStatePointer;
+    private final ChangeHistory<Recruitment> history;
+
+    /** Applies the changes of {@code history} to this recruitment list without recording them again. */
+    private final ChangeTarget<Recruitment> unrecordedRecruitmentList = new ChangeTarget<Recruitment>() {
+        @Override
+        public void add(int index, Recruitment element) {
+            VersionedRecruitmentList.super.addRecruitment(index, element);
+        }
+
+        @Override
+        public void remove(Recruitment element) {
+            VersionedRecruitmentList.super.removeRecruitment(element);
+        }
+
+        @Override
+        public void update(Recruitment target, Recruitment edited) {
+            VersionedRecruitmentList.super.updateRecruitment(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Recruitment> elements) {
+            VersionedRecruitmentList.super.setRecruitments(elements);
+        }
+    };
 
     public VersionedRecruitmentList(ReadOnlyRecruitmentList initialState) {
-        super(initialState);
+        super();
+        history = new ChangeHistory<>();
+        super.setRecruitments(initialState.getRecruitmentList());
+    }
 
-        recruitmentListStateList = new ArrayList<>();
-        recruitmentListStateList.add(new RecruitmentList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setRecruitments(List<Recruitment> recruitments) {
+        List<Recruitment> oldRecruitments = new ArrayList<>(getRecruitmentList());
+        super.setRecruitments(recruitments);
+        history.recordReset(oldRecruitments, new ArrayList<>(getRecruitmentList()));
+    }
+
+    @Override
+    public void addRecruitment(Recruitment recruitment) {
+        super.addRecruitment(recruitment);
+        history.recordAdd(recruitment, indexOfRecruitment(recruitment));
+    }
+
+    @Override
+    public void updateRecruitment(Recruitment target, Recruitment editedRecruitment) {
+        super.updateRecruitment(target, editedRecruitment);
+        history.recordUpdate(target, editedRecruitment);
+    }
+
+    @Override
+    public void removeRecruitment(Recruitment key) {
+        int index = indexOfRecruitment(key);
+        super.removeRecruitment(key);
+        history.recordRemove(key, index);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made to the current {@code RecruitmentList} since the last commit as a new state.
+     * Undone states are removed.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        recruitmentListStateList.add(new RecruitmentList(this));
-        currentStatePointer++;
+        history.commit();
+    }
+
+    /**
+     * Returns the changes made to the recruitment list since this was last called, including those undone or redone,
+     * as its next version.
+     */
+    public ListChanges<Recruitment> takeChanges() {
+        return history.takeChanges();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        recruitmentListStateList.subList(currentStatePointer + 1, recruitmentListStateList.size()).clear();
+    /**
+     * Returns the number of changes made to the recruitment list since the last commit.
+     */
+    public int getUncommittedChangeCount() {
+        return history.getUncommittedChangeCount();
+    }
+
+    /**
+     * Reverts the changes made to the recruitment list since the last commit,
+     * except for the first {@code keptChangeCount} of them.
+     */
+    public void rollback(int keptChangeCount) {
+        history.rollback(unrecordedRecruitmentList, keptChangeCount);
     }
 
     /**
-     * Restores the address book to its previous state.
+     * Restores the recruitment list to its previous state.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(recruitmentListStateList.get(currentStatePointer));
+        history.undo(unrecordedRecruitmentList);
     }
 
     /**
-     * Restores the address book to its previously undone state.
+     * Restores the recruitment list to its previously undone state.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(recruitmentListStateList.get(currentStatePointer));
+        history.redo(unrecordedRecruitmentList);
     }
 
     /**
-     * Returns true if {@code undo()} has address book states to undo.
+     * Returns true if {@code undo()} has recruitment list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
-     * Returns true if {@code redo()} has address book states to redo.
+     * Returns true if {@code redo()} has recruitment list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < recruitmentListStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +150,7 @@ public class VersionedRecruitmentList extends RecruitmentList {
 
         // state check
         return super.equals(otherVersionedRecruitmentList)
-                && recruitmentListStateList.equals(otherVersionedRecruitmentList.recruitmentListStateList)
-                && currentStatePointer == otherVersionedRecruitmentList.currentStatePointer;
+                && history.equals(otherVersionedRecruitmentList.history);
     }
 
     /**
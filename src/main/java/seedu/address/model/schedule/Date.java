@@ -9,6 +9,9 @@ import java.time.format.DateTimeFormatter;
 /**
  * Represents a Schedule's date in the Schedule list.
  * Guarantees: immutable; is valid as declared in {@link #Date(String)}
+ *
+ * The date is held as its epoch day, so ordering and equality are integer comparisons. Its DD/MM/YYYY text is
+ * parsed by hand in a single pass, and is only produced again when the date is displayed or stored.
  */
 public class Date {
     public static final String DATE_PATTERN = "dd/MM/yyyy";
@@ -31,9 +34,23 @@ public class Date {
     private static final String MESSAGE_DATE_INVALID_MONTH_DATE =
             "april, june, sep, nov does not have 31 days";
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    private static final int MIN_YEAR = 2000;
+    private static final int MAX_YEAR = 2099;
+    private static final int INVALID_DATE = -1;
+    private static final int YEAR_SHIFT = 10;
+    private static final int MONTH_SHIFT = 5;
+    private static final int FIELD_MASK = 0x1F;
+    private static final int MIN_EPOCH_DAY = toEpochDay(MIN_YEAR, 1, 1);
+    private static final int MAX_EPOCH_DAY = toEpochDay(MAX_YEAR, 12, 31);
+
     private static String dateConstraintsError = MESSAGE_DATE_CONSTRAINTS_DEFAULT;
 
-    public final String value;
+    private final int epochDay;
+    private final int year;
+    private final int month;
+    private final int day;
 
     /**
      * Constructs a {@code date}.
@@ -42,9 +59,29 @@ public class Date {
 
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidScheduleDate(date), dateConstraintsError);
-        date = formatDate(date);
-        value = date;
+        int packedDate = parseDate(date);
+        checkArgument(packedDate != INVALID_DATE, dateConstraintsError);
+        year = packedDate >>> YEAR_SHIFT;
+        month = (packedDate >>> MONTH_SHIFT) & FIELD_MASK;
+        day = packedDate & FIELD_MASK;
+        epochDay = toEpochDay(year, month, day);
+    }
+
+    private Date(int epochDay, int year, int month, int day) {
+        this.epochDay = epochDay;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+    }
+
+    /**
+     * Returns the date {@code epochDay} days from the epoch 01/01/1970.
+     * @throws IllegalArgumentException if the date is not within 01/01/2000 to 31/12/2099.
+     */
+    public static Date ofEpochDay(int epochDay) {
+        checkArgument(epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY, MESSAGE_DATE_CONSTRAINTS_DEFAULT);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return new Date(epochDay, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
     }
 
     public static void setDateConstraintsError(String error) {
@@ -61,12 +98,18 @@ public class Date {
      * @return Boolean, true if input date is before today's date.
      */
     public static boolean isBeforeTodayDate (String inputDate) {
-        inputDate = formatDate(inputDate);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        LocalDate todayDate = LocalDate.now();
-        LocalDate toLocalInputDate = LocalDate.parse(inputDate, formatter);
-        if (toLocalInputDate.isBefore(todayDate)) {
-            dateConstraintsError = String.format(MESSAGE_DATE_OF_SCHEDULE_BEFORE_TODAY_DATE, inputDate, todayDate());
+        return new Date(inputDate).isBeforeToday();
+    }
+
+    /**
+     * Checks whether this date has past.
+     * @return Boolean, true if this date is before today's date.
+     */
+    public boolean isBeforeToday() {
+        LocalDate today = LocalDate.now();
+        if (epochDay < today.toEpochDay()) {
+            dateConstraintsError = String.format(MESSAGE_DATE_OF_SCHEDULE_BEFORE_TODAY_DATE, this,
+                    DATE_FORMATTER.format(today));
             return true;
         }
         return false;
@@ -77,8 +120,7 @@ public class Date {
      * @return String, today's date.
      */
     public static String todayDate () {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        return formatter.format(LocalDate.now());
+        return DATE_FORMATTER.format(LocalDate.now());
     }
 
     /**
@@ -87,66 +129,84 @@ public class Date {
      * @return String, date padded with 0's if necessary for day and month.
      */
     public static String formatDate (String inputDate) {
-        String day;
-        String month;
-        String year;
-
-        String[] date = inputDate.split("/");
-
-        day = String.format("%02d", Integer.parseInt(date[0]));
-        month = String.format("%02d", Integer.parseInt(date[1]));
-        year = date[2];
-
-        return String.format(day + "/" + month + "/" + year);
+        return new Date(inputDate).toString();
     }
 
     /**
      * Returns true if a given string is a valid date found in calendar, and not before today's date
      * @param inputDate date to be checked if valid for scheduling.
-     * @return Boolean, true if it passes the regular expression and {@code checkValidDate()} checks.
+     * @return Boolean, true if it is in the format of {@link #DATE_VALIDATION_REGEX} and is a date on the calendar.
      */
     public static boolean isValidScheduleDate(String inputDate) {
-        String day;
-        String month;
-        String year;
-
-        if (inputDate.matches(DATE_VALIDATION_REGEX)) {
-            inputDate = formatDate(inputDate);
-            String[] date = inputDate.split("/");
-
-            day = date[0];
-            month = date[1];
-            year = date[2];
-            return checkValidDate(year, month, day);
+        requireNonNull(inputDate);
+        return parseDate(inputDate) != INVALID_DATE;
+    }
+
+    /**
+     * Returns the year, month and day of {@code inputDate} packed into an int, or {@code INVALID_DATE} if it is not
+     * a valid date, in which case the date constraints error is set to the reason.
+     * The date is read in a single pass with the same rules as {@link #DATE_VALIDATION_REGEX}: a day and a month
+     * of one or two digits, and a four digit year starting with 20.
+     */
+    private static int parseDate(String inputDate) {
+        int length = inputDate.length();
+        int i = 0;
+
+        int day = 0;
+        int dayDigits = 0;
+        while (i < length && dayDigits < 3 && isDigit(inputDate.charAt(i))) {
+            day = day * 10 + (inputDate.charAt(i++) - '0');
+            dayDigits++;
         }
-        setDateConstraintsError(MESSAGE_DATE_CONSTRAINTS_DEFAULT);
-        return false;
+        if (dayDigits == 0 || dayDigits > 2 || i == length || inputDate.charAt(i++) != '/') {
+            return invalidDate(MESSAGE_DATE_CONSTRAINTS_DEFAULT);
+        }
+
+        int month = 0;
+        int monthDigits = 0;
+        while (i < length && monthDigits < 3 && isDigit(inputDate.charAt(i))) {
+            month = month * 10 + (inputDate.charAt(i++) - '0');
+            monthDigits++;
+        }
+        if (monthDigits == 0 || monthDigits > 2 || i == length || inputDate.charAt(i++) != '/') {
+            return invalidDate(MESSAGE_DATE_CONSTRAINTS_DEFAULT);
+        }
+
+        if (length - i != 4) {
+            return invalidDate(MESSAGE_DATE_CONSTRAINTS_DEFAULT);
+        }
+        int year = 0;
+        while (i < length && isDigit(inputDate.charAt(i))) {
+            year = year * 10 + (inputDate.charAt(i++) - '0');
+        }
+        if (i != length || year < MIN_YEAR || year > MAX_YEAR || day < 1 || day > 31 || month < 1 || month > 12) {
+            return invalidDate(MESSAGE_DATE_CONSTRAINTS_DEFAULT);
+        }
+
+        if (!checkValidDate(year, month, day)) {
+            return INVALID_DATE;
+        }
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
     }
 
     /**
      * Check if date is a valid date on the Calendar.
      * @param year year to check
-     * @param month month to check
-     * @param day day to check
+     * @param month month to check, from 1 to 12
+     * @param day day to check, from 1 to 31
      */
-    public static boolean checkValidDate (String year, String month, String day) {
-        boolean isLeapYear = ((Integer.valueOf(year) % 4 == 0)
-                && (Integer.valueOf(year) % 100 != 0) || (Integer.valueOf(year) % 400 == 0));
-
-        if (("02".equals(month)) || ("2".equals(month))) {
-            if ((isLeapYear) && ((
-                    "30".equals(day)) || ("31".equals(day)))) {
+    private static boolean checkValidDate (int year, int month, int day) {
+        if (month == 2) {
+            if (isLeapYear(year) && day > 29) {
                 setDateConstraintsError(MESSAGE_DATE_INVALID_FEB_DATE_LEAP_YEAR + year);
                 return false; //29 Feb is a valid leap year. 30, 31 is invalid.
-            } else if ((!isLeapYear) && (("29".equals(day)) || ("30".equals(day)) || ("31".equals(day)))) {
+            } else if (!isLeapYear(year) && day > 28) {
                 setDateConstraintsError(MESSAGE_DATE_INVALID_FEB_DATE + year);
                 return false; //29,30,31 Feb is a invalid in non-leap year
             }
         }
 
-        if (("31".equals(day)) && ((
-                "04".equals(month)) || ("4".equals(month)) || ("06".equals(month)) || ("6".equals(month))
-                || ("09".equals(month)) || ("9".equals(month)) || ("11".equals(month)))) {
+        if (day == 31 && (month == 4 || month == 6 || month == 9 || month == 11)) {
             setDateConstraintsError(MESSAGE_DATE_INVALID_MONTH_DATE);
             return false; // april, june, sep, nov does not have 31 days
         }
@@ -154,21 +214,90 @@ public class Date {
         return true;
     }
 
+    /**
+     * Sets the date constraints error to {@code error} and returns {@code INVALID_DATE}.
+     */
+    private static int invalidDate(String error) {
+        setDateConstraintsError(error);
+        return INVALID_DATE;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns the number of days from the epoch 01/01/1970 to the given valid date.
+     */
+    private static int toEpochDay(int year, int month, int day) {
+        // days before the year, counting leap days, followed by days before the month and day of the month
+        int daysBeforeYear = 365 * (year - 1970) + (year - 1969) / 4 - (year - 1901) / 100 + (year - 1601) / 400;
+        int daysBeforeMonth = (367 * month - 362) / 12;
+        if (month > 2) {
+            daysBeforeMonth -= isLeapYear(year) ? 1 : 2;
+        }
+        return daysBeforeYear + daysBeforeMonth + day - 1;
+    }
+
+    /**
+     * Returns the number of days from the epoch 01/01/1970 to this date.
+     */
+    public int toEpochDay() {
+        return epochDay;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    /**
+     * Returns the day of the year of this date, from 1 to 366.
+     */
+    public int getDayOfYear() {
+        return epochDay - toEpochDay(year, 1, 1) + 1;
+    }
+
+    /**
+     * Returns the date in the format of DD/MM/YYYY, with leading 0's for day and month.
+     */
     @Override
     public String toString() {
-        return value;
+        char[] text = new char[10];
+        text[0] = (char) ('0' + day / 10);
+        text[1] = (char) ('0' + day % 10);
+        text[2] = '/';
+        text[3] = (char) ('0' + month / 10);
+        text[4] = (char) ('0' + month % 10);
+        text[5] = '/';
+        text[6] = (char) ('0' + year / 1000);
+        text[7] = (char) ('0' + year / 100 % 10);
+        text[8] = (char) ('0' + year / 10 % 10);
+        text[9] = (char) ('0' + year % 10);
+        return new String(text);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Date // instanceof handles nulls
-                && value.equals(((Date) other).value)); // state check
+                && epochDay == ((Date) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
     }
 
 }
@@ -1,10 +1,5 @@
 package seedu.address.model.schedule;
 
-import static seedu.address.model.schedule.Date.DATE_PATTERN;
-
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-
 import java.util.Comparator;
 
 /**
@@ -20,11 +15,6 @@ public class DateComparator implements Comparator<Date> {
      * @return Int, true if ascending
      */
     public int compare(Date o1, Date o2) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        LocalDate s1;
-        LocalDate s2;
-        s1 = LocalDate.parse(o1.value, formatter);
-        s2 = LocalDate.parse(o2.value, formatter);
-        return s1.compareTo(s2);
+        return Integer.compare(o1.toEpochDay(), o2.toEpochDay());
     }
 }
@@ -1,24 +1,26 @@
 package seedu.address.model.schedule;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Schedule}'s {@code Name} matches any of the Id given.
  */
 public class EmployeeIdScheduleContainsKeywordsPredicate implements Predicate <Schedule> {
     private final List<String> keywords;
+    private final Set<String> employeeIds;
 
     public EmployeeIdScheduleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.employeeIds = new HashSet<>(keywords);
     }
 
     @Override
     public boolean test(Schedule schedule) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(schedule.getEmployeeId().value, keyword));
+        // a hash lookup, as filtering a long schedule list by many employees tests every pair otherwise
+        return employeeIds.contains(schedule.getEmployeeId().value);
     }
 
     @Override
@@ -37,10 +37,7 @@ public class Schedule {
     }
 
     public String getScheduleYear() {
-        String year;
-        String[] date = getScheduleDate().toString().split("/");
-        year = date[2];
-        return year;
+        return String.valueOf(date.getYear());
     }
 
     /**
@@ -65,7 +62,7 @@ public class Schedule {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(type, date);
+        return Objects.hash(id, type, date);
     }
 
     /**
@@ -0,0 +1,243 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * The days on which each employee works and is on leave.
+ * For every employee and year with schedules there are two bitsets indexed by day of year, one of work days and one of
+ * leave days, so checking whether an employee has a schedule on a date is a bit test. The number of days set in each
+ * bitset is kept along with it, so counting the schedules of an employee in a year is a lookup. The employees are kept
+ * in order of employee id, so counting the schedules of every employee only goes through the employees once.
+ * The dates of an employee's schedules in a range are read from the set bits of the years in the range.
+ */
+class ScheduleCalendar {
+
+    private static final int DAYS_PER_LEAP_YEAR = 366;
+    private static final int WORDS_PER_YEAR = 6; // 64 days per word, for the 366 days of a leap year
+
+    // employee id number -> days of each year of that employee, in order of employee id
+    private final Map<Integer, EmployeeDays> calendars = new TreeMap<>();
+
+    /**
+     * Returns true if the employee with {@code employeeId} has a schedule of {@code type} on {@code date}.
+     */
+    boolean contains(EmployeeId employeeId, Type type, Date date) {
+        YearDays yearDays = getYearDays(employeeId.intValue(), date.getYear());
+        return yearDays != null && yearDays.isSet(type, date.getDayOfYear());
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} the employee with {@code employeeId} has in {@code year}.
+     */
+    int count(EmployeeId employeeId, Type type, int year) {
+        YearDays yearDays = getYearDays(employeeId.intValue(), year);
+        return yearDays == null ? 0 : yearDays.count(type);
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} in {@code year} of each employee with at least one of them,
+     * in order of employee id.
+     */
+    Map<EmployeeId, Integer> countAll(Type type, int year) {
+        Map<EmployeeId, Integer> counts = new LinkedHashMap<>();
+        for (EmployeeDays employee : calendars.values()) {
+            YearDays yearDays = employee.years.get(year);
+            int count = yearDays == null ? 0 : yearDays.count(type);
+            if (count > 0) {
+                counts.put(employee.employeeId, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the dates from {@code startDate} to {@code endDate} inclusive on which the employee with
+     * {@code employeeId} has a schedule of {@code type}, in order of date.
+     */
+    List<Date> getDates(EmployeeId employeeId, Type type, Date startDate, Date endDate) {
+        List<Date> dates = new ArrayList<>();
+        EmployeeDays employee = calendars.get(employeeId.intValue());
+        if (employee == null) {
+            return dates;
+        }
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            YearDays yearDays = employee.years.get(year);
+            if (yearDays == null) {
+                continue;
+            }
+            int firstDay = year == startDate.getYear() ? startDate.getDayOfYear() : 1;
+            int lastDay = year == endDate.getYear() ? endDate.getDayOfYear() : DAYS_PER_LEAP_YEAR;
+            int dayBeforeYear = (int) LocalDate.ofYearDay(year, 1).toEpochDay() - 1;
+            yearDays.forEachDay(type, firstDay, lastDay, dayOfYear -> dates.add(
+                    Date.ofEpochDay(dayBeforeYear + dayOfYear)));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns true if the employee with {@code employeeId} has any schedule.
+     */
+    boolean containsEmployee(EmployeeId employeeId) {
+        return calendars.containsKey(employeeId.intValue());
+    }
+
+    /**
+     * Marks the day of {@code schedule} for its employee and type.
+     */
+    void add(Schedule schedule) {
+        requireNonNull(schedule);
+        EmployeeId employeeId = schedule.getEmployeeId();
+        Date date = schedule.getScheduleDate();
+        calendars.computeIfAbsent(employeeId.intValue(), unused -> new EmployeeDays(employeeId)).years
+                .computeIfAbsent(date.getYear(), unused -> new YearDays())
+                .set(schedule.getType(), date.getDayOfYear());
+    }
+
+    /**
+     * Clears the day of {@code schedule} for its employee and type, dropping the year and employee once they have
+     * no schedules left.
+     */
+    void remove(Schedule schedule) {
+        requireNonNull(schedule);
+        int employeeNumber = schedule.getEmployeeId().intValue();
+        Date date = schedule.getScheduleDate();
+        YearDays yearDays = getYearDays(employeeNumber, date.getYear());
+        if (yearDays == null) {
+            return;
+        }
+        yearDays.clear(schedule.getType(), date.getDayOfYear());
+
+        if (yearDays.isEmpty()) {
+            Map<Integer, YearDays> years = calendars.get(employeeNumber).years;
+            years.remove(date.getYear());
+            if (years.isEmpty()) {
+                calendars.remove(employeeNumber);
+            }
+        }
+    }
+
+    /**
+     * Removes all days.
+     */
+    void clear() {
+        calendars.clear();
+    }
+
+    /**
+     * Returns the days of {@code year} of the employee with id number {@code employeeNumber}, or null if there are
+     * no schedules in that year.
+     */
+    private YearDays getYearDays(int employeeNumber, int year) {
+        EmployeeDays employee = calendars.get(employeeNumber);
+        return employee == null ? null : employee.years.get(year);
+    }
+
+    /**
+     * The days of each year of an employee with schedules.
+     */
+    private static class EmployeeDays {
+        private final EmployeeId employeeId;
+        // year -> days of the year
+        private final Map<Integer, YearDays> years = new HashMap<>();
+
+        private EmployeeDays(EmployeeId employeeId) {
+            this.employeeId = employeeId;
+        }
+    }
+
+    /**
+     * The work days and leave days of an employee in a year, as bitsets where bit {@code n} is day of year
+     * {@code n + 1}, with the number of days set in each.
+     */
+    private static class YearDays {
+        private final long[] workDays = new long[WORDS_PER_YEAR];
+        private final long[] leaveDays = new long[WORDS_PER_YEAR];
+        private int workCount;
+        private int leaveCount;
+
+        private boolean isSet(Type type, int dayOfYear) {
+            int bit = dayOfYear - 1;
+            return (of(type)[bit >>> 6] & (1L << bit)) != 0;
+        }
+
+        /**
+         * Sets {@code dayOfYear} in the days of {@code type}, counting it if it was not set.
+         */
+        private void set(Type type, int dayOfYear) {
+            if (isSet(type, dayOfYear)) {
+                return;
+            }
+            int bit = dayOfYear - 1;
+            of(type)[bit >>> 6] |= 1L << bit;
+            if (isLeave(type)) {
+                leaveCount++;
+            } else {
+                workCount++;
+            }
+        }
+
+        /**
+         * Clears {@code dayOfYear} in the days of {@code type}, uncounting it if it was set.
+         */
+        private void clear(Type type, int dayOfYear) {
+            if (!isSet(type, dayOfYear)) {
+                return;
+            }
+            int bit = dayOfYear - 1;
+            of(type)[bit >>> 6] &= ~(1L << bit);
+            if (isLeave(type)) {
+                leaveCount--;
+            } else {
+                workCount--;
+            }
+        }
+
+        /**
+         * Passes each day of {@code type} from {@code firstDay} to {@code lastDay} inclusive to {@code action}, in
+         * order, skipping the words of the bitset with no days set.
+         */
+        private void forEachDay(Type type, int firstDay, int lastDay, IntConsumer action) {
+            long[] days = of(type);
+            for (int word = (firstDay - 1) >>> 6; word <= (lastDay - 1) >>> 6; word++) {
+                long bits = days[word];
+                while (bits != 0) {
+                    int dayOfYear = (word << 6) + Long.numberOfTrailingZeros(bits) + 1;
+                    bits &= bits - 1;
+                    if (dayOfYear >= firstDay && dayOfYear <= lastDay) {
+                        action.accept(dayOfYear);
+                    }
+                }
+            }
+        }
+
+        private int count(Type type) {
+            return isLeave(type) ? leaveCount : workCount;
+        }
+
+        private boolean isEmpty() {
+            return workCount == 0 && leaveCount == 0;
+        }
+
+        /**
+         * Returns the bitset of the days of {@code type}.
+         */
+        private long[] of(Type type) {
+            return isLeave(type) ? leaveDays : workDays;
+        }
+
+        private static boolean isLeave(Type type) {
+            return Type.LEAVE.equals(type.value);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * Wraps all data at the schedule-list level
@@ -63,6 +66,43 @@ public class ScheduleList implements ReadOnlyScheduleList {
         return schedules.contains(schedule);
     }
 
+    /**
+     * Returns true if the employee with {@code employeeId} has a schedule of {@code type} on {@code date}.
+     */
+    public boolean hasSchedule(EmployeeId employeeId, Type type, Date date) {
+        return schedules.contains(employeeId, type, date);
+    }
+
+    /**
+     * Returns true if the employee with {@code employeeId} has any schedule in the schedule list.
+     */
+    public boolean hasSchedules(EmployeeId employeeId) {
+        return schedules.containsEmployeeId(employeeId);
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} the employee with {@code employeeId} has in {@code year}.
+     */
+    public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+        return schedules.countSchedules(employeeId, type, year);
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} in {@code year} of each employee with at least one of them,
+     * in order of employee id.
+     */
+    public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+        return schedules.countSchedulesByEmployeeId(type, year);
+    }
+
+    /**
+     * Returns the schedules of the given {@code type} of the employee with {@code employeeId}
+     * from {@code startDate} to {@code endDate} inclusive, in order of date.
+     */
+    public List<Schedule> getSchedules(EmployeeId employeeId, Type type, Date startDate, Date endDate) {
+        return schedules.getSchedules(employeeId, type, startDate, endDate);
+    }
+
     /**
      * Adds a schedule to the schedule list.
      * The schedule must not already exist in the schedule list.
@@ -71,6 +111,21 @@ public class ScheduleList implements ReadOnlyScheduleList {
         schedules.add(schedule);
     }
 
+    /**
+     * Adds a schedule to the schedule list at {@code index}, to put back a schedule removed from there.
+     * The schedule is still added in order of employee id, see {@link UniqueScheduleList#add(int, Schedule)}.
+     */
+    protected void addSchedule(int index, Schedule schedule) {
+        schedules.add(index, schedule);
+    }
+
+    /**
+     * Returns the index of {@code schedule} in the schedule list, or -1 if it is not in the schedule list.
+     */
+    protected int indexOfSchedule(Schedule schedule) {
+        return schedules.indexOf(schedule);
+    }
+
     /**
      * Replaces the given schedule {@code schedule} in the list with {@code editedSchedule}.
      * {@code schedule} must exist in the schedule list.
@@ -89,10 +144,10 @@ public class ScheduleList implements ReadOnlyScheduleList {
     }
 
     /**
-     * Sort Schedules within CHRS by employeeId
+     * Removes the schedules that match {@code predicate} from this {@code ScheduleList} and returns them.
      */
-    public void sortSchedulesBy() {
-        schedules.sortByEmployeeId();
+    public List<Schedule> removeSchedulesIf(Predicate<? super Schedule> predicate) {
+        return schedules.removeIf(predicate);
     }
 
     //// util methods
@@ -1,15 +1,24 @@
 package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.indexOfSorted;
+import static seedu.address.commons.util.CollectionUtil.removeMatching;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 
@@ -21,20 +30,87 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  * However, the removal of a schedule uses Schedule#equals(Object) so
  * as to ensure that the schedule with exactly the same fields will be removed.
  *
+ * The list is kept sorted by employee id in ascending order: each schedule is inserted at its place by binary search,
+ * so changes do not need the whole list to be sorted again.
+ *
+ * Schedules are also kept in a {@link ScheduleCalendar} of the days each employee works and is on leave, so that
+ * checking for a schedule on a date and counting the schedules in a year are bit operations, and the schedules of an
+ * employee over a range of dates are read from it without scanning the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Schedule#isSameSchedule(Schedule)
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
 
+    private static final Comparator<Schedule> EMPLOYEE_ID_COMPARATOR =
+            Comparator.comparingInt(schedule -> schedule.getEmployeeId().intValue());
+
     private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
 
+    // Calendar of the schedules in internalList, updated together with it
+    private final ScheduleCalendar calendar = new ScheduleCalendar();
+
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSchedule);
+        return calendar.contains(toCheck.getEmployeeId(), toCheck.getType(), toCheck.getScheduleDate());
+    }
+
+    /**
+     * Returns true if the employee with {@code employeeId} has a schedule of {@code type} on {@code date}.
+     */
+    public boolean contains(EmployeeId employeeId, Type type, Date date) {
+        requireAllNonNull(employeeId, type, date);
+        return calendar.contains(employeeId, type, date);
+    }
+
+    /**
+     * Returns true if the employee with {@code employeeId} has any schedule.
+     */
+    public boolean containsEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return calendar.containsEmployee(employeeId);
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} the employee with {@code employeeId} has in {@code year}.
+     */
+    public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+        requireAllNonNull(employeeId, type, year);
+        return calendar.count(employeeId, type, year.intValue());
+    }
+
+    /**
+     * Returns the number of schedules of {@code type} in {@code year} of each employee with at least one of them,
+     * in order of employee id.
+     */
+    public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+        requireAllNonNull(type, year);
+        return calendar.countAll(type, year.intValue());
+    }
+
+    /**
+     * Returns the schedules of the given {@code type} of the employee with {@code employeeId}
+     * from {@code startDate} to {@code endDate} inclusive, in order of date.
+     */
+    public List<Schedule> getSchedules(EmployeeId employeeId, Type type, Date startDate, Date endDate) {
+        requireAllNonNull(employeeId, type, startDate, endDate);
+        List<Schedule> schedules = new ArrayList<>();
+        for (Date date : calendar.getDates(employeeId, type, startDate, endDate)) {
+            schedules.add(new Schedule(employeeId, type, date));
+        }
+        return schedules;
+    }
+
+    /**
+     * Returns the index of {@code schedule} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Schedule schedule) {
+        requireNonNull(schedule);
+        return indexOfSorted(internalList, schedule, EMPLOYEE_ID_COMPARATOR);
     }
 
     /**
@@ -42,11 +118,20 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      * The schedule must not already exist in the list.
      */
     public void add(Schedule toAddSchedule) {
+        add(internalList.size(), toAddSchedule);
+    }
+
+    /**
+     * Adds a schedule to the list at {@code index} if the list stays sorted with it there, or else at its sorted place.
+     * The schedule must not already exist in the list.
+     */
+    public void add(int index, Schedule toAddSchedule) {
         requireNonNull(toAddSchedule);
         if (contains(toAddSchedule)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAddSchedule);
+        addSorted(internalList, index, toAddSchedule, EMPLOYEE_ID_COMPARATOR);
+        calendar.add(toAddSchedule);
     }
 
     /**
@@ -57,7 +142,7 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfSorted(internalList, target, EMPLOYEE_ID_COMPARATOR);
         if (index == -1) {
             throw new ScheduleNotFoundException();
         }
@@ -66,7 +151,9 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
+        calendar.remove(internalList.get(index));
+        setSorted(internalList, index, editedSchedule, EMPLOYEE_ID_COMPARATOR);
+        calendar.add(editedSchedule);
     }
 
     /**
@@ -75,18 +162,35 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOfSorted(internalList, toRemove, EMPLOYEE_ID_COMPARATOR);
+        if (index == -1) {
             throw new ScheduleNotFoundException();
         }
+
+        calendar.remove(internalList.remove(index));
+    }
+
+    /**
+     * Removes the schedules that match {@code predicate} in a single pass and returns them.
+     */
+    public List<Schedule> removeIf(Predicate<? super Schedule> predicate) {
+        requireNonNull(predicate);
+        List<Schedule> removed = removeMatching(internalList, predicate);
+        removed.forEach(calendar::remove);
+        return removed;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildCalendar();
     }
 
     /**
-     * Replaces the contents of this list with {@code schedules}.
+     * Replaces the contents of this list with {@code schedules}, sorted by employee id.
      * {@code schedules} must not contain duplicate schedules.
      */
     public void setSchedules(List<Schedule> schedules) {
@@ -95,22 +199,10 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.setAll(schedules);
-    }
-
-    //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
-    /**
-     * Sorts ScheduleList by employeeId in ascending order
-     */
-    public void sortByEmployeeId() {
-        Comparator<Schedule> scheduleComparator = new Comparator<Schedule>() {
-            @Override
-            public int compare(Schedule scheduleA, Schedule scheduleB) {
-                return scheduleA.getEmployeeId().value.compareTo(scheduleB.getEmployeeId().value);
-            }
-        };
-
-        Collections.sort(internalList, scheduleComparator);
+        List<Schedule> sortedSchedules = new ArrayList<>(schedules);
+        sortedSchedules.sort(EMPLOYEE_ID_COMPARATOR);
+        internalList.setAll(sortedSchedules);
+        rebuildCalendar();
     }
 
     /**
@@ -140,14 +232,21 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     /**
      * Returns true if {@code schedules} contains only unique schedules.
      */
-    private boolean schedulesAreUnique(List<Schedule> schedules) {
-        for (int i = 0; i < schedules.size() - 1; i++) {
-            for (int j = i + 1; j < schedules.size(); j++) {
-                if (schedules.get(i).isSameSchedule(schedules.get(j))) {
-                    return false;
-                }
+    private static boolean schedulesAreUnique(List<Schedule> schedules) {
+        Set<Schedule> uniqueSchedules = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            if (!uniqueSchedules.add(schedule)) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Rebuilds the calendar from the contents of {@code internalList}.
+     */
+    private void rebuildCalendar() {
+        calendar.clear();
+        internalList.forEach(calendar::add);
+    }
 }
@@ -2,35 +2,122 @@ package seedu.address.model.schedule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.ChangeHistory.ChangeTarget;
+import seedu.address.model.ListChanges;
 /**
  * {@code ScheduleList} that keeps track of its own history.
+ * Only the changes made between commits are kept, see {@link ChangeHistory}.
  */
 public class VersionedScheduleList extends ScheduleList {
 
-    private final List<ReadOnlyScheduleList> scheduleListStateList;
-    private int currentStatePointer;
+    private final ChangeHistory<Schedule> history;
+
+    /** Applies the changes of {@code history} to this schedule list without recording them again. */
+    private final ChangeTarget<Schedule> unrecordedScheduleList = new ChangeTarget<Schedule>() {
+        @Override
+        public void add(int index, Schedule element) {
+            VersionedScheduleList.super.addSchedule(index, element);
+        }
+
+        @Override
+        public void remove(Schedule element) {
+            VersionedScheduleList.super.removeSchedule(element);
+        }
+
+        @Override
+        public void update(Schedule target, Schedule edited) {
+            VersionedScheduleList.super.updateSchedule(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Schedule> elements) {
+            VersionedScheduleList.super.setSchedules(elements);
+        }
+    };
 
     public VersionedScheduleList(ReadOnlyScheduleList initialState) {
-        super(initialState);
+        super();
+        history = new ChangeHistory<>();
+        super.setSchedules(initialState.getScheduleList());
+    }
 
-        scheduleListStateList = new ArrayList<>();
-        scheduleListStateList.add(new ScheduleList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setSchedules(List<Schedule> schedules) {
+        List<Schedule> oldSchedules = new ArrayList<>(getScheduleList());
+        super.setSchedules(schedules);
+        history.recordReset(oldSchedules, new ArrayList<>(getScheduleList()));
+    }
+
+    @Override
+    public void addSchedule(Schedule schedule) {
+        super.addSchedule(schedule);
+        history.recordAdd(schedule, indexOfSchedule(schedule));
+    }
+
+    @Override
+    public void updateSchedule(Schedule target, Schedule editedSchedule) {
+        super.updateSchedule(target, editedSchedule);
+        history.recordUpdate(target, editedSchedule);
+    }
+
+    @Override
+    public void removeSchedule(Schedule key) {
+        int index = indexOfSchedule(key);
+        super.removeSchedule(key);
+        history.recordRemove(key, index);
+    }
+
+    @Override
+    public List<Schedule> removeSchedulesIf(Predicate<? super Schedule> predicate) {
+        List<Schedule> elements = getScheduleList();
+        List<Integer> removedIndexes = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            if (predicate.test(elements.get(i))) {
+                removedIndexes.add(i);
+            }
+        }
+
+        List<Schedule> removed = super.removeSchedulesIf(predicate);
+        assert removed.size() == removedIndexes.size();
+        // recorded last first, so that undoing adds them back first to last, each at its index in the list
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            history.recordRemove(removed.get(i), removedIndexes.get(i));
+        }
+        return removed;
     }
 
     /**
-     * Saves a copy of the current {@code ScheduleList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made to the current {@code ScheduleList} since the last commit as a new state.
+     * Undone states are removed.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        scheduleListStateList.add(new ScheduleList(this));
-        currentStatePointer++;
+        history.commit();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        scheduleListStateList.subList(currentStatePointer + 1, scheduleListStateList.size()).clear();
+    /**
+     * Returns the changes made to the schedule list since this was last called, including those undone or redone,
+     * as its next version.
+     */
+    public ListChanges<Schedule> takeChanges() {
+        return history.takeChanges();
+    }
+
+    /**
+     * Returns the number of changes made to the schedule list since the last commit.
+     */
+    public int getUncommittedChangeCount() {
+        return history.getUncommittedChangeCount();
+    }
+
+    /**
+     * Reverts the changes made to the schedule list since the last commit,
+     * except for the first {@code keptChangeCount} of them.
+     */
+    public void rollback(int keptChangeCount) {
+        history.rollback(unrecordedScheduleList, keptChangeCount);
     }
 
     /**
@@ -40,8 +127,7 @@ public class VersionedScheduleList extends ScheduleList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(scheduleListStateList.get(currentStatePointer));
+        history.undo(unrecordedScheduleList);
     }
 
     /**
@@ -51,22 +137,21 @@ public class VersionedScheduleList extends ScheduleList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(scheduleListStateList.get(currentStatePointer));
+        history.redo(unrecordedScheduleList);
     }
 
     /**
      * Returns true if {@code undo()} has schedule list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has schedule list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < scheduleListStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +170,7 @@ public class VersionedScheduleList extends ScheduleList {
 
         // state check
         return super.equals(otherVersionedScheduleList)
-                && scheduleListStateList.equals(otherVersionedScheduleList.scheduleListStateList)
-                && currentStatePointer == otherVersionedScheduleList.currentStatePointer;
+                && history.equals(otherVersionedScheduleList.history);
     }
 
     /**
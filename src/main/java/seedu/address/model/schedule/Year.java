@@ -34,6 +34,13 @@ public class Year {
         return year.matches(YEAR_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the year as an int.
+     */
+    public int intValue() {
+        return Integer.parseInt(value);
+    }
+
     @Override
     public String toString() {
         return value;
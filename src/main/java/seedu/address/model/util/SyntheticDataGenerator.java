@@ -0,0 +1,381 @@
+package seedu.address.model.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.Money;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesAmount;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.MedicalExpenses;
+import seedu.address.model.expenses.MiscellaneousExpenses;
+import seedu.address.model.expenses.TravelExpenses;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Department;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.Salary;
+import seedu.address.model.person.tag.Tag;
+import seedu.address.model.recruitment.JobDescription;
+import seedu.address.model.recruitment.Post;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.recruitment.WorkExp;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
+
+/**
+ * Generates any number of made-up employees with their schedules and expenses claims, and recruitment posts,
+ * for trying out the app, tests and benchmarks at the scale it is used at.
+ *
+ * The data is deterministic: each employee, year of schedules and post is made from the seed and its own number
+ * only, so the same seed always gives the same data, whatever the number of employees asked for, and any part of
+ * it can be made without the rest. The streams make each element as it is taken, so data too large to hold
+ * in memory can be written to a file one element at a time. Every value is valid, and no two employees share
+ * an employee id, phone, email, or name and date of birth.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final int MAX_EMPLOYEE_COUNT = 999_999;
+    public static final int FIRST_SCHEDULE_YEAR = 2019;
+    public static final int LAST_SCHEDULE_YEAR = 2099;
+    public static final int MAX_SCHEDULE_DAYS_PER_YEAR = 260; // the fewest weekdays in a year
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ming", "Priya", "Hui Min", "Muthu", "Nurul", "Jun Jie", "Kavitha", "Farid", "Mei Ling", "Ravi", "Aisha",
+        "Daniel", "Grace"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Ong", "Rahman", "Kumar", "Nair", "Koh", "Teo", "Abdullah"};
+    private static final String[] DEPARTMENTS = {"Finance", "IT", "Human Resource", "Marketing", "Operations",
+        "Sales", "Legal", "Customer Service", "Research and Development", "Logistics"};
+    // positions from the most to the least common, with the range of their monthly salaries in dollars
+    private static final String[] POSITIONS = {"Intern", "Executive", "Senior Executive", "Manager", "Director"};
+    private static final int[] POSITION_WEIGHTS = {15, 40, 25, 15, 5};
+    private static final int[] MIN_SALARIES = {800, 2500, 4000, 6000, 10000};
+    private static final int[] MAX_SALARIES = {1500, 4500, 7000, 11000, 25000};
+    private static final String[] TAGS = {"Fishing", "Cycling", "Cooking", "Soccer", "Pool", "FlyKite", "Running",
+        "Reading", "Chess", "Volunteer"};
+    private static final int MAX_TAGS = 2;
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens Street", "Ang Mo Kio Street",
+        "Tampines Street", "Aljunied Street", "Bedok North Road", "Jurong West Street", "Toa Payoh Lorong",
+        "Yishun Ring Road", "Clementi Avenue"};
+    private static final LocalDate EARLIEST_DATE_OF_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate LATEST_DATE_OF_BIRTH = LocalDate.of(2000, 12, 31);
+    private static final DateTimeFormatter DATE_OF_BIRTH_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final long NAMES_AND_DATES_OF_BIRTH = (long) FIRST_NAMES.length * LAST_NAMES.length
+            * (LATEST_DATE_OF_BIRTH.toEpochDay() - EARLIEST_DATE_OF_BIRTH.toEpochDay() + 1);
+    private static final long PHONE_NUMBERS = 10_000_000; // numbers after the leading 8 or 9
+    // has no factor in common with NAMES_AND_DATES_OF_BIRTH or PHONE_NUMBERS, see scatter(int, long)
+    private static final long SCATTER_MULTIPLIER = 7_654_321;
+    private static final int LEAVE_ONE_IN = 8; // about one scheduled day in this many is leave
+    private static final long MAX_CLAIM_CENTS = 150_000; // for each kind of expenses
+    private static final String[] POSTS = {"Accountant", "Software Engineer", "Data Analyst", "HR Executive",
+        "Marketing Executive", "Sales Manager", "Legal Counsel", "Operations Manager", "Support Engineer",
+        "Logistics Planner"};
+    private static final int MAX_WORK_EXP = 10;
+
+    // so that the employees, years of schedules, expenses claims and posts with the same number differ
+    private static final long PERSON_STREAM = 1;
+    private static final long SCHEDULE_STREAM = 2;
+    private static final long EXPENSES_STREAM = 3;
+    private static final long RECRUITMENT_STREAM = 4;
+
+    private final long seed;
+    private final int employeeCount;
+    private final int scheduleYearCount;
+    private final int scheduleDaysPerYear;
+    private final int recruitmentPostCount;
+
+    /**
+     * Creates a generator of {@code employeeCount} employees, each with an expenses claim and
+     * {@code scheduleDaysPerYear} scheduled weekdays in each of the {@code scheduleYearCount} years from
+     * {@link #FIRST_SCHEDULE_YEAR}, and of {@code recruitmentPostCount} recruitment posts.
+     *
+     * @throws IllegalArgumentException if a count is negative, there are more than {@link #MAX_EMPLOYEE_COUNT}
+     *     employees or {@link #MAX_SCHEDULE_DAYS_PER_YEAR} days a year, or the years go past
+     *     {@link #LAST_SCHEDULE_YEAR}.
+     */
+    public SyntheticDataGenerator(long seed, int employeeCount, int scheduleYearCount, int scheduleDaysPerYear,
+            int recruitmentPostCount) {
+        checkArgument(employeeCount >= 0 && employeeCount <= MAX_EMPLOYEE_COUNT,
+                "The number of employees should be from 0 to " + MAX_EMPLOYEE_COUNT);
+        checkArgument(scheduleYearCount >= 0 && scheduleYearCount <= LAST_SCHEDULE_YEAR - FIRST_SCHEDULE_YEAR + 1,
+                "Schedules should be from " + FIRST_SCHEDULE_YEAR + " to " + LAST_SCHEDULE_YEAR);
+        checkArgument(scheduleDaysPerYear >= 0 && scheduleDaysPerYear <= MAX_SCHEDULE_DAYS_PER_YEAR,
+                "The number of scheduled days a year should be from 0 to " + MAX_SCHEDULE_DAYS_PER_YEAR);
+        checkArgument(recruitmentPostCount >= 0, "The number of recruitment posts should not be negative");
+        this.seed = seed;
+        this.employeeCount = employeeCount;
+        this.scheduleYearCount = scheduleYearCount;
+        this.scheduleDaysPerYear = scheduleDaysPerYear;
+        this.recruitmentPostCount = recruitmentPostCount;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public int getScheduleYearCount() {
+        return scheduleYearCount;
+    }
+
+    public int getScheduleDaysPerYear() {
+        return scheduleDaysPerYear;
+    }
+
+    public int getRecruitmentPostCount() {
+        return recruitmentPostCount;
+    }
+
+    /**
+     * Returns the employees, made as they are taken from the stream.
+     */
+    public Stream<Person> getPersons() {
+        return IntStream.range(0, employeeCount).mapToObj(this::getPerson);
+    }
+
+    /**
+     * Returns the employee numbered {@code number}, counting from 0, who has the employee id {@code number + 1}.
+     * Employees past the number asked for can be made too, for example to add to the data.
+     */
+    public Person getPerson(int number) {
+        checkNumber(number);
+        SplittableRandom random = random(PERSON_STREAM, number);
+        // no two employees can have the same name and date of birth, so they are numbered together
+        long nameAndDateOfBirth = scatter(number, NAMES_AND_DATES_OF_BIRTH);
+        String firstName = FIRST_NAMES[(int) (nameAndDateOfBirth % FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[(int) (nameAndDateOfBirth / FIRST_NAMES.length % LAST_NAMES.length)];
+        long dateOfBirth = EARLIEST_DATE_OF_BIRTH.toEpochDay()
+                + nameAndDateOfBirth / FIRST_NAMES.length / LAST_NAMES.length;
+        int position = pickWeighted(random, POSITION_WEIGHTS);
+        long salaryCents = random.nextLong(MIN_SALARIES[position] * 100L, MAX_SALARIES[position] * 100L + 1);
+        int tagCount = random.nextInt(MAX_TAGS + 1);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(new Tag(pick(random, TAGS)));
+        }
+
+        return new Person(toEmployeeId(number), new Name(firstName + " " + lastName),
+                new DateOfBirth(LocalDate.ofEpochDay(dateOfBirth).format(DATE_OF_BIRTH_FORMAT)),
+                new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", scatter(number, PHONE_NUMBERS))),
+                new Email((firstName + "." + lastName).replace(' ', '.').toLowerCase() + number + "@example.com"),
+                new Department(pick(random, DEPARTMENTS)), new Position(POSITIONS[position]),
+                new Address(String.format("Blk %d %s %d, #%02d-%02d", random.nextInt(1, 900), pick(random, STREETS),
+                        random.nextInt(1, 100), random.nextInt(1, 26), random.nextInt(1, 100))),
+                new Salary(Money.formatCents(salaryCents)), SampleDataUtil.SAMPLE_BONUS, tags);
+    }
+
+    /**
+     * Returns the schedules of every employee, made one employee and year at a time as they are taken
+     * from the stream.
+     */
+    public Stream<Schedule> getSchedules() {
+        return IntStream.range(0, employeeCount).boxed().flatMap(number ->
+                IntStream.range(FIRST_SCHEDULE_YEAR, FIRST_SCHEDULE_YEAR + scheduleYearCount)
+                        .mapToObj(year -> getSchedules(number, year))
+                        .flatMap(List::stream));
+    }
+
+    /**
+     * Returns the schedules in {@code year} of the employee numbered {@code number}, in order of date.
+     * They are on different weekdays, and about one in eight of them is leave.
+     * Years past the ones asked for can be made too, up to {@link #LAST_SCHEDULE_YEAR}.
+     */
+    public List<Schedule> getSchedules(int number, int year) {
+        checkNumber(number);
+        checkArgument(year >= FIRST_SCHEDULE_YEAR && year <= LAST_SCHEDULE_YEAR,
+                "Schedules should be from " + FIRST_SCHEDULE_YEAR + " to " + LAST_SCHEDULE_YEAR);
+        SplittableRandom random = random(SCHEDULE_STREAM, (long) number * (LAST_SCHEDULE_YEAR + 1) + year);
+        EmployeeId employeeId = toEmployeeId(number);
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        int weekdaysLeft = countWeekdays(year);
+        List<Schedule> schedules = new ArrayList<>(scheduleDaysPerYear);
+
+        // picks each weekday with the chance that keeps the number picked at scheduleDaysPerYear (Knuth's S)
+        for (LocalDate day = firstDay; schedules.size() < scheduleDaysPerYear; day = day.plusDays(1)) {
+            if (isWeekend(day)) {
+                continue;
+            }
+            if (random.nextInt(weekdaysLeft) < scheduleDaysPerYear - schedules.size()) {
+                Type type = new Type(random.nextInt(LEAVE_ONE_IN) == 0 ? Type.LEAVE : Type.WORK);
+                schedules.add(new Schedule(employeeId, type, Date.ofEpochDay((int) day.toEpochDay())));
+            }
+            weekdaysLeft--;
+        }
+        return schedules;
+    }
+
+    /**
+     * Returns the expenses claims of the employees, made as they are taken from the stream.
+     */
+    public Stream<Expenses> getExpenses() {
+        return IntStream.range(0, employeeCount).mapToObj(this::getExpenses);
+    }
+
+    /**
+     * Returns the expenses claim of the employee numbered {@code number}.
+     */
+    public Expenses getExpenses(int number) {
+        checkNumber(number);
+        SplittableRandom random = random(EXPENSES_STREAM, number);
+        long travelCents = random.nextLong(MAX_CLAIM_CENTS + 1);
+        long medicalCents = random.nextLong(MAX_CLAIM_CENTS + 1);
+        long miscellaneousCents = random.nextLong(MAX_CLAIM_CENTS + 1);
+        return new Expenses(toEmployeeId(number),
+                ExpensesAmount.fromAmount(Money.ofCents(travelCents + medicalCents + miscellaneousCents)),
+                TravelExpenses.fromAmount(Money.ofCents(travelCents)),
+                MedicalExpenses.fromAmount(Money.ofCents(medicalCents)),
+                MiscellaneousExpenses.fromAmount(Money.ofCents(miscellaneousCents)));
+    }
+
+    /**
+     * Returns the recruitment posts, made as they are taken from the stream.
+     */
+    public Stream<Recruitment> getRecruitments() {
+        return IntStream.range(0, recruitmentPostCount).mapToObj(this::getRecruitment);
+    }
+
+    /**
+     * Returns the recruitment post numbered {@code number}, counting from 0.
+     * Posts with different numbers have different job descriptions.
+     */
+    public Recruitment getRecruitment(int number) {
+        checkArgument(number >= 0, "The number of a recruitment post should not be negative");
+        SplittableRandom random = random(RECRUITMENT_STREAM, number);
+        String post = pick(random, POSTS);
+        return new Recruitment(new Post(post), new WorkExp(Integer.toString(random.nextInt(MAX_WORK_EXP + 1))),
+                new JobDescription("Join our " + pick(random, DEPARTMENTS) + " team as our new " + post
+                        + ". Reference " + toLetters(number) + "."));
+    }
+
+    /**
+     * Returns the employees in an address book.
+     */
+    public AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(toList(getPersons()));
+        return addressBook;
+    }
+
+    /**
+     * Returns the schedules of every employee in a schedule list.
+     */
+    public ScheduleList getScheduleList() {
+        ScheduleList scheduleList = new ScheduleList();
+        scheduleList.setSchedules(toList(getSchedules()));
+        return scheduleList;
+    }
+
+    /**
+     * Returns the expenses claims of the employees in an expenses list.
+     */
+    public ExpensesList getExpensesList() {
+        ExpensesList expensesList = new ExpensesList();
+        expensesList.setMultiExpenses(toList(getExpenses()));
+        return expensesList;
+    }
+
+    /**
+     * Returns the recruitment posts in a recruitment list.
+     */
+    public RecruitmentList getRecruitmentList() {
+        RecruitmentList recruitmentList = new RecruitmentList();
+        recruitmentList.setRecruitments(toList(getRecruitments()));
+        return recruitmentList;
+    }
+
+    /**
+     * Returns the random numbers of the element numbered {@code number} in {@code stream}.
+     */
+    private SplittableRandom random(long stream, long number) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + (stream << 40) + number);
+    }
+
+    /**
+     * Returns the place of {@code number} among {@code size} places, moved by the seed. Numbers below {@code size}
+     * all get different places, as multiplying by a number with no factor in common with {@code size} only
+     * reorders them, and neighbouring numbers get places far apart.
+     */
+    private long scatter(int number, long size) {
+        return (number * SCATTER_MULTIPLIER + Math.floorMod(seed, size)) % size;
+    }
+
+    private static void checkNumber(int number) {
+        checkArgument(number >= 0 && number < MAX_EMPLOYEE_COUNT,
+                "The number of an employee should be from 0 to " + (MAX_EMPLOYEE_COUNT - 1));
+    }
+
+    private static EmployeeId toEmployeeId(int number) {
+        return new EmployeeId(String.format("%06d", number + 1));
+    }
+
+    private static String pick(SplittableRandom random, String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    /**
+     * Returns an index of {@code weights}, each index being picked with a chance proportional to its weight.
+     */
+    private static int pickWeighted(SplittableRandom random, int[] weights) {
+        int left = random.nextInt(IntStream.of(weights).sum());
+        int index = 0;
+        while (left >= weights[index]) {
+            left -= weights[index];
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWeekend(LocalDate day) {
+        return day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * Returns the number of days in {@code year} that are not on a weekend.
+     */
+    private static int countWeekdays(int year) {
+        int weekdays = 0;
+        for (LocalDate day = LocalDate.of(year, 1, 1); day.getYear() == year; day = day.plusDays(1)) {
+            weekdays += isWeekend(day) ? 0 : 1;
+        }
+        return weekdays;
+    }
+
+    /**
+     * Returns {@code number} written in letters, as job descriptions cannot hold digits:
+     * 0 is "A", 25 is "Z", 26 is "BA".
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+
+    private static <T> List<T> toList(Stream<T> elements) {
+        return elements.collect(Collectors.toList());
+    }
+}
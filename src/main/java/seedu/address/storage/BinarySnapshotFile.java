@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Money;
+import seedu.address.model.schedule.Date;
+
+/**
+ * Reads and writes lists in the binary snapshot format, a compact alternative to the xml data files.
+ *
+ * A snapshot file starts with a header holding a magic number, the format version, the kind of list stored,
+ * the number of elements and the length and CRC32 checksum of the rest of the file, followed by the elements.
+ * Strings are stored as their length followed by their UTF-8 bytes, dates as their epoch day and amounts of money
+ * as a number of cents, so reading a snapshot needs no xml parsing. Amounts of money read back are written with two
+ * decimal places, however they were written when saved.
+ */
+public class BinarySnapshotFile {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC_NUMBER = 0x43485253; // "CHRS"
+    private static final int COUNT_OFFSET = 12; // magic number, version and kind come first
+    private static final int HEADER_LENGTH = COUNT_OFFSET + 20;
+
+    /**
+     * Returns true if {@code filePath} should be stored as a binary snapshot rather than an xml file,
+     * which is decided by its file extension.
+     */
+    public static boolean isBinarySnapshot(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinarySnapshotPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Saves {@code elements} to the file as a snapshot of the given {@code kind}, creating the file if it is missing.
+     * The snapshot is written to a temporary file first, so an interrupted save leaves the old snapshot intact.
+     */
+    public static <T> void save(Path file, int kind, Collection<T> elements, ElementWriter<T> elementWriter)
+            throws IOException {
+        requireNonNull(elements);
+        save(file, kind, elements.iterator(), elementWriter);
+    }
+
+    /**
+     * Saves the elements left in {@code elements} to the file as a snapshot of the given {@code kind}, in the same
+     * way as {@link #save(Path, int, Collection, ElementWriter)}. Each element is written as soon as it is taken
+     * from the iterator, so the elements need not all be in memory at once.
+     */
+    public static <T> void save(Path file, int kind, Iterator<? extends T> elements, ElementWriter<T> elementWriter)
+            throws IOException {
+        requireNonNull(file);
+        requireNonNull(elements);
+        requireNonNull(elementWriter);
+
+        FileUtil.createIfMissing(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            header.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putInt(kind);
+            header.putInt(0).putLong(0).putLong(0); // count, length and checksum, filled in after the elements
+            header.flip();
+            channel.write(header);
+
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)), crc));
+            int count = 0;
+            while (elements.hasNext()) {
+                elementWriter.write(elements.next(), out);
+                count++;
+            }
+            out.flush();
+
+            ByteBuffer countLengthAndChecksum = ByteBuffer.allocate(HEADER_LENGTH - COUNT_OFFSET);
+            countLengthAndChecksum.putInt(count).putLong(out.size()).putLong(crc.getValue());
+            countLengthAndChecksum.flip();
+            channel.write(countLengthAndChecksum, COUNT_OFFSET);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the elements of the snapshot of the given {@code kind} in the file.
+     * @throws DataConversionException if the file is not a snapshot of that kind, is corrupted or has illegal values.
+     * @throws IOException if there was any problem reading the file.
+     */
+    public static <T> List<T> load(Path file, int kind, ElementReader<T> elementReader)
+            throws DataConversionException, IOException {
+        requireNonNull(file);
+        requireNonNull(elementReader);
+
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream headerIn = new DataInputStream(fileIn);
+            if (headerIn.readInt() != MAGIC_NUMBER) {
+                throw new DataConversionException(new IOException(file + " is not a snapshot file"));
+            }
+            int version = headerIn.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException("Unsupported snapshot version " + version));
+            }
+            if (headerIn.readInt() != kind) {
+                throw new DataConversionException(new IOException(file + " is a snapshot of a different list"));
+            }
+            int size = headerIn.readInt();
+            long length = headerIn.readLong();
+            long checksum = headerIn.readLong();
+            // the header is checked before the checksum can be, so a corrupted count cannot make the read run away;
+            // every element takes at least one byte, so there cannot be more elements than bytes
+            if (length != Files.size(file) - HEADER_LENGTH || size < 0 || size > length) {
+                throw new DataConversionException(new IOException("Corrupted header in " + file));
+            }
+
+            CRC32 crc = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(fileIn, crc));
+            List<T> elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements.add(elementReader.read(in));
+            }
+            if (in.read() != -1 || crc.getValue() != checksum) {
+                throw new DataConversionException(new IOException("Checksum mismatch in " + file));
+            }
+            return elements;
+        } catch (EOFException | IllegalValueException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length followed by its UTF-8 bytes.
+     */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     */
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code date} as its epoch day.
+     */
+    public static void writeDate(DataOutput out, Date date) throws IOException {
+        out.writeInt(date.toEpochDay());
+    }
+
+    /**
+     * Reads a date written by {@link #writeDate(DataOutput, Date)}.
+     */
+    public static Date readDate(DataInput in) throws IOException {
+        return Date.ofEpochDay(in.readInt());
+    }
+
+    /**
+     * Writes {@code amount} as its number of cents.
+     */
+    public static void writeMoney(DataOutput out, Money amount) throws IOException {
+        out.writeLong(amount.getCents());
+    }
+
+    /**
+     * Reads an amount of money written by {@link #writeMoney(DataOutput, Money)}.
+     */
+    public static Money readMoney(DataInput in) throws IOException {
+        return Money.ofCents(in.readLong());
+    }
+
+    /**
+     * Writes one element of a snapshot, which must take at least one byte.
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(T element, DataOutput out) throws IOException;
+    }
+
+    /**
+     * Reads one element of a snapshot.
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        T read(DataInput in) throws IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,398 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+
+/**
+ * An append-only log of the changes made to a list since its last checkpoint, which is the full data file.
+ * Each save appends only the {@link ListChanges} made since the previous save to the journal file, so it costs as
+ * much as the elements changed rather than the whole list, and the full data file is only rewritten (checkpointed)
+ * when the journal grows too long or the changes are not known.
+ * Reading replays the journal on top of the elements read from the data file.
+ *
+ * The journal file starts with the checksum of the data file it belongs to, so a journal left behind by an
+ * interrupted checkpoint is ignored. Each save is written as one block with its own checksum, so a save that
+ * was only partly written is ignored as well.
+ *
+ * Elements are matched with {@code equals} when the journal is replayed, as the lists do not hold equal elements.
+ * The order of the elements is not recorded: added elements are put at the end, which is where a list that is not
+ * kept sorted adds them, and lists that are kept sorted sort the elements read anyway.
+ */
+public class MutationJournal<T> {
+
+    public static final int DEFAULT_MAX_RECORDS = 1000;
+    public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(MutationJournal.class);
+
+    private static final int MAGIC_NUMBER = 0x4A524E4C;
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path dataFilePath;
+    private final Path journalFilePath;
+    private final XmlElementCodec<T, ?> codec;
+    private final int maxRecords;
+    private final long maxBytes;
+
+    // true if the journal and the data file hold the list as it was last saved, so that changes can be appended
+    private boolean isInSync = false;
+    private int recordsSinceCheckpoint;
+
+    /**
+     * Creates a journal for the data file at {@code dataFilePath}, which is checkpointed after
+     * {@code maxRecords} records or {@code maxBytes} bytes have been written to the journal.
+     */
+    public MutationJournal(Path dataFilePath, XmlElementCodec<T, ?> codec, int maxRecords, long maxBytes) {
+        requireNonNull(dataFilePath);
+        requireNonNull(codec);
+        this.dataFilePath = dataFilePath;
+        this.journalFilePath = getJournalFilePath(dataFilePath);
+        this.codec = codec;
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns {@code checkpointElements}, the elements read from the data file, with the changes in the journal
+     * applied to them. The returned list is remembered as the last saved state.
+     * @throws DataConversionException if the journal is not in the correct format.
+     * @throws IOException if there was any problem reading the journal.
+     */
+    public List<T> replay(List<T> checkpointElements) throws DataConversionException, IOException {
+        requireNonNull(checkpointElements);
+        List<T> elements = new ArrayList<>(checkpointElements);
+        recordsSinceCheckpoint = 0;
+        isInSync = false;
+
+        if (!Files.exists(journalFilePath)) {
+            return elements;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(journalFilePath)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException("Unknown journal format: " + journalFilePath));
+            }
+            if (in.readLong() != getChecksum(dataFilePath)) {
+                logger.warning("Journal " + journalFilePath + " does not belong to " + dataFilePath + ", ignoring it");
+                return elements;
+            }
+            ElementIndexes<T> indexes = new ElementIndexes<>(elements);
+            byte[] block;
+            while ((block = readBlock(in)) != null) {
+                recordsSinceCheckpoint += applyBlock(block, indexes);
+            }
+            elements.removeIf(Objects::isNull);
+        } catch (EOFException eofe) {
+            throw new DataConversionException(eofe);
+        }
+
+        isInSync = true;
+        return elements;
+    }
+
+    /**
+     * Saves the list by appending {@code changes}, the changes made to it since the last save in the order they were
+     * made, to the journal, or by calling {@code checkpoint} to write the full data file and starting a new journal.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void save(List<ListChanges<T>> changes, Checkpoint checkpoint) throws IOException {
+        requireNonNull(changes);
+        requireNonNull(checkpoint);
+
+        byte[] block = isInSync && Files.exists(journalFilePath) ? getBlock(changes) : null;
+        // a save that fails part way leaves the files in an unknown state, which only a checkpoint can fix
+        isInSync = false;
+        if (block == null
+                || recordsSinceCheckpoint + readRecordCount(block) > maxRecords
+                || Files.size(journalFilePath) + block.length > maxBytes) {
+            writeCheckpoint(checkpoint);
+        } else {
+            appendBlock(block);
+            recordsSinceCheckpoint += readRecordCount(block);
+        }
+        isInSync = true;
+    }
+
+    /**
+     * Writes the full data file with {@code checkpoint} and replaces the journal with an empty one,
+     * for a save whose changes are not known.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void checkpoint(Checkpoint checkpoint) throws IOException {
+        requireNonNull(checkpoint);
+        isInSync = false;
+        writeCheckpoint(checkpoint);
+        isInSync = true;
+    }
+
+    /**
+     * Returns {@code changes} as a journal block, or null if the whole list was replaced,
+     * which is saved as a checkpoint instead.
+     */
+    private byte[] getBlock(List<ListChanges<T>> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        int recordCount = 0;
+        for (ListChanges<T> change : changes) {
+            if (change.isReset()) {
+                return null;
+            }
+            recordCount += change.getRemoved().size() + change.getReplaced().size() + change.getAdded().size();
+        }
+
+        out.writeInt(recordCount);
+        out.writeInt(changes.size());
+        for (ListChanges<T> change : changes) {
+            out.writeInt(change.getRemoved().size());
+            for (T removed : change.getRemoved()) {
+                writeElement(out, removed);
+            }
+            out.writeInt(change.getReplaced().size());
+            for (Map.Entry<T, T> replaced : change.getReplaced().entrySet()) {
+                writeElement(out, replaced.getKey());
+                writeElement(out, replaced.getValue());
+            }
+            out.writeInt(change.getAdded().size());
+            for (T added : change.getAdded()) {
+                writeElement(out, added);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void writeElement(DataOutputStream out, T element) throws IOException {
+        byte[] encoded = codec.encode(element).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private T readElement(DataInputStream in) throws IOException, DataConversionException {
+        byte[] encoded = new byte[in.readInt()];
+        in.readFully(encoded);
+        return codec.decode(new String(encoded, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Applies the changes in {@code block} to the elements of {@code indexes} and returns the number of records
+     * applied. Removed elements are left as nulls in the list of elements, to keep the indexes of the others.
+     */
+    private int applyBlock(byte[] block, ElementIndexes<T> indexes) throws DataConversionException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(block))) {
+            int recordCount = in.readInt();
+            int changeCount = in.readInt();
+            for (int i = 0; i < changeCount; i++) {
+                int removedCount = in.readInt();
+                for (int j = 0; j < removedCount; j++) {
+                    indexes.set(indexes.remove(readElement(in)), null);
+                }
+
+                // all the replaced elements are taken out before the new ones are put in, as an element can be
+                // replaced by an element that is itself replaced
+                int replacedCount = in.readInt();
+                List<T> editedElements = new ArrayList<>();
+                List<Integer> editedIndexes = new ArrayList<>();
+                for (int j = 0; j < replacedCount; j++) {
+                    editedIndexes.add(indexes.remove(readElement(in)));
+                    editedElements.add(readElement(in));
+                }
+                for (int j = 0; j < replacedCount; j++) {
+                    indexes.set(editedIndexes.get(j), editedElements.get(j));
+                }
+
+                int addedCount = in.readInt();
+                for (int j = 0; j < addedCount; j++) {
+                    indexes.add(readElement(in));
+                }
+            }
+            return recordCount;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new DataConversionException(new IOException("Invalid journal record in " + journalFilePath, e));
+        }
+    }
+
+    /**
+     * Returns the number of records in {@code block}.
+     */
+    private static int readRecordCount(byte[] block) {
+        return ((block[0] & 0xFF) << 24) | ((block[1] & 0xFF) << 16) | ((block[2] & 0xFF) << 8) | (block[3] & 0xFF);
+    }
+
+    /**
+     * Returns the next block in {@code in}, or null if there are no more complete blocks.
+     */
+    private byte[] readBlock(DataInputStream in) throws IOException {
+        int length;
+        long checksum;
+        byte[] block;
+        try {
+            length = in.readInt();
+            checksum = in.readLong();
+            block = new byte[length];
+            in.readFully(block);
+        } catch (EOFException eofe) {
+            return null; // end of journal, or a block that was only partly written
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(block);
+        if (crc.getValue() != checksum) {
+            logger.warning("Ignoring corrupted journal entries at the end of " + journalFilePath);
+            return null;
+        }
+        return block;
+    }
+
+    /**
+     * Appends {@code block} and its checksum to the journal.
+     */
+    private void appendBlock(byte[] block) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(block);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(journalFilePath,
+                StandardOpenOption.APPEND))) {
+            out.writeInt(block.length);
+            out.writeLong(crc.getValue());
+            out.write(block);
+        }
+    }
+
+    /**
+     * Writes the full data file with {@code checkpoint} and replaces the journal with an empty one.
+     */
+    private void writeCheckpoint(Checkpoint checkpoint) throws IOException {
+        logger.fine("Writing checkpoint to " + dataFilePath);
+        checkpoint.write();
+
+        Path newJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(newJournalFilePath))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(getChecksum(dataFilePath));
+        }
+        Files.move(newJournalFilePath, journalFilePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        recordsSinceCheckpoint = 0;
+    }
+
+    /**
+     * Returns the checksum of the file at {@code filePath}, or 0 if there is no such file.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the full data file.
+     */
+    @FunctionalInterface
+    public interface Checkpoint {
+        void write() throws IOException;
+    }
+
+    /**
+     * The elements of a list being replayed, with the index of each element, so that the elements changed by the
+     * journal are found without searching the list. Removed elements are set to null rather than removed from the
+     * list, which would move the elements after them.
+     */
+    private static class ElementIndexes<T> {
+        private final List<T> elements;
+        private Map<T, Integer> indexes;
+
+        private ElementIndexes(List<T> elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * Removes {@code element} from the index and returns where it is in the list.
+         * @throws IllegalArgumentException if the element is not in the list.
+         */
+        private int remove(T element) {
+            Integer index = getIndexes().remove(element);
+            if (index == null) {
+                throw new IllegalArgumentException("Element not found: " + element);
+            }
+            return index;
+        }
+
+        /**
+         * Puts {@code element} at {@code index} in the list, or removes the element there if it is null.
+         * @throws IllegalArgumentException if an equal element is already in the list.
+         */
+        private void set(int index, T element) {
+            Map<T, Integer> elementIndexes = getIndexes();
+            elements.set(index, element);
+            if (element != null && elementIndexes.putIfAbsent(element, index) != null) {
+                throw new IllegalArgumentException("Duplicate element: " + element);
+            }
+        }
+
+        /**
+         * Adds {@code element} to the end of the list.
+         * @throws IllegalArgumentException if an equal element is already in the list.
+         */
+        private void add(T element) {
+            elements.add(null);
+            set(elements.size() - 1, element);
+        }
+
+        /**
+         * Returns the index of every element, which is only built when the journal changes the list.
+         */
+        private Map<T, Integer> getIndexes() {
+            if (indexes == null) {
+                indexes = new HashMap<>();
+                for (int i = 0; i < elements.size(); i++) {
+                    if (elements.get(i) != null) {
+                        indexes.put(elements.get(i), i);
+                    }
+                }
+            }
+            return indexes;
+        }
+    }
+}
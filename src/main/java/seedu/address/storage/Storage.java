@@ -87,4 +87,9 @@ public interface Storage extends AddressBookStorage, ExpensesListStorage, Recrui
     void handleScheduleListChangedEvent(ScheduleListChangedEvent abce);
 
     void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent abce);
+
+    /**
+     * Saves all changes that are waiting to be saved in the background, and waits until they are written.
+     */
+    void flush();
 }
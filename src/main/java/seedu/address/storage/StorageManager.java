@@ -2,11 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -15,11 +20,17 @@ import seedu.address.commons.events.model.RecruitmentListChangedEvent;
 import seedu.address.commons.events.model.ScheduleListChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.ModelTypes;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.storage.addressbook.AddressBookStorage;
 import seedu.address.storage.expenses.ExpensesListStorage;
 import seedu.address.storage.recruitment.RecruitmentListStorage;
@@ -37,8 +48,15 @@ public class StorageManager extends ComponentManager implements Storage {
     private ScheduleListStorage scheduleListStorage;
     private RecruitmentListStorage recruitmentListStorage;
     private UserPrefsStorage userPrefsStorage;
-
-
+    private final WriteBehindSaver writeBehindSaver; // null if changes are saved on the thread that raised them
+    private final UnsavedChanges<Person> unsavedPersonChanges = new UnsavedChanges<>();
+    private final UnsavedChanges<Expenses> unsavedExpensesChanges = new UnsavedChanges<>();
+    private final UnsavedChanges<Recruitment> unsavedRecruitmentChanges = new UnsavedChanges<>();
+    private final UnsavedChanges<Schedule> unsavedScheduleChanges = new UnsavedChanges<>();
+
+    /**
+     * Creates a {@code StorageManager} that saves changed data on the thread that raised the change event.
+     */
     public StorageManager(AddressBookStorage addressBookStorage, ExpensesListStorage expensesListStorage,
                           ScheduleListStorage scheduleListStorage,
                           RecruitmentListStorage recruitmentListStorage,
@@ -49,6 +67,111 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
         this.scheduleListStorage = scheduleListStorage;
         this.recruitmentListStorage = recruitmentListStorage;
+        this.writeBehindSaver = null;
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changed data on a background thread.
+     * Changes made to a list within {@code saveCoalescingWindowMillis} of each other are saved together.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, ExpensesListStorage expensesListStorage,
+                          ScheduleListStorage scheduleListStorage,
+                          RecruitmentListStorage recruitmentListStorage,
+                          UserPrefsStorage userPrefsStorage, long saveCoalescingWindowMillis) {
+        super();
+        this.addressBookStorage = addressBookStorage;
+        this.expensesListStorage = expensesListStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.scheduleListStorage = scheduleListStorage;
+        this.recruitmentListStorage = recruitmentListStorage;
+        this.writeBehindSaver = new WriteBehindSaver(saveCoalescingWindowMillis, e ->
+            raise(new DataSavingExceptionEvent(e)));
+    }
+
+    // ================ Write-behind methods ==============================
+
+    @Override
+    public void flush() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+    }
+
+    private boolean isWriteBehind() {
+        return writeBehindSaver != null;
+    }
+
+    /**
+     * Runs {@code save} now, or on the writer thread if saving in the background.
+     * Raises {@link DataSavingExceptionEvent} if the save fails.
+     */
+    private void save(ModelTypes type, WriteBehindSaver.Save save) {
+        if (isWriteBehind()) {
+            writeBehindSaver.submit(type, save);
+            return;
+        }
+
+        try {
+            save.run();
+        } catch (IOException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
+    }
+
+    /**
+     * Returns the list of {@code elements} to save: the list itself, or an unmodifiable copy of it if saving in the
+     * background, as the model may change before the save runs. Only the references to the elements are copied,
+     * as the elements are immutable.
+     */
+    private <T> ObservableList<T> getListToSave(ObservableList<T> elements) {
+        if (!isWriteBehind()) {
+            return elements;
+        }
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(elements));
+    }
+
+    /**
+     * The changes made to a list that have not been saved yet, with the list after the last of them.
+     * Each save takes all of them, so the changes of saves that were coalesced away are saved by the save that
+     * replaced them.
+     */
+    private static class UnsavedChanges<T> {
+        private ObservableList<T> elements;
+        private List<ListChanges<T>> changes = new ArrayList<>();
+
+        /**
+         * Adds {@code changes}, which lead to {@code elements}.
+         */
+        private synchronized void add(ObservableList<T> elements, ListChanges<T> changes) {
+            this.elements = elements;
+            this.changes.add(changes);
+        }
+
+        /**
+         * Saves the changes not saved yet with {@code save}, if an earlier save has not already taken them.
+         */
+        private void save(ChangesSave<T> save) throws IOException {
+            ObservableList<T> elementsToSave;
+            List<ListChanges<T>> changesToSave;
+            synchronized (this) {
+                if (changes.isEmpty()) {
+                    return;
+                }
+                elementsToSave = elements;
+                changesToSave = changes;
+                elements = null;
+                changes = new ArrayList<>();
+            }
+            save.save(elementsToSave, changesToSave);
+        }
+    }
+
+    /**
+     * A save of a list, given the changes made to it since it was last saved.
+     */
+    @FunctionalInterface
+    private interface ChangesSave<T> {
+        void save(ObservableList<T> elements, List<ListChanges<T>> changes) throws IOException;
     }
 
     // ================ UserPrefs methods ==============================
@@ -98,16 +221,25 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListChanges<Person>> changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.changes.isEmpty()) {
+            logger.fine("No data changed, not saving");
+            return;
         }
+        unsavedPersonChanges.add(getListToSave(event.data.getPersonList()), event.changes);
+        save(ModelTypes.ADDRESS_BOOK, () -> unsavedPersonChanges.save((persons, changes) ->
+                saveAddressBookChanges(() -> persons, changes)));
     }
 
     // ================ ExpensesList methods ==============================
@@ -133,15 +265,24 @@ public class StorageManager extends ComponentManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         expensesListStorage.saveExpensesList(expensesList, filePath);
     }
+
+    @Override
+    public void saveExpensesListChanges(ReadOnlyExpensesList expensesList, List<ListChanges<Expenses>> changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + expensesListStorage.getExpensesListFilePath());
+        expensesListStorage.saveExpensesListChanges(expensesList, changes);
+    }
     @Override
     @Subscribe
     public void handleExpensesListChangedEvent(ExpensesListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveExpensesList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.changes.isEmpty()) {
+            logger.fine("No data changed, not saving");
+            return;
         }
+        unsavedExpensesChanges.add(getListToSave(event.data.getExpensesRequestList()), event.changes);
+        save(ModelTypes.EXPENSES_LIST, () -> unsavedExpensesChanges.save((expenses, changes) ->
+                saveExpensesListChanges(() -> expenses, changes)));
     }
 
 
@@ -171,15 +312,24 @@ public class StorageManager extends ComponentManager implements Storage {
         recruitmentListStorage.saveRecruitmentList(recruitmentList, filePath);
     }
 
+    @Override
+    public void saveRecruitmentListChanges(ReadOnlyRecruitmentList recruitmentList,
+            List<ListChanges<Recruitment>> changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + recruitmentListStorage.getRecruitmentListFilePath());
+        recruitmentListStorage.saveRecruitmentListChanges(recruitmentList, changes);
+    }
+
     @Override
     @Subscribe
     public void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveRecruitmentList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.changes.isEmpty()) {
+            logger.fine("No data changed, not saving");
+            return;
         }
+        unsavedRecruitmentChanges.add(getListToSave(event.data.getRecruitmentList()), event.changes);
+        save(ModelTypes.RECRUITMENT_LIST, () -> unsavedRecruitmentChanges.save((recruitments, changes) ->
+                saveRecruitmentListChanges(() -> recruitments, changes)));
     }
 
     // ================ ScheduleList methods ==============================
@@ -211,17 +361,25 @@ public class StorageManager extends ComponentManager implements Storage {
         scheduleListStorage.saveScheduleList(scheduleList, filePath);
     }
 
+    @Override
+    public void saveScheduleListChanges(ReadOnlyScheduleList scheduleList, List<ListChanges<Schedule>> changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + scheduleListStorage.getScheduleListFilePath());
+        scheduleListStorage.saveScheduleListChanges(scheduleList, changes);
+    }
+
 
     @Override
     @Subscribe
     public void handleScheduleListChangedEvent(ScheduleListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-
-        try {
-            saveScheduleList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.changes.isEmpty()) {
+            logger.fine("No data changed, not saving");
+            return;
         }
+        unsavedScheduleChanges.add(getListToSave(event.data.getScheduleList()), event.changes);
+        save(ModelTypes.SCHEDULES_LIST, () -> unsavedScheduleChanges.save((schedules, changes) ->
+                saveScheduleListChanges(() -> schedules, changes)));
     }
 
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookFileStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesFileStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentFileStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleFileStorage;
+import seedu.address.storage.userpref.JsonUserPrefsStorage;
+
+/**
+ * Writes made-up data from a {@link SyntheticDataGenerator} to the data files in the user prefs, replacing them.
+ * Each file is written in the format its file extension stands for, as the app reads it, one element at a time,
+ * so files far larger than the memory can be written.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.storage.SyntheticDataWriter employees [years of schedules
+ * [scheduled days a year [recruitment posts [seed [user prefs file]]]]]}
+ */
+public class SyntheticDataWriter {
+
+    public static final int DEFAULT_SCHEDULE_YEAR_COUNT = 1;
+    public static final int DEFAULT_SCHEDULE_DAYS_PER_YEAR = 20;
+    public static final int DEFAULT_RECRUITMENT_POST_COUNT = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(SyntheticDataWriter.class);
+
+    /**
+     * Writes the data described by the arguments to the data files in the given user prefs file, or in the
+     * default user prefs file if there is none. Only the number of employees has to be given.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: SyntheticDataWriter employees [years of schedules "
+                    + "[scheduled days a year [recruitment posts [seed [user prefs file]]]]]");
+        }
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                args.length > 4 ? Long.parseLong(args[4]) : SyntheticDataGenerator.DEFAULT_SEED,
+                Integer.parseInt(args[0]),
+                args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SCHEDULE_YEAR_COUNT,
+                args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SCHEDULE_DAYS_PER_YEAR,
+                args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_RECRUITMENT_POST_COUNT);
+        Path userPrefsFilePath = args.length > 5 ? Paths.get(args[5]) : new Config().getUserPrefsFilePath();
+        write(generator, new JsonUserPrefsStorage(userPrefsFilePath).readUserPrefs().orElse(new UserPrefs()));
+    }
+
+    /**
+     * Writes the employees, schedules, expenses claims and recruitment posts of {@code generator} to the data files
+     * in {@code userPrefs}, as xml files or binary snapshots depending on their file extensions.
+     * @throws IOException if there was any problem writing the files.
+     */
+    public static void write(SyntheticDataGenerator generator, UserPrefs userPrefs) throws IOException {
+        requireNonNull(generator);
+        requireNonNull(userPrefs);
+
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        FileUtil.createIfMissing(addressBookFilePath);
+        if (BinarySnapshotFile.isBinarySnapshot(addressBookFilePath)) {
+            BinaryAddressBookStorage.savePersonsToFile(addressBookFilePath, generator.getPersons().iterator());
+        } else {
+            XmlAddressBookFileStorage.savePersonsToFile(addressBookFilePath, generator.getPersons().iterator());
+        }
+        logWrite(addressBookFilePath);
+
+        Path scheduleListFilePath = userPrefs.getScheduleListFilePath();
+        FileUtil.createIfMissing(scheduleListFilePath);
+        if (BinarySnapshotFile.isBinarySnapshot(scheduleListFilePath)) {
+            BinaryScheduleListStorage.saveSchedulesToFile(scheduleListFilePath, generator.getSchedules().iterator());
+        } else {
+            XmlScheduleFileStorage.saveSchedulesToFile(scheduleListFilePath, generator.getSchedules().iterator());
+        }
+        logWrite(scheduleListFilePath);
+
+        Path expensesListFilePath = userPrefs.getExpensesListFilePath();
+        FileUtil.createIfMissing(expensesListFilePath);
+        if (BinarySnapshotFile.isBinarySnapshot(expensesListFilePath)) {
+            BinaryExpensesListStorage.saveExpensesToFile(expensesListFilePath, generator.getExpenses().iterator());
+        } else {
+            XmlExpensesFileStorage.saveExpensesToFile(expensesListFilePath, generator.getExpenses().iterator());
+        }
+        logWrite(expensesListFilePath);
+
+        Path recruitmentListFilePath = userPrefs.getRecruitmentListFilePath();
+        FileUtil.createIfMissing(recruitmentListFilePath);
+        if (BinarySnapshotFile.isBinarySnapshot(recruitmentListFilePath)) {
+            BinaryRecruitmentListStorage.saveRecruitmentsToFile(recruitmentListFilePath,
+                    generator.getRecruitments().iterator());
+        } else {
+            XmlRecruitmentFileStorage.saveRecruitmentsToFile(recruitmentListFilePath,
+                    generator.getRecruitments().iterator());
+        }
+        logWrite(recruitmentListFilePath);
+    }
+
+    private static void logWrite(Path filePath) {
+        logger.info("Wrote synthetic data to " + filePath);
+    }
+}
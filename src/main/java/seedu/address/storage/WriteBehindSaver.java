@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelTypes;
+
+/**
+ * Saves data files on a dedicated background thread.
+ * A save is only started after the coalescing window has passed since the first unsaved change, and only the latest
+ * save submitted for each data file is run, so a burst of changes to the same list is written to disk once.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<ModelTypes, Save> pendingSaves = new EnumMap<>(ModelTypes.class);
+    private final long coalescingWindowMillis;
+    private final Consumer<IOException> failureHandler;
+    private boolean isWriteScheduled = false;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that waits {@code coalescingWindowMillis} before saving
+     * and passes any exception thrown by a save to {@code failureHandler} on the writer thread.
+     */
+    public WriteBehindSaver(long coalescingWindowMillis, Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.coalescingWindowMillis = Math.max(0, coalescingWindowMillis);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code save} to be run on the writer thread, replacing any save of the same {@code type}
+     * that has not started yet.
+     */
+    public synchronized void submit(ModelTypes type, Save save) {
+        requireNonNull(type);
+        requireNonNull(save);
+        pendingSaves.put(type, save);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::runPendingSaves, coalescingWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs all pending saves now and waits until they, and any save already running, are finished.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::runPendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves to finish");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs and removes all pending saves. Only called on the writer thread.
+     */
+    private void runPendingSaves() {
+        List<Save> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Save save : saves) {
+            try {
+                save.run();
+            } catch (IOException e) {
+                failureHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * A save of a data file.
+     */
+    @FunctionalInterface
+    public interface Save {
+        void run() throws IOException;
+    }
+}
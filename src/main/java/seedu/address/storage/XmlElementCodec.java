@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * Converts single elements of a list to and from xml fragments, using the same JAXB-friendly adapted classes
+ * (e.g. {@code XmlAdaptedPerson}) as the xml data files.
+ *
+ * @param <T> the model type of the elements
+ * @param <A> the JAXB-friendly adapted type of the elements
+ */
+public class XmlElementCodec<T, A> {
+
+    private static final String ELEMENT_NAME = "element";
+
+    private final Class<A> adaptedClass;
+    private final Function<T, A> toAdapted;
+    private final ModelConverter<A, T> toModel;
+
+    public XmlElementCodec(Class<A> adaptedClass, Function<T, A> toAdapted, ModelConverter<A, T> toModel) {
+        requireNonNull(adaptedClass);
+        requireNonNull(toAdapted);
+        requireNonNull(toModel);
+        this.adaptedClass = adaptedClass;
+        this.toAdapted = toAdapted;
+        this.toModel = toModel;
+    }
+
+    /**
+     * Returns {@code element} as an xml fragment.
+     */
+    public String encode(T element) {
+        try {
+            return XmlUtil.toXmlFragment(ELEMENT_NAME, adaptedClass, toAdapted.apply(element));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the element in the xml fragment {@code xml}.
+     * @throws DataConversionException if the fragment is not in the correct format or has illegal values.
+     */
+    public T decode(String xml) throws DataConversionException {
+        try {
+            return toModel.convert(XmlUtil.fromXmlFragment(xml, adaptedClass));
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts an adapted element to its model type.
+     */
+    @FunctionalInterface
+    public interface ModelConverter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+import seedu.address.storage.userpref.JsonUserPrefsStorage;
+
+/**
+ * Converts the xml data files in the user prefs to binary snapshots next to them, and points the user prefs
+ * to the snapshots so that the app uses them from its next launch.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.storage.XmlToBinarySnapshotConverter [user prefs file]}
+ */
+public class XmlToBinarySnapshotConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlToBinarySnapshotConverter.class);
+
+    /**
+     * Converts the data files in the user prefs file given as the first argument, or in the default user prefs file
+     * if there are no arguments.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        Path userPrefsFilePath = args.length > 0 ? Paths.get(args[0]) : new Config().getUserPrefsFilePath();
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(userPrefsFilePath);
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElse(new UserPrefs());
+        convert(userPrefs);
+        userPrefsStorage.saveUserPrefs(userPrefs);
+        logger.info("Updated " + userPrefsFilePath + " to use the converted data files");
+    }
+
+    /**
+     * Converts each xml data file in {@code userPrefs} that exists to a binary snapshot and updates
+     * {@code userPrefs} with the path of the snapshot. Data files that are already snapshots are left as they are.
+     * @throws DataConversionException if a data file is not in the expected format.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    public static void convert(UserPrefs userPrefs) throws DataConversionException, IOException {
+        requireNonNull(userPrefs);
+
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (!BinarySnapshotFile.isBinarySnapshot(addressBookFilePath)) {
+            Optional<ReadOnlyAddressBook> addressBook = new XmlAddressBookStorage(addressBookFilePath)
+                    .readAddressBook();
+            if (addressBook.isPresent()) {
+                Path snapshotFilePath = BinarySnapshotFile.toBinarySnapshotPath(addressBookFilePath);
+                new BinaryAddressBookStorage(snapshotFilePath).saveAddressBook(addressBook.get());
+                userPrefs.setAddressBookFilePath(snapshotFilePath);
+                logConversion(addressBookFilePath, snapshotFilePath);
+            }
+        }
+
+        Path scheduleListFilePath = userPrefs.getScheduleListFilePath();
+        if (!BinarySnapshotFile.isBinarySnapshot(scheduleListFilePath)) {
+            Optional<ReadOnlyScheduleList> scheduleList = new XmlScheduleListStorage(scheduleListFilePath)
+                    .readScheduleList();
+            if (scheduleList.isPresent()) {
+                Path snapshotFilePath = BinarySnapshotFile.toBinarySnapshotPath(scheduleListFilePath);
+                new BinaryScheduleListStorage(snapshotFilePath).saveScheduleList(scheduleList.get());
+                userPrefs.setScheduleListFilePath(snapshotFilePath);
+                logConversion(scheduleListFilePath, snapshotFilePath);
+            }
+        }
+
+        Path expensesListFilePath = userPrefs.getExpensesListFilePath();
+        if (!BinarySnapshotFile.isBinarySnapshot(expensesListFilePath)) {
+            Optional<ReadOnlyExpensesList> expensesList = new XmlExpensesListStorage(expensesListFilePath)
+                    .readExpensesList();
+            if (expensesList.isPresent()) {
+                Path snapshotFilePath = BinarySnapshotFile.toBinarySnapshotPath(expensesListFilePath);
+                new BinaryExpensesListStorage(snapshotFilePath).saveExpensesList(expensesList.get());
+                userPrefs.setExpensesListFilePath(snapshotFilePath);
+                logConversion(expensesListFilePath, snapshotFilePath);
+            }
+        }
+
+        Path recruitmentListFilePath = userPrefs.getRecruitmentListFilePath();
+        if (!BinarySnapshotFile.isBinarySnapshot(recruitmentListFilePath)) {
+            Optional<ReadOnlyRecruitmentList> recruitmentList = new XmlRecruitmentListStorage(recruitmentListFilePath)
+                    .readRecruitmentList();
+            if (recruitmentList.isPresent()) {
+                Path snapshotFilePath = BinarySnapshotFile.toBinarySnapshotPath(recruitmentListFilePath);
+                new BinaryRecruitmentListStorage(snapshotFilePath).saveRecruitmentList(recruitmentList.get());
+                userPrefs.setRecruitmentListFilePath(snapshotFilePath);
+                logConversion(recruitmentListFilePath, snapshotFilePath);
+            }
+        }
+    }
+
+    private static void logConversion(Path xmlFilePath, Path snapshotFilePath) {
+        logger.info("Converted " + xmlFilePath + " to " + snapshotFilePath);
+    }
+}
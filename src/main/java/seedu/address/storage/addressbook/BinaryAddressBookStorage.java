@@ -0,0 +1,165 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.Money;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Bonus;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Department;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.Salary;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.tag.Tag;
+import seedu.address.storage.BinarySnapshotFile;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final int SNAPSHOT_KIND = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(BinarySnapshotFile.load(filePath, SNAPSHOT_KIND,
+                    BinaryAddressBookStorage::readPerson));
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + filePath);
+            throw new DataConversionException(dpe);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        savePersonsToFile(filePath, addressBook.getPersonList().iterator());
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListChanges<Person>> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the persons left in {@code persons} to {@code filePath} as a snapshot, writing each one as soon as
+     * it is taken from the iterator.
+     */
+    public static void savePersonsToFile(Path filePath, Iterator<Person> persons) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(persons);
+
+        BinarySnapshotFile.save(filePath, SNAPSHOT_KIND, persons, BinaryAddressBookStorage::writePerson);
+    }
+
+    /**
+     * Writes {@code person} as one element of the snapshot.
+     */
+    private static void writePerson(Person person, DataOutput out) throws IOException {
+        BinarySnapshotFile.writeString(out, person.getEmployeeId().value);
+        BinarySnapshotFile.writeString(out, person.getName().fullName);
+        BinarySnapshotFile.writeString(out, person.getDateOfBirth().value);
+        BinarySnapshotFile.writeString(out, person.getPhone().value);
+        BinarySnapshotFile.writeString(out, person.getEmail().value);
+        BinarySnapshotFile.writeString(out, person.getDepartment().value);
+        BinarySnapshotFile.writeString(out, person.getPosition().value);
+        BinarySnapshotFile.writeString(out, person.getAddress().value);
+        out.writeBoolean(person.getSalary().isPercentage());
+        BinarySnapshotFile.writeMoney(out, person.getSalary().getAmount());
+        BinarySnapshotFile.writeMoney(out, person.getBonus().getAmount());
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            BinarySnapshotFile.writeString(out, tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(Person, DataOutput)}.
+     */
+    private static Person readPerson(DataInput in) throws IOException {
+        EmployeeId employeeId = new EmployeeId(BinarySnapshotFile.readString(in));
+        Name name = new Name(BinarySnapshotFile.readString(in));
+        DateOfBirth dateOfBirth = new DateOfBirth(BinarySnapshotFile.readString(in));
+        Phone phone = new Phone(BinarySnapshotFile.readString(in));
+        Email email = new Email(BinarySnapshotFile.readString(in));
+        Department department = new Department(BinarySnapshotFile.readString(in));
+        Position position = new Position(BinarySnapshotFile.readString(in));
+        Address address = new Address(BinarySnapshotFile.readString(in));
+        Salary salary = readSalary(in);
+        Bonus bonus = Bonus.fromAmount(BinarySnapshotFile.readMoney(in));
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(BinarySnapshotFile.readString(in)));
+        }
+        return new Person(employeeId, name, dateOfBirth, phone, email, department, position, address, salary, bonus,
+                tags);
+    }
+
+    /**
+     * Reads a salary written by {@link #writePerson(Person, DataOutput)}, which may be a percentage.
+     */
+    private static Salary readSalary(DataInput in) throws IOException {
+        boolean isPercentage = in.readBoolean();
+        Money amount = BinarySnapshotFile.readMoney(in);
+        return isPercentage ? new Salary(Salary.PERCENTAGE_SIGN + amount) : Salary.fromAmount(amount);
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.MutationJournal;
+import seedu.address.storage.XmlElementCodec;
+
+/**
+ * A class to access AddressBook data stored as an xml file with a {@link MutationJournal} of the changes made
+ * since the file was last written in full.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final XmlElementCodec<Person, XmlAdaptedPerson> CODEC =
+            new XmlElementCodec<>(XmlAdaptedPerson.class, XmlAdaptedPerson::new, XmlAdaptedPerson::toModelType);
+
+    private final AddressBookStorage checkpointStorage;
+    private final MutationJournal<Person> journal;
+
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage) {
+        this(checkpointStorage, MutationJournal.DEFAULT_MAX_RECORDS, MutationJournal.DEFAULT_MAX_BYTES);
+    }
+
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage, int maxRecords, long maxBytes) {
+        requireNonNull(checkpointStorage);
+        this.checkpointStorage = checkpointStorage;
+        this.journal = new MutationJournal<>(checkpointStorage.getAddressBookFilePath(), CODEC, maxRecords,
+                maxBytes);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return checkpointStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> checkpoint = checkpointStorage.readAddressBook();
+        if (!checkpoint.isPresent()) {
+            return checkpoint;
+        }
+
+        List<Person> elements = journal.replay(checkpoint.get().getPersonList());
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(elements);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            return readAddressBook();
+        }
+        return checkpointStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        journal.checkpoint(() -> checkpointStorage.saveAddressBook(addressBook));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        checkpointStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListChanges<Person>> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        journal.save(changes, () -> checkpointStorage.saveAddressBook(addressBook));
+    }
+
+}
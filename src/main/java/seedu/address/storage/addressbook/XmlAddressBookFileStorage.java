@@ -1,40 +1,66 @@
 package seedu.address.storage.addressbook;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 
 import javax.xml.bind.JAXBException;
 
+import com.google.common.collect.Iterators;
+
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlAddressBookFileStorage {
 
     /**
-     * Saves the given addressbook data to the specified file.
+     * Saves the given address book to the specified file, converting and writing one person at a time.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        savePersonsToFile(file, addressBook.getPersonList().iterator());
+    }
+
+    /**
+     * Saves the persons left in {@code persons} to the specified file, converting and writing each one as soon as
+     * it is taken from the iterator.
+     */
+    public static void savePersonsToFile(Path file, Iterator<Person> persons) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveElementsToFile(file, XmlSerializableAddressBook.ROOT_ELEMENT_NAME,
+                    XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class,
+                    Iterators.transform(persons, XmlAdaptedPerson::new));
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns address book in the file or an empty address book
+     * Returns the address book in the file, reading and converting one person at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableAddressBook.ROOT_ELEMENT_NAME,
+                    XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, adapted -> {
+                    Person person = adapted.toModelType();
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return addressBook;
     }
-
-
 }
@@ -15,12 +15,14 @@ import seedu.address.model.person.Person;
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT_NAME)
 public class XmlSerializableAddressBook {
 
+    public static final String ROOT_ELEMENT_NAME = "addressbook";
+    public static final String PERSON_ELEMENT_NAME = "persons";
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
-    @XmlElement
+    @XmlElement(name = PERSON_ELEMENT_NAME)
     private List<XmlAdaptedPerson> persons;
 
     /**
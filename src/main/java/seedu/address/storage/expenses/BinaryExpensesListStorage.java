@@ -0,0 +1,127 @@
+package seedu.address.storage.expenses;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesAmount;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.MedicalExpenses;
+import seedu.address.model.expenses.MiscellaneousExpenses;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.expenses.TravelExpenses;
+import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.storage.BinarySnapshotFile;
+
+/**
+ * A class to access ExpensesList data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryExpensesListStorage implements ExpensesListStorage {
+
+    private static final int SNAPSHOT_KIND = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryExpensesListStorage.class);
+
+    private Path filePath;
+
+    public BinaryExpensesListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getExpensesListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList() throws DataConversionException, IOException {
+        return readExpensesList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("ExpensesList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ExpensesList expensesList = new ExpensesList();
+        try {
+            expensesList.setMultiExpenses(BinarySnapshotFile.load(filePath, SNAPSHOT_KIND,
+                    BinaryExpensesListStorage::readExpenses));
+        } catch (DuplicateExpensesException dee) {
+            logger.info("Duplicate expenses found in " + filePath);
+            throw new DataConversionException(dee);
+        }
+        return Optional.of(expensesList);
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList) throws IOException {
+        saveExpensesList(expensesList, filePath);
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException {
+        requireNonNull(expensesList);
+        requireNonNull(filePath);
+
+        saveExpensesToFile(filePath, expensesList.getExpensesRequestList().iterator());
+    }
+
+    @Override
+    public void saveExpensesListChanges(ReadOnlyExpensesList expensesList, List<ListChanges<Expenses>> changes)
+            throws IOException {
+        saveExpensesList(expensesList);
+    }
+
+    /**
+     * Saves the expenses claims left in {@code expenses} to {@code filePath} as a snapshot, writing each one as soon as
+     * it is taken from the iterator.
+     */
+    public static void saveExpensesToFile(Path filePath, Iterator<Expenses> expenses) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(expenses);
+
+        BinarySnapshotFile.save(filePath, SNAPSHOT_KIND, expenses, BinaryExpensesListStorage::writeExpenses);
+    }
+
+    /**
+     * Writes {@code expenses} as one element of the snapshot.
+     */
+    private static void writeExpenses(Expenses expenses, DataOutput out) throws IOException {
+        BinarySnapshotFile.writeString(out, expenses.getEmployeeId().value);
+        BinarySnapshotFile.writeMoney(out, expenses.getExpensesAmount().getAmount());
+        BinarySnapshotFile.writeMoney(out, expenses.getTravelExpenses().getAmount());
+        BinarySnapshotFile.writeMoney(out, expenses.getMedicalExpenses().getAmount());
+        BinarySnapshotFile.writeMoney(out, expenses.getMiscellaneousExpenses().getAmount());
+    }
+
+    /**
+     * Reads an expenses claim written by {@link #writeExpenses(Expenses, DataOutput)}.
+     */
+    private static Expenses readExpenses(DataInput in) throws IOException {
+        EmployeeId employeeId = new EmployeeId(BinarySnapshotFile.readString(in));
+        ExpensesAmount expensesAmount = ExpensesAmount.fromAmount(BinarySnapshotFile.readMoney(in));
+        TravelExpenses travelExpenses = TravelExpenses.fromAmount(BinarySnapshotFile.readMoney(in));
+        MedicalExpenses medicalExpenses = MedicalExpenses.fromAmount(BinarySnapshotFile.readMoney(in));
+        MiscellaneousExpenses miscellaneousExpenses =
+                MiscellaneousExpenses.fromAmount(BinarySnapshotFile.readMoney(in));
+        return new Expenses(employeeId, expensesAmount, travelExpenses, medicalExpenses, miscellaneousExpenses);
+    }
+
+}
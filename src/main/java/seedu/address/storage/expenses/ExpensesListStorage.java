@@ -2,9 +2,12 @@ package seedu.address.storage.expenses;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /**
@@ -41,4 +44,12 @@ public interface ExpensesListStorage {
      */
     void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyExpensesList}, which {@code changes} lead to from the expenses list saved last,
+     * in the order they were made. Storages that write the whole file every time do not need the changes.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveExpensesListChanges(ReadOnlyExpensesList expensesList, List<ListChanges<Expenses>> changes)
+            throws IOException;
+
 }
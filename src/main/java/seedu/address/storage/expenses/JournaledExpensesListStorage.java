@@ -0,0 +1,96 @@
+package seedu.address.storage.expenses;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
+import seedu.address.storage.MutationJournal;
+import seedu.address.storage.XmlElementCodec;
+
+/**
+ * A class to access ExpensesList data stored as an xml file with a {@link MutationJournal} of the changes made
+ * since the file was last written in full.
+ */
+public class JournaledExpensesListStorage implements ExpensesListStorage {
+
+    private static final XmlElementCodec<Expenses, XmlAdaptedExpenses> CODEC =
+            new XmlElementCodec<>(XmlAdaptedExpenses.class, XmlAdaptedExpenses::new, XmlAdaptedExpenses::toModelType);
+
+    private final ExpensesListStorage checkpointStorage;
+    private final MutationJournal<Expenses> journal;
+
+    public JournaledExpensesListStorage(ExpensesListStorage checkpointStorage) {
+        this(checkpointStorage, MutationJournal.DEFAULT_MAX_RECORDS, MutationJournal.DEFAULT_MAX_BYTES);
+    }
+
+    public JournaledExpensesListStorage(ExpensesListStorage checkpointStorage, int maxRecords, long maxBytes) {
+        requireNonNull(checkpointStorage);
+        this.checkpointStorage = checkpointStorage;
+        this.journal = new MutationJournal<>(checkpointStorage.getExpensesListFilePath(), CODEC, maxRecords,
+                maxBytes);
+    }
+
+    @Override
+    public Path getExpensesListFilePath() {
+        return checkpointStorage.getExpensesListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList() throws DataConversionException, IOException {
+        Optional<ReadOnlyExpensesList> checkpoint = checkpointStorage.readExpensesList();
+        if (!checkpoint.isPresent()) {
+            return checkpoint;
+        }
+
+        List<Expenses> elements = journal.replay(checkpoint.get().getExpensesRequestList());
+        ExpensesList expensesList = new ExpensesList();
+        try {
+            expensesList.setMultiExpenses(elements);
+        } catch (DuplicateExpensesException dee) {
+            throw new DataConversionException(dee);
+        }
+        return Optional.of(expensesList);
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getExpensesListFilePath())) {
+            return readExpensesList();
+        }
+        return checkpointStorage.readExpensesList(filePath);
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList) throws IOException {
+        requireNonNull(expensesList);
+        journal.checkpoint(() -> checkpointStorage.saveExpensesList(expensesList));
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getExpensesListFilePath())) {
+            saveExpensesList(expensesList);
+            return;
+        }
+        checkpointStorage.saveExpensesList(expensesList, filePath);
+    }
+
+    @Override
+    public void saveExpensesListChanges(ReadOnlyExpensesList expensesList, List<ListChanges<Expenses>> changes)
+            throws IOException {
+        requireNonNull(expensesList);
+        journal.save(changes, () -> checkpointStorage.saveExpensesList(expensesList));
+    }
+
+}
@@ -1,38 +1,67 @@
 package seedu.address.storage.expenses;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 
 import javax.xml.bind.JAXBException;
 
+import com.google.common.collect.Iterators;
+
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlExpensesFileStorage {
+
+    /**
+     * Saves the given expenses list to the specified file, converting and writing one expenses at a time.
+     */
+    public static void saveExpensesListToFile(Path file, ReadOnlyExpensesList expensesList) throws IOException {
+        saveExpensesToFile(file, expensesList.getExpensesRequestList().iterator());
+    }
+
     /**
-     * Saves the given expenses list data to the specified file.
+     * Saves the expenses claims left in {@code expenses} to the specified file, converting and writing each one
+     * as soon as it is taken from the iterator.
      */
-    public static void saveDataToFile(Path file, XmlSerializableExpensesList expensesList)
-            throws FileNotFoundException {
+    public static void saveExpensesToFile(Path file, Iterator<Expenses> expenses) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, expensesList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableExpensesList.ROOT_ELEMENT_NAME,
+                    XmlSerializableExpensesList.EXPENSES_ELEMENT_NAME, XmlAdaptedExpenses.class,
+                    Iterators.transform(expenses, XmlAdaptedExpenses::new));
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns expenses list in the file or an empty expenses list
+     * Returns the expenses list in the file, reading and converting one expenses at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableExpensesList loadDataFromExpensesSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static ExpensesList loadExpensesListFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        ExpensesList expensesList = new ExpensesList();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableExpensesList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableExpensesList.ROOT_ELEMENT_NAME,
+                    XmlSerializableExpensesList.EXPENSES_ELEMENT_NAME, XmlAdaptedExpenses.class, adapted -> {
+                    Expenses expenses = adapted.toModelType();
+                    if (expensesList.hasExpenses(expenses)) {
+                        throw new IllegalValueException(XmlSerializableExpensesList.MESSAGE_DUPLICATE_EXPENSES);
+                    }
+                    expensesList.addExpenses(expenses);
+                });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return expensesList;
     }
 }
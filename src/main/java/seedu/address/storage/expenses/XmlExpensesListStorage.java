@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +14,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ListChanges;
+import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /**
@@ -51,9 +54,8 @@ public class XmlExpensesListStorage implements ExpensesListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableExpensesList xmlExpensesList = XmlExpensesFileStorage.loadDataFromExpensesSaveFile(filePath);
         try {
-            return Optional.of(xmlExpensesList.toModelType());
+            return Optional.of(XmlExpensesFileStorage.loadExpensesListFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +76,13 @@ public class XmlExpensesListStorage implements ExpensesListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlExpensesFileStorage.saveDataToFile(filePath, new XmlSerializableExpensesList(expensesList));
+        XmlExpensesFileStorage.saveExpensesListToFile(filePath, expensesList);
+    }
+
+    @Override
+    public void saveExpensesListChanges(ReadOnlyExpensesList expensesList, List<ListChanges<Expenses>> changes)
+            throws IOException {
+        saveExpensesList(expensesList);
     }
 
 }
@@ -15,12 +15,14 @@ import seedu.address.model.expenses.ReadOnlyExpensesList;
 /**
  * An Immutable ExpensesList that is serializable to XML format
  */
-@XmlRootElement(name = "expenseslist")
+@XmlRootElement(name = XmlSerializableExpensesList.ROOT_ELEMENT_NAME)
 public class XmlSerializableExpensesList {
 
+    public static final String ROOT_ELEMENT_NAME = "expenseslist";
+    public static final String EXPENSES_ELEMENT_NAME = "multiExpenses";
     public static final String MESSAGE_DUPLICATE_EXPENSES = "Expenses list contains duplicate expenses).";
 
-    @XmlElement
+    @XmlElement(name = EXPENSES_ELEMENT_NAME)
     private List<XmlAdaptedExpenses> multiExpenses;
 
     /**
@@ -0,0 +1,121 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.recruitment.JobDescription;
+import seedu.address.model.recruitment.Post;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.recruitment.WorkExp;
+import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
+import seedu.address.storage.BinarySnapshotFile;
+
+/**
+ * A class to access RecruitmentList data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final int SNAPSHOT_KIND = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRecruitmentListStorage.class);
+
+    private Path filePath;
+
+    public BinaryRecruitmentListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getRecruitmentListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        return readRecruitmentList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("RecruitmentList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        RecruitmentList recruitmentList = new RecruitmentList();
+        try {
+            recruitmentList.setRecruitments(BinarySnapshotFile.load(filePath, SNAPSHOT_KIND,
+                    BinaryRecruitmentListStorage::readRecruitment));
+        } catch (DuplicateRecruitmentException dre) {
+            logger.info("Duplicate recruitment posts found in " + filePath);
+            throw new DataConversionException(dre);
+        }
+        return Optional.of(recruitmentList);
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        saveRecruitmentList(recruitmentList, filePath);
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(recruitmentList);
+        requireNonNull(filePath);
+
+        saveRecruitmentsToFile(filePath, recruitmentList.getRecruitmentList().iterator());
+    }
+
+    @Override
+    public void saveRecruitmentListChanges(ReadOnlyRecruitmentList recruitmentList,
+            List<ListChanges<Recruitment>> changes) throws IOException {
+        saveRecruitmentList(recruitmentList);
+    }
+
+    /**
+     * Saves the posts left in {@code recruitments} to {@code filePath} as a snapshot, writing each one as soon as
+     * it is taken from the iterator.
+     */
+    public static void saveRecruitmentsToFile(Path filePath, Iterator<Recruitment> recruitments) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(recruitments);
+
+        BinarySnapshotFile.save(filePath, SNAPSHOT_KIND, recruitments, BinaryRecruitmentListStorage::writeRecruitment);
+    }
+
+    /**
+     * Writes {@code recruitment} as one element of the snapshot.
+     */
+    private static void writeRecruitment(Recruitment recruitment, DataOutput out) throws IOException {
+        BinarySnapshotFile.writeString(out, recruitment.getPost().value);
+        BinarySnapshotFile.writeString(out, recruitment.getWorkExp().workExp);
+        BinarySnapshotFile.writeString(out, recruitment.getJobDescription().value);
+    }
+
+    /**
+     * Reads a recruitment written by {@link #writeRecruitment(Recruitment, DataOutput)}.
+     */
+    private static Recruitment readRecruitment(DataInput in) throws IOException {
+        Post post = new Post(BinarySnapshotFile.readString(in));
+        WorkExp workExp = new WorkExp(BinarySnapshotFile.readString(in));
+        JobDescription jobDescription = new JobDescription(BinarySnapshotFile.readString(in));
+        return new Recruitment(post, workExp, jobDescription);
+    }
+
+}
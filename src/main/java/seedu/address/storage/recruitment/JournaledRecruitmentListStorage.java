@@ -0,0 +1,98 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
+import seedu.address.storage.MutationJournal;
+import seedu.address.storage.XmlElementCodec;
+
+/**
+ * A class to access RecruitmentList data stored as an xml file with a {@link MutationJournal} of the changes made
+ * since the file was last written in full.
+ */
+public class JournaledRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final XmlElementCodec<Recruitment, XmlAdaptedRecruitment> CODEC =
+            new XmlElementCodec<>(XmlAdaptedRecruitment.class, XmlAdaptedRecruitment::new,
+                    XmlAdaptedRecruitment::toModelPost);
+
+    private final RecruitmentListStorage checkpointStorage;
+    private final MutationJournal<Recruitment> journal;
+
+    public JournaledRecruitmentListStorage(RecruitmentListStorage checkpointStorage) {
+        this(checkpointStorage, MutationJournal.DEFAULT_MAX_RECORDS, MutationJournal.DEFAULT_MAX_BYTES);
+    }
+
+    public JournaledRecruitmentListStorage(RecruitmentListStorage checkpointStorage, int maxRecords, long maxBytes) {
+        requireNonNull(checkpointStorage);
+        this.checkpointStorage = checkpointStorage;
+        this.journal = new MutationJournal<>(checkpointStorage.getRecruitmentListFilePath(), CODEC, maxRecords,
+                maxBytes);
+    }
+
+    @Override
+    public Path getRecruitmentListFilePath() {
+        return checkpointStorage.getRecruitmentListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        Optional<ReadOnlyRecruitmentList> checkpoint = checkpointStorage.readRecruitmentList();
+        if (!checkpoint.isPresent()) {
+            return checkpoint;
+        }
+
+        List<Recruitment> elements = journal.replay(checkpoint.get().getRecruitmentList());
+        RecruitmentList recruitmentList = new RecruitmentList();
+        try {
+            recruitmentList.setRecruitments(elements);
+        } catch (DuplicateRecruitmentException dre) {
+            throw new DataConversionException(dre);
+        }
+        return Optional.of(recruitmentList);
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getRecruitmentListFilePath())) {
+            return readRecruitmentList();
+        }
+        return checkpointStorage.readRecruitmentList(filePath);
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        requireNonNull(recruitmentList);
+        journal.checkpoint(() -> checkpointStorage.saveRecruitmentList(recruitmentList));
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getRecruitmentListFilePath())) {
+            saveRecruitmentList(recruitmentList);
+            return;
+        }
+        checkpointStorage.saveRecruitmentList(recruitmentList, filePath);
+    }
+
+    @Override
+    public void saveRecruitmentListChanges(ReadOnlyRecruitmentList recruitmentList,
+            List<ListChanges<Recruitment>> changes) throws IOException {
+        requireNonNull(recruitmentList);
+        journal.save(changes, () -> checkpointStorage.saveRecruitmentList(recruitmentList));
+    }
+
+}
@@ -2,10 +2,13 @@ package seedu.address.storage.recruitment;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
 
 /**
  * Represents a storage for {@link Recruitment}.
@@ -42,4 +45,12 @@ public interface RecruitmentListStorage {
      */
     void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyRecruitmentList}, which {@code changes} lead to from the recruitment list
+     * saved last, in the order they were made. Storages that write the whole file every time do not need the changes.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveRecruitmentListChanges(ReadOnlyRecruitmentList recruitmentList, List<ListChanges<Recruitment>> changes)
+            throws IOException;
+
 }
@@ -1,41 +1,68 @@
 package seedu.address.storage.recruitment;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 
 import javax.xml.bind.JAXBException;
 
+import com.google.common.collect.Iterators;
+
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlRecruitmentFileStorage {
 
+    /**
+     * Saves the given recruitment list to the specified file, converting and writing one post at a time.
+     */
+    public static void saveRecruitmentListToFile(Path file, ReadOnlyRecruitmentList recruitmentList)
+            throws IOException {
+        saveRecruitmentsToFile(file, recruitmentList.getRecruitmentList().iterator());
+    }
 
     /**
-     * Saves the given recruitmentlist data to the specified file.
+     * Saves the posts left in {@code recruitments} to the specified file, converting and writing each one as soon as
+     * it is taken from the iterator.
      */
-    public static void saveDataToFile(Path file, XmlSerializableRecruitmentList recruitmentList)
-            throws FileNotFoundException {
+    public static void saveRecruitmentsToFile(Path file, Iterator<Recruitment> recruitments) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, recruitmentList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableRecruitmentList.ROOT_ELEMENT_NAME,
+                    XmlSerializableRecruitmentList.RECRUITMENT_ELEMENT_NAME, XmlAdaptedRecruitment.class,
+                    Iterators.transform(recruitments, XmlAdaptedRecruitment::new));
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns recruitment list in the file or an empty recruitment list
+     * Returns the recruitment list in the file, reading and converting one post at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableRecruitmentList loadDataFromSaveRecruitmentListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static RecruitmentList loadRecruitmentListFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        RecruitmentList recruitmentList = new RecruitmentList();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableRecruitmentList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableRecruitmentList.ROOT_ELEMENT_NAME,
+                    XmlSerializableRecruitmentList.RECRUITMENT_ELEMENT_NAME, XmlAdaptedRecruitment.class, adapted -> {
+                    Recruitment recruitment = adapted.toModelPost();
+                    if (recruitmentList.hasRecruitment(recruitment)) {
+                        throw new IllegalValueException(XmlSerializableRecruitmentList.MESSAGE_DUPLICATE_RECRUITMENT);
+                    }
+                    recruitmentList.addRecruitment(recruitment);
+                });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return recruitmentList;
     }
-
 }
@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,7 +14,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ListChanges;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
 
 /**
  * A class to access RecruitmentList data stored as an xml file on the hard disk.
@@ -51,10 +54,8 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableRecruitmentList
-                xmlRecruitmentList = XmlRecruitmentFileStorage.loadDataFromSaveRecruitmentListFile(filePath);
         try {
-            return Optional.of(xmlRecruitmentList.toModelType());
+            return Optional.of(XmlRecruitmentFileStorage.loadRecruitmentListFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -75,7 +76,13 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlRecruitmentFileStorage.saveDataToFile(filePath, new XmlSerializableRecruitmentList(recruitmentList));
+        XmlRecruitmentFileStorage.saveRecruitmentListToFile(filePath, recruitmentList);
+    }
+
+    @Override
+    public void saveRecruitmentListChanges(ReadOnlyRecruitmentList recruitmentList,
+            List<ListChanges<Recruitment>> changes) throws IOException {
+        saveRecruitmentList(recruitmentList);
     }
 
 }
@@ -16,12 +16,14 @@ import seedu.address.model.recruitment.RecruitmentList;
 /**
  * An Immutable RecruitmentList that is serializable to XML format
  */
-@XmlRootElement(name = "recruitmentlist")
+@XmlRootElement(name = XmlSerializableRecruitmentList.ROOT_ELEMENT_NAME)
 public class XmlSerializableRecruitmentList {
 
+    public static final String ROOT_ELEMENT_NAME = "recruitmentlist";
+    public static final String RECRUITMENT_ELEMENT_NAME = "recruitments";
     public static final String MESSAGE_DUPLICATE_RECRUITMENT = "RecruitmentLists contain duplicate recruitmentPost(s).";
 
-    @XmlElement
+    @XmlElement(name = RECRUITMENT_ELEMENT_NAME)
     private List<XmlAdaptedRecruitment> recruitments;
 
     /**
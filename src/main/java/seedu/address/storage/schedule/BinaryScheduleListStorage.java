@@ -0,0 +1,118 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
+import seedu.address.storage.BinarySnapshotFile;
+
+/**
+ * A class to access ScheduleList data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryScheduleListStorage implements ScheduleListStorage {
+
+    private static final int SNAPSHOT_KIND = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleListStorage.class);
+
+    private Path filePath;
+
+    public BinaryScheduleListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("ScheduleList file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ScheduleList scheduleList = new ScheduleList();
+        try {
+            scheduleList.setSchedules(BinarySnapshotFile.load(filePath, SNAPSHOT_KIND,
+                    BinaryScheduleListStorage::readSchedule));
+        } catch (DuplicateScheduleException dse) {
+            logger.info("Duplicate schedules found in " + filePath);
+            throw new DataConversionException(dse);
+        }
+        return Optional.of(scheduleList);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        saveSchedulesToFile(filePath, scheduleList.getScheduleList().iterator());
+    }
+
+    @Override
+    public void saveScheduleListChanges(ReadOnlyScheduleList scheduleList, List<ListChanges<Schedule>> changes)
+            throws IOException {
+        saveScheduleList(scheduleList);
+    }
+
+    /**
+     * Saves the schedules left in {@code schedules} to {@code filePath} as a snapshot, writing each one as soon as
+     * it is taken from the iterator.
+     */
+    public static void saveSchedulesToFile(Path filePath, Iterator<Schedule> schedules) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(schedules);
+
+        BinarySnapshotFile.save(filePath, SNAPSHOT_KIND, schedules, BinaryScheduleListStorage::writeSchedule);
+    }
+
+    /**
+     * Writes {@code schedule} as one element of the snapshot.
+     */
+    private static void writeSchedule(Schedule schedule, DataOutput out) throws IOException {
+        BinarySnapshotFile.writeString(out, schedule.getEmployeeId().value);
+        BinarySnapshotFile.writeString(out, schedule.getType().value);
+        BinarySnapshotFile.writeDate(out, schedule.getScheduleDate());
+    }
+
+    /**
+     * Reads a schedule written by {@link #writeSchedule(Schedule, DataOutput)}.
+     */
+    private static Schedule readSchedule(DataInput in) throws IOException {
+        EmployeeId employeeId = new EmployeeId(BinarySnapshotFile.readString(in));
+        Type type = new Type(BinarySnapshotFile.readString(in));
+        return new Schedule(employeeId, type, BinarySnapshotFile.readDate(in));
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
+import seedu.address.storage.MutationJournal;
+import seedu.address.storage.XmlElementCodec;
+
+/**
+ * A class to access ScheduleList data stored as an xml file with a {@link MutationJournal} of the changes made
+ * since the file was last written in full.
+ */
+public class JournaledScheduleListStorage implements ScheduleListStorage {
+
+    private static final XmlElementCodec<Schedule, XmlAdaptedSchedule> CODEC =
+            new XmlElementCodec<>(XmlAdaptedSchedule.class, XmlAdaptedSchedule::new, XmlAdaptedSchedule::toModelType);
+
+    private final ScheduleListStorage checkpointStorage;
+    private final MutationJournal<Schedule> journal;
+
+    public JournaledScheduleListStorage(ScheduleListStorage checkpointStorage) {
+        this(checkpointStorage, MutationJournal.DEFAULT_MAX_RECORDS, MutationJournal.DEFAULT_MAX_BYTES);
+    }
+
+    public JournaledScheduleListStorage(ScheduleListStorage checkpointStorage, int maxRecords, long maxBytes) {
+        requireNonNull(checkpointStorage);
+        this.checkpointStorage = checkpointStorage;
+        this.journal = new MutationJournal<>(checkpointStorage.getScheduleListFilePath(), CODEC, maxRecords,
+                maxBytes);
+    }
+
+    @Override
+    public Path getScheduleListFilePath() {
+        return checkpointStorage.getScheduleListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        Optional<ReadOnlyScheduleList> checkpoint = checkpointStorage.readScheduleList();
+        if (!checkpoint.isPresent()) {
+            return checkpoint;
+        }
+
+        List<Schedule> elements = journal.replay(checkpoint.get().getScheduleList());
+        ScheduleList scheduleList = new ScheduleList();
+        try {
+            scheduleList.setSchedules(elements);
+        } catch (DuplicateScheduleException dse) {
+            throw new DataConversionException(dse);
+        }
+        return Optional.of(scheduleList);
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getScheduleListFilePath())) {
+            return readScheduleList();
+        }
+        return checkpointStorage.readScheduleList(filePath);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        requireNonNull(scheduleList);
+        journal.checkpoint(() -> checkpointStorage.saveScheduleList(scheduleList));
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getScheduleListFilePath())) {
+            saveScheduleList(scheduleList);
+            return;
+        }
+        checkpointStorage.saveScheduleList(scheduleList, filePath);
+    }
+
+    @Override
+    public void saveScheduleListChanges(ReadOnlyScheduleList scheduleList, List<ListChanges<Schedule>> changes)
+            throws IOException {
+        requireNonNull(scheduleList);
+        journal.save(changes, () -> checkpointStorage.saveScheduleList(scheduleList));
+    }
+
+}
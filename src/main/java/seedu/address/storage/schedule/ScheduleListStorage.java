@@ -2,11 +2,14 @@ package seedu.address.storage.schedule;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ListChanges;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * Represents a storage for {@link AddressBook}.
@@ -43,4 +46,12 @@ public interface ScheduleListStorage {
      */
     void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyScheduleList}, which {@code changes} lead to from the schedule list saved last,
+     * in the order they were made. Storages that write the whole file every time do not need the changes.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveScheduleListChanges(ReadOnlyScheduleList scheduleList, List<ListChanges<Schedule>> changes)
+            throws IOException;
+
 }
@@ -46,7 +46,7 @@ public class XmlAdaptedSchedule {
      */
     public XmlAdaptedSchedule(Schedule source) {
         employeeId = source.getEmployeeId().value;
-        date = source.getScheduleDate().value;
+        date = source.getScheduleDate().toString();
         type = source.getType().value;
     }
 
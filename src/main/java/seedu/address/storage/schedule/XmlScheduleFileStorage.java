@@ -1,41 +1,67 @@
 package seedu.address.storage.schedule;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 
 import javax.xml.bind.JAXBException;
 
+import com.google.common.collect.Iterators;
+
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
 
 /**
  * Stores schedule list data in an XML file
  */
 public class XmlScheduleFileStorage {
 
+    /**
+     * Saves the given schedule list to the specified file, converting and writing one schedule at a time.
+     */
+    public static void saveScheduleListToFile(Path file, ReadOnlyScheduleList scheduleList) throws IOException {
+        saveSchedulesToFile(file, scheduleList.getScheduleList().iterator());
+    }
 
     /**
-     * Saves the given schedule list data to the specified file.
+     * Saves the schedules left in {@code schedules} to the specified file, converting and writing each one as soon as
+     * it is taken from the iterator.
      */
-    public static void saveDataToFile(Path file, XmlSerializableScheduleList scheduleList)
-            throws FileNotFoundException {
+    public static void saveSchedulesToFile(Path file, Iterator<Schedule> schedules) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, scheduleList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableScheduleList.ROOT_ELEMENT_NAME,
+                    XmlSerializableScheduleList.SCHEDULE_ELEMENT_NAME, XmlAdaptedSchedule.class,
+                    Iterators.transform(schedules, XmlAdaptedSchedule::new));
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns schedule list in the file or an empty schedule list
+     * Returns the schedule list in the file, reading and converting one schedule at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableScheduleList loadDataFromSaveScheduleListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static ScheduleList loadScheduleListFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        ScheduleList scheduleList = new ScheduleList();
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableScheduleList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableScheduleList.ROOT_ELEMENT_NAME,
+                    XmlSerializableScheduleList.SCHEDULE_ELEMENT_NAME, XmlAdaptedSchedule.class, adapted -> {
+                    Schedule schedule = adapted.toModelType();
+                    if (scheduleList.hasSchedule(schedule)) {
+                        throw new IllegalValueException(XmlSerializableScheduleList.MESSAGE_DUPLICATE_SCHEDULE);
+                    }
+                    scheduleList.addSchedule(schedule);
+                });
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return scheduleList;
     }
-
 }
@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,7 +14,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ListChanges;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * A class to access ScheduleList data stored as an xml file on the hard disk.
@@ -51,9 +54,8 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableScheduleList xmlScheduleList = XmlScheduleFileStorage.loadDataFromSaveScheduleListFile(filePath);
         try {
-            return Optional.of(xmlScheduleList.toModelType());
+            return Optional.of(XmlScheduleFileStorage.loadScheduleListFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +76,13 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlScheduleFileStorage.saveDataToFile(filePath, new XmlSerializableScheduleList(scheduleList));
+        XmlScheduleFileStorage.saveScheduleListToFile(filePath, scheduleList);
+    }
+
+    @Override
+    public void saveScheduleListChanges(ReadOnlyScheduleList scheduleList, List<ListChanges<Schedule>> changes)
+            throws IOException {
+        saveScheduleList(scheduleList);
     }
 
 }
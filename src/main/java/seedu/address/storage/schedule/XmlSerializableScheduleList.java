@@ -16,12 +16,14 @@ import seedu.address.model.schedule.ScheduleList;
 /**
  * An Immutable ScheduleList that is serializable to XML format
  */
-@XmlRootElement(name = "schedulelist")
+@XmlRootElement(name = XmlSerializableScheduleList.ROOT_ELEMENT_NAME)
 public class XmlSerializableScheduleList {
 
+    public static final String ROOT_ELEMENT_NAME = "schedulelist";
+    public static final String SCHEDULE_ELEMENT_NAME = "schedules";
     public static final String MESSAGE_DUPLICATE_SCHEDULE = "Schedules list contains duplicate schedule(s).";
 
-    @XmlElement
+    @XmlElement(name = SCHEDULE_ELEMENT_NAME)
     private List<XmlAdaptedSchedule> schedules;
 
     /**
@@ -14,6 +14,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewMenuBarCmdClickedEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.logic.CommandExecutor;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
@@ -22,22 +23,33 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed one at a time by a {@code CommandExecutor}, off the JavaFX application thread. While a
+ * command is running, the command box cannot be edited, its progress is shown as the result, and Escape cancels it.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String MESSAGE_COMMAND_PROGRESS = "Running command: %1$d%% done. Press Esc to cancel.";
+    public static final String MESSAGE_CANCELLING = "Cancelling command...";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
+    private final CommandExecutor commandExecutor;
     private ListElementPointer historySnapshot;
+    private CommandExecutor.Execution runningCommand;
 
     @FXML
     private TextField commandTextField;
 
     public CommandBox(Logic logic) {
+        this(logic, new CommandExecutor(logic));
+    }
+
+    public CommandBox(Logic logic, CommandExecutor commandExecutor) {
         super(FXML);
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
@@ -49,6 +61,11 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleKeyPress(KeyEvent keyEvent) {
+        if (isCommandRunning()) {
+            handleKeyPressWhileRunning(keyEvent);
+            return;
+        }
+
         switch (keyEvent.getCode()) {
         case UP:
             // As up and down buttons will alter the position of the caret,
@@ -66,6 +83,26 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the key press event, {@code keyEvent}, while a command is running.
+     * Escape cancels the command, and keys that would change the text are ignored.
+     */
+    private void handleKeyPressWhileRunning(KeyEvent keyEvent) {
+        switch (keyEvent.getCode()) {
+        case ESCAPE:
+            keyEvent.consume();
+            runningCommand.cancel();
+            raise(new NewResultAvailableEvent(MESSAGE_CANCELLING));
+            break;
+        case UP:
+        case DOWN:
+            keyEvent.consume();
+            break;
+        default:
+            // the text field is not editable while a command is running
+        }
+    }
+
     /**
      * Updates the text field with the previous input in {@code historySnapshot},
      * if there exists a previous input in {@code historySnapshot}
@@ -102,26 +139,30 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event by submitting the command to the executor.
+     * The command box is locked until the outcome of the command is back.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
-            commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        if (isCommandRunning()) {
+            return;
         }
+
+        String commandText = commandTextField.getText();
+        commandTextField.setEditable(false);
+        runningCommand = commandExecutor.submit(commandText, new CommandListener(commandText));
+    }
+
+    private boolean isCommandRunning() {
+        return runningCommand != null;
+    }
+
+    /**
+     * Unlocks the command box once the outcome of the running command is back.
+     */
+    private void finishCommand() {
+        runningCommand = null;
+        commandTextField.setEditable(true);
     }
 
     /**
@@ -154,6 +195,48 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Shows the progress and the outcome of a command entered in the command box.
+     */
+    private class CommandListener implements CommandExecutor.Listener {
+
+        private final String commandText;
+
+        private CommandListener(String commandText) {
+            this.commandText = commandText;
+        }
+
+        @Override
+        public void progressed(int percentage) {
+            raise(new NewResultAvailableEvent(String.format(MESSAGE_COMMAND_PROGRESS, percentage)));
+        }
+
+        @Override
+        public void succeeded(CommandResult commandResult) {
+            finishCommand();
+            initHistory();
+            historySnapshot.next();
+            // process result of the command
+            commandTextField.setText("");
+            logger.info("Result: " + commandResult.feedbackToUser);
+            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+        }
+
+        @Override
+        public void failed(Exception e) {
+            finishCommand();
+            if (!(e instanceof CommandException || e instanceof ParseException)) {
+                throw new IllegalStateException("Unexpected error while executing " + commandText, e);
+            }
+
+            initHistory();
+            // handle command failure
+            setStyleToIndicateCommandFailure();
+            logger.info("Invalid command: " + commandText);
+            raise(new NewResultAvailableEvent(e.getMessage()));
+        }
+    }
+
     @Subscribe
     private void handleNewMenuBarCmdClickedEvent(NewMenuBarCmdClickedEvent event) {
         logger.fine(LogsCenter.getEventHandlingLogMessage(event));
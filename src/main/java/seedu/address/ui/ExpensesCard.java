@@ -7,6 +7,7 @@ import seedu.address.model.expenses.Expenses;
 
 /**
  * An UI component that displays information of a {@code Expenses}.
+ * The same card is bound to the expenses of each row that its list cell is reused for.
  */
 public class ExpensesCard extends UiPart<Region> {
 
@@ -20,7 +21,7 @@ public class ExpensesCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Expenses expenses;
+    private Expenses expenses;
 
     @FXML
     private Label id;
@@ -45,19 +46,33 @@ public class ExpensesCard extends UiPart<Region> {
     @FXML
     private Label miscellaneousExpensesLabel;
 
-    public ExpensesCard(Expenses expenses, int displayedIndex) {
+    /**
+     * Creates a card that shows no expenses until it is bound to one with {@link #setExpenses(Expenses, int)}.
+     */
+    ExpensesCard() {
         super(FXML);
+        employeeIdLabel.setText("Employee ID: ");
+        expensesAmountLabel.setText("Total Expenses: ");
+        travelExpensesLabel.setText("Travel Expenses: ");
+        medicalExpensesLabel.setText("Medical Expenses: ");
+        miscellaneousExpensesLabel.setText("Miscellaneous Expenses: ");
+    }
+
+    public ExpensesCard(Expenses expenses, int displayedIndex) {
+        this();
+        setExpenses(expenses, displayedIndex);
+    }
+
+    /**
+     * Shows {@code expenses} at {@code displayedIndex} on this card, in place of the expenses it showed before.
+     */
+    void setExpenses(Expenses expenses, int displayedIndex) {
         this.expenses = expenses;
         id.setText(displayedIndex + ". ");
-        employeeIdLabel.setText("Employee ID: ");
         employeeId.setText(expenses.getEmployeeId().value);
-        expensesAmountLabel.setText("Total Expenses: ");
         expensesAmount.setText(expenses.getExpensesAmount().expensesAmount);
-        travelExpensesLabel.setText("Travel Expenses: ");
         travelExpenses.setText(expenses.getTravelExpenses().travelExpenses);
-        medicalExpensesLabel.setText("Medical Expenses: ");
         medicalExpenses.setText(expenses.getMedicalExpenses().medicalExpenses);
-        miscellaneousExpensesLabel.setText("Miscellaneous Expenses: ");
         miscellaneousExpenses.setText(expenses.getMiscellaneousExpenses().miscellaneousExpenses);
     }
 
@@ -20,6 +20,9 @@ import seedu.address.model.expenses.Expenses;
  */
 public class ExpensesListPanel extends UiPart<Region> {
     private static final String FXML = "ExpensesListPanel.fxml";
+    // fixed height of a card of the employee id above the four amounts, which spares the list view measuring rows;
+    // the labels are kept to one line each so that nothing on the card is clipped
+    private static final double CELL_HEIGHT = 105;
     private final Logger logger = LogsCenter.getLogger(ExpensesListPanel.class);
 
     @FXML
@@ -33,6 +36,7 @@ public class ExpensesListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Expenses> expensesList) {
         expensesListView.setItems(expensesList);
+        expensesListView.setFixedCellSize(CELL_HEIGHT);
         expensesListView.setCellFactory(listView -> new ExpensesListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -64,9 +68,11 @@ public class ExpensesListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code expenses} using a {@code ExpensesCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code expenses} using its own {@code ExpensesCard}.
      */
     class ExpensesListViewCell extends ListCell<Expenses> {
+        private ExpensesCard card;
+
         @Override
         protected void updateItem(Expenses expenses, boolean empty) {
             super.updateItem(expenses, empty);
@@ -75,7 +81,11 @@ public class ExpensesListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpensesCard(expenses, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ExpensesCard();
+                }
+                card.setExpenses(expenses, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
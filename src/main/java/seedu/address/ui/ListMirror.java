@@ -0,0 +1,111 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list of the model that is only changed on the UI thread.
+ * Commands change the lists of the model on the command executor thread, including when they filter or sort them,
+ * so the list views are bound to copies instead. Each change to a model list is recorded on the thread it is made on
+ * and replayed on the copy on the UI thread, in the same order, so the copy goes through the same states as the list.
+ */
+class ListMirror<T> {
+
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private final Executor uiThread;
+    private final Queue<Replacement<T>> pendingReplacements = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayScheduled = new AtomicBoolean(false);
+
+    /**
+     * Creates a copy of {@code source} that follows the changes to it on {@code uiThread}.
+     * Must be called on the UI thread while {@code source} is not being changed.
+     */
+    ListMirror(ObservableList<T> source, Executor uiThread) {
+        requireNonNull(source);
+        requireNonNull(uiThread);
+        this.uiThread = uiThread;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns the copy of the list, as an unmodifiable list.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records {@code change} as replacements of ranges of the list, and schedules them to be replayed on the copy.
+     */
+    private void record(ListChangeListener.Change<? extends T> change) {
+        List<? extends T> list = change.getList();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // elements were moved or changed in place within the range, which is replaced by its new contents
+                List<T> elements = new ArrayList<>(list.subList(change.getFrom(), change.getTo()));
+                pendingReplacements.add(new Replacement<>(change.getFrom(), elements.size(), elements));
+            } else {
+                pendingReplacements.add(new Replacement<>(change.getFrom(), change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        if (isReplayScheduled.compareAndSet(false, true)) {
+            uiThread.execute(this::replay);
+        }
+    }
+
+    /**
+     * Replays the recorded replacements on the copy. Only called on the UI thread.
+     */
+    private void replay() {
+        isReplayScheduled.set(false);
+        Replacement<T> replacement;
+        while ((replacement = pendingReplacements.poll()) != null) {
+            replacement.applyTo(mirror);
+        }
+    }
+
+    /**
+     * A range of the list replaced by other elements.
+     */
+    private static class Replacement<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        private Replacement(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        /**
+         * Replaces the range in {@code list}, with a single set if one element is replaced by another.
+         */
+        private void applyTo(List<T> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.subList(from, from + removedSize).clear();
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -163,21 +165,23 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The list panels show copies of the lists of the model that follow them on the JavaFX application thread,
+     * as commands change the lists on the command executor thread.
      */
     void fillInnerParts() {
         //browserPanel = new BrowserPanel();
         //browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
-        expensesListPanel = new ExpensesListPanel(logic.getFilteredExpensesList());
+        expensesListPanel = new ExpensesListPanel(mirror(logic.getFilteredExpensesList()));
         expensesListPanelPlaceholder.getChildren().add(expensesListPanel.getRoot());
 
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(mirror(logic.getFilteredPersonList()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        scheduleListPanel = new ScheduleListPanel(logic.getFilteredScheduleList());
+        scheduleListPanel = new ScheduleListPanel(mirror(logic.getFilteredScheduleList()));
         scheduleListPanelPlaceholder.getChildren().add(scheduleListPanel.getRoot());
 
-        recruitmentListPanel = new RecruitmentListPanel(logic.getFilteredRecruitmentList());
+        recruitmentListPanel = new RecruitmentListPanel(mirror(logic.getFilteredRecruitmentList()));
         recruitmentListPanelPlaceholder.getChildren().add(recruitmentListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -190,6 +194,10 @@ public class MainWindow extends UiPart<Stage> {
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    private static <T> ObservableList<T> mirror(ObservableList<T> modelList) {
+        return new ListMirror<>(modelList, Platform::runLater).asUnmodifiableObservableList();
+    }
+
     void hide() {
         primaryStage.hide();
     }
@@ -544,6 +552,7 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        // the event is raised by a command, on the command executor thread
+        Platform.runLater(this::handleHelp);
     }
 }
@@ -1,14 +1,17 @@
 package seedu.address.ui;
 
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be bound to another person in place of the one it shows, so that a list cell keeps one card for the
+ * persons scrolled through it.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -22,7 +25,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -67,32 +70,48 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label bonusLabel;
     @FXML
-    private FlowPane tags;
+    private TagRow tags;
 
-    public PersonCard(Person person, int displayedIndex) {
+    /**
+     * Creates a card that shows no person until it is bound to one with {@link #setPerson(Person, int)}.
+     */
+    PersonCard() {
         super(FXML);
+        employeeIdLabel.setText("Employee ID: ");
+        phoneLabel.setText("Phone: ");
+        addressLabel.setText("Address: ");
+        emailLabel.setText("Email: ");
+        dateOfBirthLabel.setText("Date Of Birth: ");
+        departmentLabel.setText("Department: ");
+        positionLabel.setText("Position: ");
+        salaryLabel.setText("Salary: ");
+        bonusLabel.setText("Bonus: ");
+        showFullTextInTooltip(name, employeeId, phone, address, email, dateOfBirth, department, position, salary,
+                bonus);
+    }
+
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, in place of the person it showed before.
+     */
+    void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        employeeIdLabel.setText("Employee ID: ");
         employeeId.setText(person.getEmployeeId().value);
-        phoneLabel.setText("Phone: ");
         phone.setText(person.getPhone().value);
-        addressLabel.setText("Address: ");
         address.setText(person.getAddress().value);
-        emailLabel.setText("Email: ");
         email.setText(person.getEmail().value);
-        dateOfBirthLabel.setText("Date Of Birth: ");
         dateOfBirth.setText(person.getDateOfBirth().value);
-        departmentLabel.setText("Department: ");
         department.setText(person.getDepartment().value);
-        positionLabel.setText("Position: ");
         position.setText(person.getPosition().value);
-        salaryLabel.setText("Salary: ");
         salary.setText(person.getSalary().value);
-        bonusLabel.setText("Bonus: ");
         bonus.setText(person.getBonus().value);
-        person.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        tags.setTags(person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
     }
 
     @Override
@@ -20,6 +20,10 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    // height of a card showing the name and a row of tags above nine lines of details; as no label or tag wraps,
+    // every card has this height, so rows are not measured one by one. Longer text is cut short with an ellipsis and
+    // shown in full in a tooltip, and tags past the end of the row are counted by a "+N" label.
+    private static final double CELL_HEIGHT = 210;
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
@@ -33,6 +37,7 @@ public class PersonListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Person> personList) {
         personListView.setItems(personList);
+        personListView.setFixedCellSize(CELL_HEIGHT);
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -64,9 +69,12 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}
+     * that is created with the cell and bound to each person the cell is updated with.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -75,7 +83,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
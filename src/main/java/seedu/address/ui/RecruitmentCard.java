@@ -7,6 +7,7 @@ import seedu.address.model.recruitment.Recruitment;
 
 /**
  * An UI component that displays information of a {@code Recruitment}.
+ * A card is created once per list cell and shows whichever recruitment the cell currently holds.
  */
 public class RecruitmentCard extends UiPart<Region> {
 
@@ -20,7 +21,7 @@ public class RecruitmentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Recruitment recruitment;
+    private Recruitment recruitment;
 
     @FXML
     private Label id;
@@ -33,12 +34,27 @@ public class RecruitmentCard extends UiPart<Region> {
     @FXML
     private Label jobDescription;
 
-    public RecruitmentCard (Recruitment recruitment, int displayedIndex) {
+    /**
+     * Creates a card that shows no recruitment until it is bound to one with {@link #setRecruitment(Recruitment, int)}.
+     */
+    RecruitmentCard() {
         super(FXML);
+        workExpLabel.setText("Min Work Exp:");
+        showFullTextInTooltip(post, workExp, jobDescription);
+    }
+
+    public RecruitmentCard(Recruitment recruitment, int displayedIndex) {
+        this();
+        setRecruitment(recruitment, displayedIndex);
+    }
+
+    /**
+     * Shows {@code recruitment} at {@code displayedIndex} on this card, in place of the recruitment it showed before.
+     */
+    void setRecruitment(Recruitment recruitment, int displayedIndex) {
         this.recruitment = recruitment;
         id.setText(displayedIndex + ". ");
         post.setText(recruitment.getPost().value);
-        workExpLabel.setText("Min Work Exp:");
         workExp.setText(recruitment.getWorkExp().workExp + " years");
         jobDescription.setText(recruitment.getJobDescription().value);
     }
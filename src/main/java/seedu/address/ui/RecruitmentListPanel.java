@@ -20,6 +20,9 @@ import seedu.address.model.recruitment.Recruitment;
  */
 public class RecruitmentListPanel extends UiPart<Region> {
     private static final String FXML = "RecruitmentListPanel.fxml";
+    // height of a card with the post, work experience and job description on one line each, which are cut short
+    // rather than wrapped, so that rows need not be measured; their tooltips show them in full
+    private static final double CELL_HEIGHT = 105;
     private final Logger logger = LogsCenter.getLogger(RecruitmentListPanel.class);
 
     @FXML
@@ -33,6 +36,7 @@ public class RecruitmentListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Recruitment> recruitmentList) {
         recruitmentListView.setItems(recruitmentList);
+        recruitmentListView.setFixedCellSize(CELL_HEIGHT);
         recruitmentListView.setCellFactory(listView -> new RecruitmentListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -64,9 +68,12 @@ public class RecruitmentListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code recruitment} using a {@code Recruitment}.
+     * Custom {@code ListCell} that displays the graphics of a {@code recruitment}
+     * using its own {@code RecruitmentCard}.
      */
     class RecruitmentListViewCell extends ListCell<Recruitment> {
+        private RecruitmentCard card;
+
         @Override
         protected void updateItem(Recruitment recruitment, boolean empty) {
             super.updateItem(recruitment, empty);
@@ -75,7 +82,11 @@ public class RecruitmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RecruitmentCard(recruitment, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new RecruitmentCard();
+                }
+                card.setRecruitment(recruitment, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
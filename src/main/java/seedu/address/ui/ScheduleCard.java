@@ -7,6 +7,7 @@ import seedu.address.model.schedule.Schedule;
 
 /**
  * An UI component that displays information of a {@code schedule}.
+ * Its list cell keeps it and binds it to the next schedule when the cell is reused.
  */
 public class ScheduleCard extends UiPart<Region> {
 
@@ -20,7 +21,7 @@ public class ScheduleCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Schedule schedule;
+    private Schedule schedule;
 
     @FXML
     private Label id;
@@ -37,16 +38,30 @@ public class ScheduleCard extends UiPart<Region> {
     @FXML
     private Label dateOfScheduleLabel;
 
-    public ScheduleCard(Schedule schedule, int displayedIndex) {
+    /**
+     * Creates a card that shows no schedule until it is bound to one with {@link #setSchedule(Schedule, int)}.
+     */
+    ScheduleCard() {
         super(FXML);
+        employeeIdLabel.setText("Employee ID: ");
+        typeLabel.setText("Type :");
+        dateOfScheduleLabel.setText("Date: ");
+    }
+
+    public ScheduleCard(Schedule schedule, int displayedIndex) {
+        this();
+        setSchedule(schedule, displayedIndex);
+    }
+
+    /**
+     * Shows {@code schedule} at {@code displayedIndex} on this card, in place of the schedule it showed before.
+     */
+    void setSchedule(Schedule schedule, int displayedIndex) {
         this.schedule = schedule;
         id.setText(displayedIndex + ". ");
         employeeId.setText(schedule.getEmployeeId().value);
-        employeeIdLabel.setText("Employee ID: ");
-        typeLabel.setText("Type :");
         type.setText(schedule.getType().value);
-        dateOfScheduleLabel.setText("Date: ");
-        dateOfSchedule.setText(schedule.getScheduleDate().value);
+        dateOfSchedule.setText(schedule.getScheduleDate().toString());
     }
 
     @Override
@@ -20,6 +20,8 @@ import seedu.address.model.schedule.Schedule;
  */
 public class ScheduleListPanel extends UiPart<Region> {
     private static final String FXML = "ScheduleListPanel.fxml";
+    // every card is the employee id above the date and type, each on a single line, so all rows share this height
+    private static final double CELL_HEIGHT = 70;
     private final Logger logger = LogsCenter.getLogger(ScheduleListPanel.class);
 
     @FXML
@@ -33,6 +35,7 @@ public class ScheduleListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Schedule> scheduleList) {
         scheduleListView.setItems(scheduleList);
+        scheduleListView.setFixedCellSize(CELL_HEIGHT);
         scheduleListView.setCellFactory(listView -> new ScheduleListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -65,9 +68,11 @@ public class ScheduleListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code schedule} using a {@code ScheduleCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code schedule} using its own {@code ScheduleCard}.
      */
     class ScheduleListViewCell extends ListCell<Schedule> {
+        private ScheduleCard card;
+
         @Override
         protected void updateItem(Schedule schedule, boolean empty) {
             super.updateItem(schedule, empty);
@@ -76,7 +81,11 @@ public class ScheduleListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ScheduleCard(schedule, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ScheduleCard();
+                }
+                card.setSchedule(schedule, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,155 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.Region;
+
+/**
+ * A single row of tag labels that keeps to the width it is given, so that a card showing it keeps one height.
+ * Tags that do not fit are not shown. A trailing "+N" label counts them instead, and its tooltip names them.
+ */
+public class TagRow extends Region {
+
+    public static final String MORE_TAGS_STYLE_CLASS = "more_tags";
+
+    private static final double SPACING = 7;
+
+    // shown after the tags that fit, as the last child
+    private final Label moreTags = new Label();
+    private final Tooltip hiddenTags = new Tooltip();
+
+    public TagRow() {
+        moreTags.getStyleClass().add(MORE_TAGS_STYLE_CLASS);
+        moreTags.setTooltip(hiddenTags);
+        moreTags.setVisible(false);
+        getChildren().add(moreTags);
+    }
+
+    /**
+     * Shows {@code tagNames} in order, reusing the tag labels already in the row.
+     */
+    public void setTags(List<String> tagNames) {
+        List<Node> children = getChildren();
+        int tagCount = getTagCount();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagCount) {
+                Label tagLabel = (Label) children.get(i);
+                tagLabel.setText(tagNames.get(i));
+            } else {
+                children.add(i, new Label(tagNames.get(i)));
+            }
+        }
+        if (tagNames.size() < tagCount) {
+            children.subList(tagNames.size(), tagCount).clear();
+        }
+        requestLayout();
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        Insets insets = getInsets();
+        return insets.getLeft() + insets.getRight();
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        Insets insets = getInsets();
+        double width = insets.getLeft() + insets.getRight();
+        int tagCount = getTagCount();
+        for (int i = 0; i < tagCount; i++) {
+            width += (i > 0 ? SPACING : 0) + snapSize(getChildren().get(i).prefWidth(-1));
+        }
+        return width;
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        Insets insets = getInsets();
+        int tagCount = getTagCount();
+        double height = 0;
+        for (int i = 0; i < tagCount; i++) {
+            height = Math.max(height, snapSize(getChildren().get(i).prefHeight(-1)));
+        }
+        return tagCount == 0 ? 0 : insets.getTop() + height + insets.getBottom();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        Insets insets = getInsets();
+        double x = insets.getLeft();
+        double y = insets.getTop();
+        double rowWidth = getWidth() - insets.getLeft() - insets.getRight();
+        double rowHeight = getHeight() - insets.getTop() - insets.getBottom();
+        int tagCount = getTagCount();
+        int shownTagCount = countFittingTags(rowWidth);
+
+        StringJoiner hiddenTagNames = new StringJoiner(", ");
+        for (int i = 0; i < tagCount; i++) {
+            Label tagLabel = (Label) getChildren().get(i);
+            tagLabel.setVisible(i < shownTagCount);
+            if (i < shownTagCount) {
+                x += layoutInRow(tagLabel, x, y, rowHeight) + SPACING;
+            } else {
+                hiddenTagNames.add(tagLabel.getText());
+            }
+        }
+
+        moreTags.setVisible(shownTagCount < tagCount);
+        if (shownTagCount < tagCount) {
+            moreTags.setText("+" + (tagCount - shownTagCount));
+            hiddenTags.setText(hiddenTagNames.toString());
+            layoutInRow(moreTags, x, y, rowHeight);
+        }
+    }
+
+    /**
+     * Returns the number of leading tags that fit in {@code rowWidth}, leaving room for the "+N" label if any tag
+     * is left out.
+     */
+    private int countFittingTags(double rowWidth) {
+        int tagCount = getTagCount();
+        double usedWidth = 0;
+        for (int i = 0; i < tagCount; i++) {
+            usedWidth += (i > 0 ? SPACING : 0) + snapSize(getChildren().get(i).prefWidth(-1));
+            int hiddenTagCount = tagCount - i - 1;
+            double moreTagsWidth = hiddenTagCount == 0 ? 0 : SPACING + getMoreTagsWidth(hiddenTagCount);
+            if (usedWidth + moreTagsWidth > rowWidth) {
+                return i;
+            }
+        }
+        return tagCount;
+    }
+
+    /**
+     * Returns the width of the "+N" label when it counts {@code hiddenTagCount} tags.
+     */
+    private double getMoreTagsWidth(int hiddenTagCount) {
+        moreTags.setText("+" + hiddenTagCount);
+        return snapSize(moreTags.prefWidth(-1));
+    }
+
+    /**
+     * Places {@code node} at its preferred width from {@code x}, centred in the row, and returns that width.
+     */
+    private double layoutInRow(Node node, double x, double y, double rowHeight) {
+        double width = snapSize(node.prefWidth(-1));
+        layoutInArea(node, x, y, width, rowHeight, 0, HPos.LEFT, VPos.CENTER);
+        return width;
+    }
+
+    private int getTagCount() {
+        return getChildren().size() - 1;
+    }
+}
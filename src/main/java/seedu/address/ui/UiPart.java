@@ -6,6 +6,8 @@ import java.io.IOException;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import seedu.address.MainApp;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.BaseEvent;
@@ -68,6 +70,18 @@ public abstract class UiPart<T> {
         EventsCenter.getInstance().post(event);
     }
 
+    /**
+     * Gives each of {@code labels} a tooltip that follows its text, so that text cut short by the label is still
+     * shown in full on hover.
+     */
+    protected static void showFullTextInTooltip(Label... labels) {
+        for (Label label : labels) {
+            Tooltip tooltip = new Tooltip();
+            tooltip.textProperty().bind(label.textProperty());
+            label.setTooltip(tooltip);
+        }
+    }
+
     /**
      * Registers the object as an event handler at the {@link EventsCenter}
      * @param handler usually {@code this}
@@ -23,7 +23,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to finish.
+     * The Command Box cannot be edited while the command runs.
      */
     public void run(String command) {
         click();
@@ -31,6 +32,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> getRootNode().isEditable());
+        guiRobot.interact(() -> { });
     }
 
     /**
@@ -9,6 +9,7 @@ import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.ui.TagRow;
 
 /**
  * Provides a handle to a person card in the person list panel.
@@ -39,6 +40,7 @@ public class PersonCardHandle extends NodeHandle<Node> {
     private final Label salaryLabel;
     private final Label bonusLabel;
     private final List<Label> tagLabels;
+    private final Label moreTagsLabel;
 
     public PersonCardHandle(Node cardNode) {
         super(cardNode);
@@ -57,11 +59,26 @@ public class PersonCardHandle extends NodeHandle<Node> {
 
 
         Region tagsContainer = getChildNode(TAGS_FIELD_ID);
-        tagLabels = tagsContainer
+        List<Label> tagsContainerLabels = tagsContainer
                 .getChildrenUnmodifiable()
                 .stream()
                 .map(Label.class::cast)
                 .collect(Collectors.toList());
+        moreTagsLabel = tagsContainerLabels.stream()
+                .filter(label -> label.getStyleClass().contains(TagRow.MORE_TAGS_STYLE_CLASS))
+                .findFirst()
+                .orElse(null);
+        tagLabels = tagsContainerLabels.stream()
+                .filter(label -> label != moreTagsLabel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the height the card needs to show all of its contents at its current width.
+     */
+    public double getRequiredHeight() {
+        Node cardNode = getRootNode();
+        return cardNode.prefHeight(cardNode.getLayoutBounds().getWidth());
     }
 
     public String getId() {
@@ -115,6 +132,31 @@ public class PersonCardHandle extends NodeHandle<Node> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the tags shown on the card, leaving out those that do not fit in the row.
+     */
+    public List<String> getShownTags() {
+        return tagLabels
+                .stream()
+                .filter(Node::isVisible)
+                .map(Label::getText)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the text of the label counting the tags that do not fit in the row, or an empty string if all fit.
+     */
+    public String getMoreTags() {
+        return moreTagsLabel == null || !moreTagsLabel.isVisible() ? "" : moreTagsLabel.getText();
+    }
+
+    /**
+     * Returns the tooltip of the label counting the tags that do not fit in the row, or an empty string if all fit.
+     */
+    public String getMoreTagsTooltip() {
+        return getMoreTags().isEmpty() ? "" : moreTagsLabel.getTooltip().getText();
+    }
+
     /**
      * Returns true if this handle contains {@code person}.
      */
@@ -156,4 +156,11 @@ public class PersonListPanelHandle extends NodeHandle<ListView<Person>> {
     public int getListSize() {
         return getRootNode().getItems().size();
     }
+
+    /**
+     * Returns the height of every cell in the list.
+     */
+    public double getCellHeight() {
+        return getRootNode().getFixedCellSize();
+    }
 }
@@ -40,6 +40,19 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_commandLineArguments_namedParametersParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScript("roster.txt");
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "unnamed",
+            "--batch=roster.txt", "--=ignored"}));
+    }
+
+    @Test
+    public void parse_noBatchArgument_batchScriptNull() {
+        assertEquals(null, AppParameters.parse(new String[] {"--config=config.json"}).getBatchScript());
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,162 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class BatchRunnerTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager(new AddressBook(), new ExpensesList(), new ScheduleList(),
+            new RecruitmentList(), new UserPrefs());
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private final BatchRunner batchRunner = new BatchRunner(model, new FailingLogicManager(model),
+            new PrintStream(errors));
+
+    @Test
+    public void execute_validAndInvalidLines_invalidLinesReportedAndOthersRun() throws Exception {
+        BatchRunner.Summary summary = batchRunner.execute(script(
+                "# new hires",
+                PersonUtil.getAddCommand(ALICE),
+                "",
+                PersonUtil.getAddCommand(ALICE),
+                "   " + PersonUtil.getAddCommand(BENSON) + "   "));
+
+        assertEquals(2, summary.succeeded);
+        assertEquals(1, summary.failed);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+
+        String duplicateLine = PersonUtil.getAddCommand(ALICE).trim();
+        String expectedError = String.format(BatchRunner.MESSAGE_LINE_FAILED, 4, duplicateLine,
+                AddCommand.MESSAGE_DUPLICATE_EMPLOYEEID);
+        assertEquals(expectedError + System.lineSeparator(), errors.toString());
+    }
+
+    @Test
+    public void execute_validLines_dataChangedOnceAtEnd() throws Exception {
+        batchRunner.execute(script(PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON)));
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    @Test
+    public void execute_validLines_committedOnce() throws Exception {
+        batchRunner.execute(script(PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON)));
+
+        model.undoModelList();
+        assertFalse(model.canUndoModel());
+    }
+
+    @Test
+    public void execute_commandFailsAfterChanges_changesReverted() throws Exception {
+        BatchRunner.Summary summary = batchRunner.execute(script(
+                PersonUtil.getAddCommand(ALICE),
+                FailingLogicManager.COMMAND_FAILING,
+                PersonUtil.getAddCommand(BENSON)));
+
+        assertEquals(1, summary.failed);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_earlierCommandsKept() throws Exception {
+        try {
+            batchRunner.execute(script(
+                    PersonUtil.getAddCommand(ALICE),
+                    FailingLogicManager.COMMAND_CRASHING,
+                    PersonUtil.getAddCommand(BENSON)));
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+            assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        }
+    }
+
+    @Test
+    public void execute_exitCommand_laterLinesNotRun() throws Exception {
+        BatchRunner.Summary summary = batchRunner.execute(script(
+                PersonUtil.getAddCommand(ALICE),
+                ExitCommand.COMMAND_WORD,
+                PersonUtil.getAddCommand(CARL)));
+
+        assertEquals(2, summary.succeeded);
+        assertFalse(model.hasPerson(CARL));
+    }
+
+    @Test
+    public void summary_toMessage() {
+        BatchRunner.Summary summary = new BatchRunner.Summary(3, 1, 2_000_000_000L);
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 4, 2000, 2.0, 3, 1, 15), summary.toMessage(15));
+    }
+
+    /**
+     * A {@code LogicManager} with two more commands, which add {@code CARL} and then fail.
+     */
+    private static class FailingLogicManager extends LogicManager {
+        private static final String COMMAND_FAILING = "fail";
+        private static final String COMMAND_CRASHING = "crash";
+
+        private final Model model;
+
+        private FailingLogicManager(Model model) {
+            super(model);
+            this.model = model;
+        }
+
+        @Override
+        public CommandResult execute(String commandText, ProgressMonitor progressMonitor)
+                throws CommandException, ParseException {
+            if (commandText.equals(COMMAND_FAILING)) {
+                model.addPerson(CARL);
+                throw new CommandException(COMMAND_FAILING);
+            }
+            if (commandText.equals(COMMAND_CRASHING)) {
+                model.addPerson(CARL);
+                throw new IllegalStateException(COMMAND_CRASHING);
+            }
+            return super.execute(commandText, progressMonitor);
+        }
+    }
+
+    /**
+     * Returns a script of {@code lines}.
+     */
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
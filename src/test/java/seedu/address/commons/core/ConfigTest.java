@@ -16,7 +16,9 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Centralised Human Resource System (CHRS)\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Save coalescing window : 200ms\n"
+                + "Journaled storage : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -1,16 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.CollectionUtil.addSorted;
+import static seedu.address.commons.util.CollectionUtil.indexOfSorted;
+import static seedu.address.commons.util.CollectionUtil.removeMatching;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.setSorted;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -72,6 +83,89 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void addSorted_sortedList_insertedInOrder() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        List<String> list = new ArrayList<>(Arrays.asList("a", "bb", "ccc"));
+
+        addSorted(list, "", byLength); // front
+        addSorted(list, "dddd", byLength); // back
+        addSorted(list, "ee", byLength); // after the equal element
+        assertEquals(Arrays.asList("", "a", "bb", "ee", "ccc", "dddd"), list);
+    }
+
+    @Test
+    public void addSorted_atIndex_insertedAtIndexIfInOrder() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        List<String> list = new ArrayList<>(Arrays.asList("a", "bb", "cc", "ddd"));
+
+        addSorted(list, 1, "ee", byLength); // before the equal elements
+        assertEquals(Arrays.asList("a", "ee", "bb", "cc", "ddd"), list);
+        addSorted(list, 3, "ff", byLength); // between the equal elements
+        assertEquals(Arrays.asList("a", "ee", "bb", "ff", "cc", "ddd"), list);
+
+        // out of order or out of bounds -> after the equal elements
+        addSorted(list, 0, "gg", byLength);
+        assertEquals(Arrays.asList("a", "ee", "bb", "ff", "cc", "gg", "ddd"), list);
+        addSorted(list, 10, "h", byLength);
+        assertEquals(Arrays.asList("a", "h", "ee", "bb", "ff", "cc", "gg", "ddd"), list);
+    }
+
+    @Test
+    public void setSorted_sortedList_movedToSortedPosition() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        List<String> list = new ArrayList<>(Arrays.asList("a", "bb", "cc", "ddd"));
+
+        // stays in place
+        setSorted(list, 1, "xx", byLength);
+        assertEquals(Arrays.asList("a", "xx", "cc", "ddd"), list);
+
+        // moved forward, before the equal elements after it
+        setSorted(list, 0, "yyy", byLength);
+        assertEquals(Arrays.asList("xx", "cc", "yyy", "ddd"), list);
+
+        // moved back, after the equal elements before it
+        setSorted(list, 3, "zz", byLength);
+        assertEquals(Arrays.asList("xx", "cc", "zz", "yyy"), list);
+
+        // same result as a stable sort
+        List<String> expected = new ArrayList<>(list);
+        expected.set(0, "wwww");
+        expected.sort(byLength);
+        setSorted(list, 0, "wwww", byLength);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void indexOfSorted_sortedList_findsEqualElement() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        List<String> list = Arrays.asList("a", "bb", "cc", "ddd");
+
+        assertEquals(0, indexOfSorted(list, "a", byLength));
+        assertEquals(2, indexOfSorted(list, "cc", byLength));
+        assertEquals(3, indexOfSorted(list, "ddd", byLength));
+
+        // equal by comparator but not in the list
+        assertEquals(-1, indexOfSorted(list, "ee", byLength));
+        assertEquals(-1, indexOfSorted(list, "eeee", byLength));
+        assertEquals(-1, indexOfSorted(Collections.emptyList(), "a", byLength));
+    }
+
+    @Test
+    public void removeMatching_observableList_removedOnceInOrder() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "bb", "cc", "ddd", "ee");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        assertEquals(Arrays.asList("bb", "cc", "ee"), removeMatching(list, element -> element.length() == 2));
+        assertEquals(Arrays.asList("a", "ddd"), list);
+        assertEquals(1, changes.size());
+
+        // nothing matches -> list not changed
+        assertEquals(Collections.emptyList(), removeMatching(list, element -> element.isEmpty()));
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void isAnyNonNull() {
         CollectionUtil collectionUtil = new CollectionUtil();
@@ -77,6 +77,7 @@ public class ConfigUtilTest {
         config.setAppTitle("Typical App Title");
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath(Paths.get("preferences.json"));
+        config.setSaveCoalescingWindowMillis(500);
         return config;
     }
 
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertEquals;
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -147,6 +148,41 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void readElementsFromFile_validFile_allElementsRead() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        XmlUtil.readElementsFromFile(VALID_FILE, XmlSerializableAddressBook.ROOT_ELEMENT_NAME,
+                XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, persons::add);
+        assertEquals(9, persons.size());
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_throwsJaxbException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(EMPTY_FILE, XmlSerializableAddressBook.ROOT_ELEMENT_NAME,
+                XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_differentRootElement_throwsJaxbException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, "schedulelist",
+                XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_readableAsWholeFile() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        AddressBook addressBook = new AddressBookBuilder(new AddressBook())
+                .withPerson(new PersonBuilder().build()).build();
+        XmlUtil.saveElementsToFile(TEMP_FILE, XmlSerializableAddressBook.ROOT_ELEMENT_NAME,
+                XmlSerializableAddressBook.PERSON_ELEMENT_NAME, XmlAdaptedPerson.class,
+                addressBook.getPersonList().stream().map(XmlAdaptedPerson::new).iterator());
+
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
+        assertEquals(new XmlSerializableAddressBook(addressBook), dataFromFile);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+
+public class CommandExecutorTest {
+
+    private static final String ADD_LEAVES_COMMAND = "addLeaves d/02/02/2099";
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new ExpensesList(), new ScheduleList(),
+            new RecruitmentList(), new UserPrefs());
+    private final ExecutorService worker = Executors.newSingleThreadExecutor();
+    // runnables handed to the UI thread, run by the test when it checks the outcome
+    private final ConcurrentLinkedQueue<Runnable> uiThread = new ConcurrentLinkedQueue<>();
+    private final CommandExecutor executor = new CommandExecutor(new LogicManager(model), worker, uiThread::add);
+    private final RecordingListener listener = new RecordingListener();
+
+    @After
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    public void submit_validCommand_succeededOnUiThread() throws Exception {
+        CommandExecutor.Execution execution = executor.submit(ListCommand.COMMAND_WORD, listener);
+        finishWorker();
+        assertFalse(execution.isDone());
+
+        runUiThread();
+        assertTrue(execution.isDone());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, listener.result.feedbackToUser);
+    }
+
+    @Test
+    public void submit_invalidCommand_failedWithParseException() throws Exception {
+        executor.submit("uicfhmowqewca", listener);
+        finishWorker();
+        runUiThread();
+
+        assertTrue(listener.failure instanceof ParseException);
+    }
+
+    @Test
+    public void submit_longCommand_progressReportedBeforeResult() throws Exception {
+        executor.submit(ADD_LEAVES_COMMAND, listener);
+        finishWorker();
+        runUiThread();
+
+        assertEquals(0, (int) listener.percentages.get(0));
+        for (int i = 1; i < listener.percentages.size(); i++) {
+            assertTrue(listener.percentages.get(i) > listener.percentages.get(i - 1));
+        }
+        assertTrue(listener.result != null);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredScheduleList().size());
+    }
+
+    @Test
+    public void submit_cancelledBeforeStart_failedWithoutChanges() throws Exception {
+        CountDownLatch workerBlocked = new CountDownLatch(1);
+        worker.execute(() -> {
+            try {
+                workerBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CommandExecutor.Execution execution = executor.submit(ADD_LEAVES_COMMAND, listener);
+        execution.cancel();
+        workerBlocked.countDown();
+        finishWorker();
+        runUiThread();
+
+        assertTrue(listener.failure instanceof CommandException);
+        assertEquals(Command.MESSAGE_CANCELLED, listener.failure.getMessage());
+        assertTrue(model.getFilteredScheduleList().isEmpty());
+    }
+
+    /**
+     * Waits until the worker has run every command submitted so far.
+     */
+    private void finishWorker() throws Exception {
+        worker.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs the runnables handed to the UI thread so far, in order.
+     */
+    private void runUiThread() {
+        Runnable runnable;
+        while ((runnable = uiThread.poll()) != null) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * A listener that records what it is handed.
+     */
+    private static class RecordingListener implements CommandExecutor.Listener {
+        private final List<Integer> percentages = new ArrayList<>();
+        private CommandResult result;
+        private Exception failure;
+
+        @Override
+        public void progressed(int percentage) {
+            assertTrue(result == null && failure == null);
+            percentages.add(percentage);
+        }
+
+        @Override
+        public void succeeded(CommandResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public void failed(Exception e) {
+            this.failure = e;
+        }
+    }
+}
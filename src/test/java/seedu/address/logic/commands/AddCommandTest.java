@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Map;
 import java.util.Set;
 
 import java.util.function.Predicate;
@@ -18,11 +19,15 @@ import seedu.address.model.ModelTypes;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -175,12 +180,67 @@ public class AddCommandTest {
                     + "should not be called.");
         }
 
+        @Override
+        public boolean hasEmployeeId(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPerson(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getDepartments() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInDepartment(String department) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getPositions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInPosition(String position) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSchedule(Schedule schedule) {
             throw new AssertionError("This method should "
                     + "not be called.");
         }
 
+        @Override
+        public boolean hasSchedule(EmployeeId employeeId, Type type, Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSchedules(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //------------------------------------------------
         @Override
         public void deleteExpenses(Expenses target) {
@@ -197,6 +257,16 @@ public class AddCommandTest {
                     + "not be called.");
         }
 
+        @Override
+        public boolean removeSchedulesIf(Predicate<Schedule> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean removeExpensesIf(Predicate<Expenses> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should "
@@ -401,6 +471,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
 }
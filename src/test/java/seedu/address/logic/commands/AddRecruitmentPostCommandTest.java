@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalRecruitments.RECRUITMENT_EXAMPLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -24,12 +25,16 @@ import seedu.address.model.ModelTypes;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
 import seedu.address.testutil.recruitment.RecruitmentBuilder;
 
 public class AddRecruitmentPostCommandTest {
@@ -226,6 +231,41 @@ public class AddRecruitmentPostCommandTest {
             return true;
         }
 
+        @Override
+        public boolean hasEmployeeId(EmployeeId employeeId) {
+            return true;
+        }
+
+        @Override
+        public Person getPerson(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getDepartments() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInDepartment(String department) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getPositions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInPosition(String position) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecruitment(Recruitment recruitment) {
             throw new AssertionError("This method should not be called.");
@@ -237,6 +277,26 @@ public class AddRecruitmentPostCommandTest {
                     "This method should not be called.");
         }
 
+        @Override
+        public boolean hasSchedule(EmployeeId employeeId, Type type, Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSchedules(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //------------------------------------------------
         @Override
         public void deleteExpenses(Expenses target) {
@@ -252,6 +312,16 @@ public class AddRecruitmentPostCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean removeSchedulesIf(Predicate<Schedule> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean removeExpensesIf(Predicate<Expenses> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError(
@@ -466,6 +536,21 @@ public class AddRecruitmentPostCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
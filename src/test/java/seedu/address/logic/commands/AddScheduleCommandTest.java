@@ -12,6 +12,7 @@ import static seedu.address.testutil.schedule.TypicalSchedules.GEORGE_LEAVE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -29,12 +30,16 @@ import seedu.address.model.ModelTypes;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.schedule.ScheduleBuilder;
 
@@ -274,6 +279,41 @@ public class AddScheduleCommandTest {
             return true;
         }
 
+        @Override
+        public boolean hasEmployeeId(EmployeeId employeeId) {
+            return true;
+        }
+
+        @Override
+        public Person getPerson(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getDepartments() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInDepartment(String department) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getPositions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInPosition(String position) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecruitment(Recruitment recruitment) {
             throw new AssertionError("This method should not be called.");
@@ -284,6 +324,26 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasSchedule(EmployeeId employeeId, Type type, Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSchedules(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countSchedules(EmployeeId employeeId, Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<EmployeeId, Integer> countSchedulesByEmployeeId(Type type, Year year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //------------------------------------------------
         @Override
         public void deleteExpenses(Expenses target) {
@@ -298,6 +358,16 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean removeSchedulesIf(Predicate<Schedule> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean removeExpensesIf(Predicate<Expenses> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -497,6 +567,21 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -540,6 +625,11 @@ public class AddScheduleCommandTest {
             return true;
         }
 
+        @Override
+        public boolean hasEmployeeId(EmployeeId employeeId) {
+            return true;
+        }
+
         @Override
         public void commitScheduleList() {
             // called by {@code AddCommand#execute()}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMPLOYEEID_DAIS
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 import static seedu.address.testutil.schedule.TypicalSchedules.FRIDAY_20_JUN_2025;
 import static seedu.address.testutil.schedule.TypicalSchedules.MONDAY_16_JUN_2025;
 import static seedu.address.testutil.schedule.TypicalSchedules.SATURDAY_21_JUN_2025;
@@ -31,9 +32,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.RecruitmentList;
 import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.Year;
 
 public class CalculateLeavesCommandTest {
@@ -126,6 +129,46 @@ public class CalculateLeavesCommandTest {
                 ALICE.getEmployeeId(), YEAR_2025, 5), commandResult.feedbackToUser);
     }
 
+    @Test
+    public void execute_allEmployees_listsLeavesOfEachEmployee() throws Exception {
+        Model model = getModelWeekday();
+        new DeleteLeavesCommand(weekDaySubset).execute(model, new CommandHistory());
+
+        CommandResult commandResult = new CalculateLeavesCommand(YEAR_2025).execute(model, new CommandHistory());
+
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(CalculateLeavesCommand.MESSAGE_SUCCESS_ALL_EMPLOYEES, YEAR_2025));
+        for (Person person : getTypicalPersons()) {
+            expectedMessage.append(String.format(CalculateLeavesCommand.MESSAGE_EMPLOYEE_LEAVES,
+                    person.getEmployeeId(), 2));
+        }
+        assertEquals(expectedMessage.toString(), commandResult.feedbackToUser);
+    }
+
+    @Test
+    public void execute_allEmployeesNoLeavesInYear_throwsCommandException() throws Exception {
+        Model model = getModelWeekday();
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(CalculateLeavesCommand.MESSAGE_NO_LEAVES_FOUND_IN_YEAR);
+        new CalculateLeavesCommand(new Year("2026")).execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void execute_undoAndRedoDeleteLeaves_countsFollow() throws Exception {
+        Model model = getModelWeekday();
+        CommandHistory commandHistory = new CommandHistory();
+        new DeleteLeavesCommand(weekDaySubset).execute(model, commandHistory);
+        Type leave = new Type(Type.LEAVE);
+        assertEquals(2, model.countSchedules(ALICE.getEmployeeId(), leave, YEAR_2025));
+
+        model.undoScheduleList();
+        assertEquals(5, model.countSchedules(ALICE.getEmployeeId(), leave, YEAR_2025));
+
+        model.redoScheduleList();
+        assertEquals(2, model.countSchedules(ALICE.getEmployeeId(), leave, YEAR_2025));
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         CalculateLeavesCommand aliceLeave = new CalculateLeavesCommand(ALICE.getEmployeeId(), YEAR_2025);
@@ -161,6 +204,10 @@ public class CalculateLeavesCommandTest {
         CalculateLeavesCommand bensonLeave = new CalculateLeavesCommand(BENSON.getEmployeeId(), YEAR_2025);
         // different days -> returns false
         assertFalse(aliceLeave.equals(bensonLeave));
+
+        // all employees -> returns false
+        assertFalse(aliceLeave.equals(new CalculateLeavesCommand(YEAR_2025)));
+        assertTrue(new CalculateLeavesCommand(YEAR_2025).equals(new CalculateLeavesCommand(YEAR_2025)));
     }
 
     /**
@@ -29,8 +29,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
@@ -399,6 +401,19 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(FIONA, ALICE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_matchedPersonEditedAfterFilter_editedPersonStillListed() {
+        FilterCommand command = new FilterCommand(prepareDepartmentPredicate("Human IT"),
+                preparePositionPredicate(" "), sortAscOrder);
+        command.setIsPositionPrefixPresent(false);
+        command.setIsDepartmentPrefixPresent(true);
+        command.execute(model, commandHistory);
+
+        Person editedCarl = new PersonBuilder(CARL).withSalary("1234.00").build();
+        model.updatePerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code DepartmentContainsKeywordsPredicate}.
      */
@@ -28,7 +28,9 @@ import seedu.address.model.UserPrefs;
 
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
 
@@ -116,4 +118,16 @@ public class FindCommandTest {
         }
         assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_matchedPersonEditedAfterFind_editedPersonStillListed() {
+        FindCommand command = new FindCommand("elle");
+        command.setIsInputEmployeeId(false);
+        command.setIsInputName(true);
+        command.execute(model, commandHistory);
+
+        Person editedElle = new PersonBuilder(ELLE).withSalary("1234.00").build();
+        model.updatePerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedElle), model.getFilteredPersonList());
+    }
 }
@@ -32,6 +32,12 @@ public class CalculateLeavesCommandParserTest {
                 + YEAR_SCHEDULE_DESC_BOB , new CalculateLeavesCommand(employeeId, year));
     }
 
+    @Test
+    public void parse_employeeIdMissing_allEmployeesSuccess() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + YEAR_SCHEDULE_DESC_BOB,
+                new CalculateLeavesCommand(new Year(VALID_YEAR_BOB)));
+    }
+
     @Test
     public void parse_multipleFields_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_OVERLOAD_PREFIX_FORMAT,
@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.ChangeHistory.ChangeTarget;
+
+public class ChangeHistoryTest {
+
+    private final RecordingList list = new RecordingList();
+
+    @Test
+    public void undo_elementChanges_restoresPreviousState() {
+        list.addAndRecord("a");
+        list.addAndRecord("b");
+        list.history.commit();
+
+        list.addAndRecord("c");
+        list.removeAndRecord("a");
+        list.updateAndRecord("b", "d");
+        list.history.commit();
+
+        // the removed element is put back where it was
+        list.history.undo(list);
+        assertEquals(Arrays.asList("a", "b"), list.elements);
+    }
+
+    @Test
+    public void undo_removedFromMiddle_restoredAtIndex() {
+        list.addAndRecord("a");
+        list.addAndRecord("b");
+        list.addAndRecord("c");
+        list.history.commit();
+        list.removeAndRecord("b");
+        list.history.commit();
+
+        list.history.undo(list);
+        assertEquals(Arrays.asList("a", "b", "c"), list.elements);
+        list.history.redo(list);
+        assertEquals(Arrays.asList("a", "c"), list.elements);
+    }
+
+    @Test
+    public void redo_elementChanges_restoresUndoneState() {
+        list.addAndRecord("a");
+        list.history.commit();
+        list.removeAndRecord("a");
+        list.addAndRecord("b");
+        list.history.commit();
+
+        list.history.undo(list);
+        list.history.redo(list);
+        assertEquals(Collections.singletonList("b"), list.elements);
+        assertFalse(list.history.canRedo());
+    }
+
+    @Test
+    public void undo_reset_restoresPreviousElements() {
+        list.addAndRecord("a");
+        list.addAndRecord("b");
+        list.history.commit();
+        list.setAllAndRecord(Collections.singletonList("c"));
+        list.history.commit();
+
+        list.history.undo(list);
+        assertEquals(Arrays.asList("a", "b"), list.elements);
+        list.history.redo(list);
+        assertEquals(Collections.singletonList("c"), list.elements);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        list.addAndRecord("a");
+        list.history.commit();
+        list.addAndRecord("b");
+        list.history.commit();
+        list.addAndRecord("c");
+
+        list.history.undo(list);
+        assertEquals(Collections.singletonList("a"), list.elements);
+    }
+
+    @Test
+    public void commit_afterUndo_removesUndoneStates() {
+        list.addAndRecord("a");
+        list.history.commit();
+        list.history.undo(list);
+        assertTrue(list.history.canRedo());
+
+        list.addAndRecord("b");
+        list.history.commit();
+        assertFalse(list.history.canRedo());
+        assertTrue(list.history.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        ChangeHistory<String> history = new ChangeHistory<>();
+        history.recordAdd("a", 0);
+        history.commit();
+
+        // same number of states and pointer -> returns true
+        ChangeHistory<String> otherChanges = new ChangeHistory<>();
+        otherChanges.recordAdd("b", 0);
+        otherChanges.commit();
+        assertEquals(history, otherChanges);
+
+        // different number of states -> returns false
+        otherChanges.commit();
+        assertNotEquals(history, otherChanges);
+    }
+
+    /**
+     * A list of strings that records its changes in a {@code ChangeHistory}.
+     */
+    private static class RecordingList implements ChangeTarget<String> {
+        private final List<String> elements = new ArrayList<>();
+        private final ChangeHistory<String> history = new ChangeHistory<>();
+
+        void addAndRecord(String element) {
+            add(elements.size(), element);
+            history.recordAdd(element, elements.size() - 1);
+        }
+
+        void removeAndRecord(String element) {
+            int index = elements.indexOf(element);
+            remove(element);
+            history.recordRemove(element, index);
+        }
+
+        void updateAndRecord(String target, String edited) {
+            update(target, edited);
+            history.recordUpdate(target, edited);
+        }
+
+        void setAllAndRecord(List<String> newElements) {
+            List<String> oldElements = new ArrayList<>(elements);
+            setAll(newElements);
+            history.recordReset(oldElements, new ArrayList<>(elements));
+        }
+
+        @Override
+        public void add(int index, String element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        public void remove(String element) {
+            elements.remove(element);
+        }
+
+        @Override
+        public void update(String target, String edited) {
+            elements.set(elements.indexOf(target), edited);
+        }
+
+        @Override
+        public void setAll(List<String> newElements) {
+            elements.clear();
+            elements.addAll(newElements);
+        }
+    }
+}
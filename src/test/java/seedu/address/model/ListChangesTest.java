@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ListChangesTest {
+
+    private final ListChanges.Recorder<String> recorder = new ListChanges.Recorder<>();
+
+    @Test
+    public void takeChanges_noChanges_emptyChanges() {
+        ListChanges<String> changes = recorder.takeChanges();
+        assertTrue(changes.isEmpty());
+        assertEquals(1, changes.getVersion());
+    }
+
+    @Test
+    public void takeChanges_elementChanges_listedByKind() {
+        recorder.recordAdd("a");
+        recorder.recordRemove("b");
+        recorder.recordUpdate("c", "d");
+
+        ListChanges<String> changes = recorder.takeChanges();
+        assertFalse(changes.isReset());
+        assertEquals(Collections.singletonList("a"), changes.getAdded());
+        assertEquals(Collections.singletonList("b"), changes.getRemoved());
+        assertEquals(Collections.singletonMap("c", "d"), changes.getReplaced());
+    }
+
+    @Test
+    public void takeChanges_changesThatUndoEachOther_emptyChanges() {
+        recorder.recordAdd("a");
+        recorder.recordRemove("a");
+        recorder.recordRemove("b");
+        recorder.recordAdd("b");
+        recorder.recordUpdate("c", "d");
+        recorder.recordUpdate("d", "c");
+
+        assertTrue(recorder.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_chainedChanges_netChangeOnly() {
+        recorder.recordAdd("a");
+        recorder.recordUpdate("a", "b");
+        recorder.recordUpdate("c", "d");
+        recorder.recordUpdate("d", "e");
+        recorder.recordUpdate("f", "g");
+        recorder.recordRemove("g");
+
+        ListChanges<String> changes = recorder.takeChanges();
+        assertEquals(Collections.singletonList("b"), changes.getAdded());
+        assertEquals(Collections.singletonList("f"), changes.getRemoved());
+        assertEquals(Collections.singletonMap("c", "e"), changes.getReplaced());
+    }
+
+    @Test
+    public void takeChanges_reset_resetUntilTaken() {
+        recorder.recordAdd("a");
+        recorder.recordReset();
+        recorder.recordAdd("b");
+
+        ListChanges<String> changes = recorder.takeChanges();
+        assertTrue(changes.isReset());
+        assertFalse(changes.isEmpty());
+        assertTrue(changes.getAdded().isEmpty());
+
+        recorder.recordAdd("c");
+        assertEquals(Collections.singletonList("c"), recorder.takeChanges().getAdded());
+    }
+
+    @Test
+    public void takeChanges_multipleTimes_versionIncreases() {
+        recorder.recordAdd("a");
+        ListChanges<String> first = recorder.takeChanges();
+        recorder.recordAdd("b");
+        recorder.recordAdd("c");
+        ListChanges<String> second = recorder.takeChanges();
+
+        assertEquals(first.getVersion() + 1, second.getVersion());
+        assertEquals(Arrays.asList("b", "c"), second.getAdded());
+    }
+}
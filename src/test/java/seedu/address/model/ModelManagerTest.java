@@ -1,7 +1,9 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -13,23 +15,35 @@ import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ScheduleListChangedEvent;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.schedule.ScheduleListBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -84,12 +98,197 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasExpenses(ALICE_CLAIM));
     }
 
+    @Test
+    public void commitBatch_noBatchInProgress_throwsNoBatchInProgressException() {
+        thrown.expect(ModelManager.NoBatchInProgressException.class);
+        modelManager.commitBatch();
+    }
+
+    @Test
+    public void commitBatch_multipleChanges_commitsOnce() {
+        modelManager.beginBatch();
+        modelManager.addSchedule(CARL_WORK);
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.addSchedule(BENSON_WORK);
+        modelManager.commitBatch();
+
+        assertTrue(modelManager.canUndoScheduleList());
+        assertEquals(Collections.singleton(ModelTypes.SCHEDULES_LIST), modelManager.getLastCommitType());
+        assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK, CARL_WORK), modelManager.getFilteredScheduleList());
+
+        modelManager.undoScheduleList();
+        assertFalse(modelManager.canUndoScheduleList());
+        assertTrue(modelManager.getFilteredScheduleList().isEmpty());
+    }
+
+    @Test
+    public void addPerson_changeEventRaised_carriesAddedPerson() {
+        modelManager.addPerson(ALICE);
+        ListChanges<Person> changes = ((AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent())
+                .changes;
+        assertEquals(Collections.singletonList(ALICE), changes.getAdded());
+        assertTrue(changes.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void undoScheduleList_changeEventRaised_carriesUndoneChanges() {
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.commitScheduleList();
+        long addVersion = getMostRecentScheduleChanges().getVersion();
+
+        modelManager.undoScheduleList();
+        ListChanges<Schedule> changes = getMostRecentScheduleChanges();
+        assertEquals(Collections.singletonList(ALICE_WORK), changes.getRemoved());
+        assertEquals(addVersion + 1, changes.getVersion());
+
+        modelManager.redoScheduleList();
+        assertEquals(Collections.singletonList(ALICE_WORK), getMostRecentScheduleChanges().getAdded());
+    }
+
+    @Test
+    public void commitBatch_changesThatUndoEachOther_emptyChangesRaised() {
+        modelManager.beginBatch();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.deleteSchedule(ALICE_WORK);
+        modelManager.commitBatch();
+        assertTrue(getMostRecentScheduleChanges().isEmpty());
+    }
+
+    private ListChanges<Schedule> getMostRecentScheduleChanges() {
+        return ((ScheduleListChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).changes;
+    }
+
+    @Test
+    public void commitBatch_nestedBatch_commitsChangesOnce() {
+        modelManager.beginBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.beginBatch();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.commitBatch();
+        modelManager.commitBatch();
+
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST),
+                modelManager.getLastCommitType());
+        modelManager.undoModelList();
+        assertFalse(modelManager.canUndoModel());
+    }
+
+    @Test
+    public void commitBatch_nestedBatch_changeEventsRaisedOnlyByOutermostBatch() {
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.commitBatch();
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+
+        modelManager.commitBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(Collections.singletonList(ALICE_WORK), getMostRecentScheduleChanges().getAdded());
+    }
+
+    @Test
+    public void commitBatch_listCommittedInsideBatch_committedOnceWithBatch() {
+        modelManager.beginBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.commitScheduleList();
+        assertFalse(modelManager.canUndoModel());
+        modelManager.commitBatch();
+
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST),
+                modelManager.getLastCommitType());
+        modelManager.undoModelList();
+        assertFalse(modelManager.canUndoModel());
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void abortBatch_noBatchInProgress_throwsNoBatchInProgressException() {
+        thrown.expect(ModelManager.NoBatchInProgressException.class);
+        modelManager.abortBatch();
+    }
+
+    @Test
+    public void abortBatch_throwMidBatch_changesReverted() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.beginBatch();
+        try {
+            modelManager.deletePerson(ALICE);
+            modelManager.addPerson(BENSON);
+            modelManager.addSchedule(ALICE_WORK);
+            modelManager.addSchedule(ALICE_WORK);
+            fail();
+        } catch (DuplicateScheduleException e) {
+            modelManager.abortBatch();
+        }
+
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getScheduleList().getScheduleList().isEmpty());
+        assertEquals(Collections.singleton(ModelTypes.ADDRESS_BOOK), modelManager.getLastCommitType());
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+
+        // the reverted changes are not published with the next change either
+        modelManager.addSchedule(BENSON_WORK);
+        assertEquals(Collections.singletonList(BENSON_WORK), getMostRecentScheduleChanges().getAdded());
+        assertTrue(getMostRecentScheduleChanges().getRemoved().isEmpty());
+    }
+
+    @Test
+    public void abortBatch_nestedBatch_outerChangesKept() {
+        modelManager.beginBatch();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.beginBatch();
+        modelManager.addSchedule(BENSON_WORK);
+        modelManager.addPerson(ALICE);
+        modelManager.abortBatch();
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+        modelManager.commitBatch();
+
+        assertEquals(Collections.singletonList(ALICE_WORK), modelManager.getFilteredScheduleList());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertEquals(Collections.singleton(ModelTypes.SCHEDULES_LIST), modelManager.getLastCommitType());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(Collections.singletonList(ALICE_WORK), getMostRecentScheduleChanges().getAdded());
+    }
+
+    @Test
+    public void commitBatch_noChanges_doesNotCommit() {
+        modelManager.beginBatch();
+        modelManager.commitBatch();
+        assertFalse(modelManager.canUndoModel());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void updateFilteredPersonList_descendingOrder_addressBookStaysAscending() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new ExpensesList(), new ScheduleList(), new RecruitmentList(),
+                new UserPrefs());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, FilterCommand.DESCENDING);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_noSuchSortOrder_throwsAssertionError() {
+        thrown.expect(AssertionError.class);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, "ascdsc");
+    }
+
     @Test
     public void getFilteredScheduleList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
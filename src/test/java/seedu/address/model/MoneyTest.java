@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_validAmounts_success() {
+        assertEquals(0, Money.parseCents("0"));
+        assertEquals(120050, Money.parseCents("1200.5"));
+        assertEquals(120050, Money.parseCents("1200.50"));
+        assertEquals(-5, Money.parseCents("-0.05"));
+        assertEquals(Money.ofCents(99999999), Money.parse("999999.99"));
+    }
+
+    @Test
+    public void parse_invalidAmounts_throwsNumberFormatException() {
+        assertFalse(Money.isValidMoney("")); // empty string
+        assertFalse(Money.isValidMoney("-")); // sign only
+        assertFalse(Money.isValidMoney(".5")); // no whole number
+        assertFalse(Money.isValidMoney("5.")); // no decimal places after the point
+        assertFalse(Money.isValidMoney("-5.")); // no decimal places after the point
+        assertFalse(Money.isValidMoney("1.234")); // too many decimal places
+        assertFalse(Money.isValidMoney("12a")); // non-numeric
+        assertFalse(Money.isValidMoney("1234567890123456")); // too many digits
+        assertTrue(Money.isValidMoney("123456789012345"));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("1,000"));
+    }
+
+    @Test
+    public void toString_twoDecimalPlaces() {
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals("1200.50", Money.parse("1200.5").toString());
+        assertEquals("-0.05", Money.parse("-0.05").toString());
+        assertEquals("-12.30", Money.parse("-12.3").toString());
+    }
+
+    @Test
+    public void arithmetic_exactWithHalfEvenRounding() {
+        assertEquals(Money.parse("1000.10"), Money.parse("999.99").plus(Money.parse("0.11")));
+        assertEquals(Money.parse("-0.01"), Money.parse("0.10").minus(Money.parse("0.11")));
+
+        // 2.5 months of salary
+        assertEquals(Money.parse("2500.05"), Money.parse("1000.02").times(Money.parse("2.5")));
+        // 2500.025, 0.125 and 0.375 are rounded to the even cent
+        assertEquals(Money.parse("2500.02"), Money.parse("1000.01").times(Money.parse("2.5")));
+        assertEquals(Money.parse("0.12"), Money.parse("0.25").times(Money.parse("0.5")));
+        assertEquals(Money.parse("0.38"), Money.parse("0.75").times(Money.parse("0.5")));
+
+        assertEquals(Money.parse("8800.00"), Money.parse("8000").adjustedByPercent(Money.parse("10")));
+        assertEquals(Money.parse("7600.00"), Money.parse("8000").adjustedByPercent(Money.parse("-5")));
+        assertEquals(Money.parse("-1100.00"), Money.parse("-1000").adjustedByPercent(Money.parse("-10")));
+        assertEquals(Money.parse("100.33"), Money.parse("100").adjustedByPercent(Money.parse("0.33")));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(Money.parse("5"), Money.parse("5.00"));
+        assertEquals(Money.parse("5").hashCode(), Money.parse("5.00").hashCode());
+        assertFalse(Money.parse("5").equals(Money.parse("-5")));
+        assertFalse(Money.parse("5").equals("5.00"));
+    }
+}
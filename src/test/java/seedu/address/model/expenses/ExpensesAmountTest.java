@@ -1,10 +1,12 @@
 package seedu.address.model.expenses;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import seedu.address.model.Money;
 import seedu.address.testutil.Assert;
 
 public class ExpensesAmountTest {
@@ -20,6 +22,13 @@ public class ExpensesAmountTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new ExpensesAmount(invalidExpensesAmount));
     }
 
+    @Test
+    public void constructor_pointWithoutDecimalPlaces_wholeAmount() {
+        ExpensesAmount expensesAmount = new ExpensesAmount("5.");
+        assertEquals("5.", expensesAmount.toString());
+        assertEquals(Money.parse("5"), expensesAmount.getAmount());
+    }
+
     @Test
     public void isValidExpensesAmount() {
         // null salary
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmployeeIdTableTest {
+
+    private final EmployeeIdTable table = new EmployeeIdTable();
+
+    @Test
+    public void put_sameEmployeeId_allPersonsKept() {
+        EmployeeId employeeId = new EmployeeId("000123");
+        Person first = new PersonBuilder().withEmployeeId("000123").build();
+        Person second = new PersonBuilder().withEmployeeId("000123").withName("Other").build();
+        Person third = new PersonBuilder().withEmployeeId("000123").withName("Third").build();
+        table.put(first);
+        table.put(second);
+        table.put(third);
+        assertSame(first, table.get(employeeId));
+
+        table.remove(second);
+        assertSame(first, table.get(employeeId));
+        table.remove(first);
+        assertSame(third, table.get(employeeId));
+        table.remove(third);
+        assertFalse(table.containsKey(employeeId));
+    }
+
+    @Test
+    public void copyFrom_sameEmployeeId_copyUnchangedByOriginal() {
+        EmployeeId employeeId = new EmployeeId("000123");
+        Person first = new PersonBuilder().withEmployeeId("000123").build();
+        Person second = new PersonBuilder().withEmployeeId("000123").withName("Other").build();
+        table.put(first);
+        table.put(second);
+        EmployeeIdTable copy = new EmployeeIdTable();
+        copy.copyFrom(table);
+
+        table.remove(first);
+        assertSame(second, table.get(employeeId));
+        assertSame(first, copy.get(employeeId));
+    }
+
+    @Test
+    public void putAndRemove_manyEmployeeIds_sameAsMapOfLists() {
+        Random random = new Random(2103);
+        // two persons for each of the employee ids, so that some ids are shared
+        Person[] persons = random.ints(0, 1000000).distinct().limit(1000)
+                .mapToObj(number -> String.format("%06d", number))
+                .flatMap(id -> Stream.of(new PersonBuilder().withEmployeeId(id).build(),
+                        new PersonBuilder().withEmployeeId(id).withName("Other").build()))
+                .toArray(Person[]::new);
+
+        Map<EmployeeId, List<Person>> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            Person person = persons[random.nextInt(persons.length)];
+            List<Person> personsWithId = expected.computeIfAbsent(person.getEmployeeId(), id -> new ArrayList<>());
+            if (random.nextBoolean()) {
+                if (!personsWithId.contains(person)) {
+                    table.put(person);
+                    personsWithId.add(person);
+                }
+            } else {
+                table.remove(person);
+                personsWithId.remove(person);
+            }
+        }
+
+        for (Person person : persons) {
+            List<Person> personsWithId = expected.get(person.getEmployeeId());
+            boolean hasPerson = personsWithId != null && !personsWithId.isEmpty();
+            assertEquals(hasPerson, table.containsKey(person.getEmployeeId()));
+            assertSame(hasPerson ? personsWithId.get(0) : null, table.get(person.getEmployeeId()));
+        }
+    }
+
+    @Test
+    public void clear_nonEmptyTable_empty() {
+        Person person = new PersonBuilder().withEmployeeId("999999").build();
+        table.put(person);
+        assertTrue(table.containsKey(person.getEmployeeId()));
+        table.clear();
+        assertNull(table.get(person.getEmployeeId()));
+    }
+}
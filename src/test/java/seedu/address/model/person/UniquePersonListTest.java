@@ -4,13 +4,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -54,6 +60,59 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithUpperCaseEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase())
+                .build();
+        assertTrue(uniquePersonList.contains(aliceWithUpperCaseEmail));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void containsEmployeeId_personNotInList_returnsFalse() {
+        assertFalse(uniquePersonList.containsEmployeeId(ALICE));
+    }
+
+    @Test
+    public void containsEmployeeId_personWithSameEmployeeIdInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmployeeId = new PersonBuilder(BOB).withEmployeeId(ALICE.getEmployeeId().value).build();
+        assertTrue(uniquePersonList.containsEmployeeId(bobWithAliceEmployeeId));
+    }
+
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.containsEmployeeId(ALICE.getEmployeeId()));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getEmployeeId()));
+    }
+
+    @Test
+    public void getPerson_otherPersonWithSameEmployeeIdRemoved_returnsRemainingPerson() {
+        Person bobWithAliceEmployeeId = new PersonBuilder(BOB).withEmployeeId(ALICE.getEmployeeId().value).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAliceEmployeeId));
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containsEmployeeId(ALICE.getEmployeeId()));
+        assertEquals(bobWithAliceEmployeeId, uniquePersonList.getPerson(ALICE.getEmployeeId()));
+    }
+
+    @Test
+    public void getPerson_removedPerson_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.containsEmployeeId(ALICE.getEmployeeId()));
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.getPerson(ALICE.getEmployeeId());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -122,6 +181,15 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityCanBeAdded() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -180,6 +248,26 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithSamePhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAlicePhone);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOwnList() {
+        uniquePersonList.add(BOB);
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE));
+            fail();
+        } catch (DuplicatePersonException dpe) {
+            assertTrue(uniquePersonList.contains(BOB));
+            assertFalse(uniquePersonList.contains(ALICE));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -210,7 +298,92 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void sort_noSuchSortOrder_throwsAssertionError() {
-        Assert.assertThrows(AssertionError.class, () -> uniquePersonList.sortByName("ascdsc"));
+    public void add_personsInAnyOrder_keptSortedByName() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPersonRenamed_movedToSortedPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Daniel Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_unsortedList_sortedByName() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getDepartments_personsAdded_distinctUpperCaseDepartments() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(new PersonBuilder(CARL).withDepartment("human resource").build());
+        uniquePersonList.add(DANIEL);
+        assertEquals(Arrays.asList("FINANCE", "HUMAN RESOURCE"), new ArrayList<>(uniquePersonList.getDepartments()));
+        assertEquals(3, uniquePersonList.getPersonsInDepartment("Human Resource").size());
+        assertEquals(Collections.singleton(DANIEL), uniquePersonList.getPersonsInDepartment("FINANCE"));
+        assertTrue(uniquePersonList.getPersonsInDepartment("Marketing").isEmpty());
+    }
+
+    @Test
+    public void getPositions_personsEditedAndRemoved_indexUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Arrays.asList("DIRECTOR", "INTERN"), new ArrayList<>(uniquePersonList.getPositions()));
+
+        Person promotedBenson = new PersonBuilder(BENSON).withPosition("Manager").build();
+        uniquePersonList.setPerson(BENSON, promotedBenson);
+        assertEquals(Collections.singleton(CARL), uniquePersonList.getPersonsInPosition("intern"));
+        assertEquals(Collections.singleton(promotedBenson), uniquePersonList.getPersonsInPosition("manager"));
+
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList("DIRECTOR", "MANAGER"), new ArrayList<>(uniquePersonList.getPositions()));
+    }
+
+    @Test
+    public void setPersons_uniquePersonList_indexesCopied() {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        replacement.remove(ALICE);
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsInDepartment("Human Resource"));
+        assertEquals(Collections.singleton("DIRECTOR"), uniquePersonList.getPositions());
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_keywords_matchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                uniquePersonList.getPersonsWithNameContaining("MEIER"));
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsWithNameContaining("ce pau"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL, DANIEL)),
+                uniquePersonList.getPersonsWithNameContaining("a"));
+        assertTrue(uniquePersonList.getPersonsWithNameContaining("Meyer").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameStartingWith_prefixes_matchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(Collections.singleton(BENSON), uniquePersonList.getPersonsWithNameStartingWith("ben"));
+        assertEquals(Collections.singleton(CARL), uniquePersonList.getPersonsWithNameStartingWith("C"));
+        assertTrue(uniquePersonList.getPersonsWithNameStartingWith("Meier").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_personRenamedAndRemoved_indexUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(new HashSet<>(Arrays.asList(renamedAlice, BENSON)),
+                uniquePersonList.getPersonsWithNameContaining("meier"));
+        assertTrue(uniquePersonList.getPersonsWithNameContaining("pauline").isEmpty());
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(Collections.singleton(renamedAlice), uniquePersonList.getPersonsWithNameContaining("meier"));
     }
 }
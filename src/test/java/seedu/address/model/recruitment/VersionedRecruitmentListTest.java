@@ -153,6 +153,24 @@ public class VersionedRecruitmentListTest {
                 Arrays.asList(recruitmentListWithExample, recruitmentListWithExample1));
     }
 
+    @Test
+    public void undo_recruitmentRemovedFromMiddle_restoredAtSameIndex() {
+        ReadOnlyRecruitmentList recruitmentList = new RecruitmentListBuilder().withRecruitment(RECRUITMENT_EXAMPLE)
+                .withRecruitment(RECRUITMENT_EXAMPLE1).withRecruitment(RECRUITMENT_EXAMPLE2).build();
+        VersionedRecruitmentList versionedRecruitmentList = new VersionedRecruitmentList(recruitmentList);
+        versionedRecruitmentList.commit();
+        versionedRecruitmentList.removeRecruitment(RECRUITMENT_EXAMPLE1);
+        versionedRecruitmentList.commit();
+
+        versionedRecruitmentList.undo();
+        assertEquals(recruitmentList.getRecruitmentList(), versionedRecruitmentList.getRecruitmentList());
+        assertEquals(recruitmentList, new RecruitmentList(versionedRecruitmentList));
+
+        versionedRecruitmentList.redo();
+        assertEquals(Arrays.asList(RECRUITMENT_EXAMPLE, RECRUITMENT_EXAMPLE2),
+                versionedRecruitmentList.getRecruitmentList());
+    }
+
     @Test
     public void undo_singleRecruitmentList_throwsNoUndoableStateException() {
         VersionedRecruitmentList versionedRecruitmentList = prepareRecruitmentList(emptyRecruitmentList);
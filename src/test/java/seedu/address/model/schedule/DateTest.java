@@ -147,8 +147,48 @@ public class DateTest {
     @Test
     public void dateComparable_validDate_hashCodeIsCorrect() {
         Date expected = new Date("09/09/2099");
-        assertEquals("09/09/2099".hashCode(), expected.hashCode());
+        assertEquals(Integer.hashCode((int) LocalDate.of(2099, 9, 9).toEpochDay()), expected.hashCode());
 
     }
 
+    @Test
+    public void toEpochDay_validDate_returnsDaysSinceEpoch() {
+        assertEquals(LocalDate.of(2099, 9, 9).toEpochDay(), new Date("9/9/2099").toEpochDay());
+    }
+
+    @Test
+    public void toEpochDay_everyValidDate_matchesLocalDate() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
+        for (LocalDate day = LocalDate.of(2000, 1, 1); day.getYear() < 2100; day = day.plusDays(1)) {
+            Date date = new Date(formatter.format(day));
+            assertEquals(day.toEpochDay(), date.toEpochDay());
+            assertEquals(date, Date.ofEpochDay((int) day.toEpochDay()));
+            assertEquals(day.getDayOfYear(), date.getDayOfYear());
+        }
+    }
+
+    @Test
+    public void accessors_validDate_returnsFields() {
+        Date date = new Date("9/2/2040");
+        assertEquals(2040, date.getYear());
+        assertEquals(2, date.getMonth());
+        assertEquals(9, date.getDayOfMonth());
+        assertEquals("09/02/2040", date.toString());
+    }
+
+    @Test
+    public void ofEpochDay_outOfRange_throwsIllegalArgumentException() {
+        int dayBeforeRange = (int) LocalDate.of(1999, 12, 31).toEpochDay();
+        Assert.assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(dayBeforeRange));
+    }
+
+    @Test
+    public void equals() {
+        Date date = new Date("1/4/2050");
+        assertTrue(date.equals(new Date("01/04/2050")));
+        assertEquals(date.hashCode(), new Date("01/04/2050").hashCode());
+        assertFalse(date.equals(new Date("2/4/2050")));
+        assertFalse(date.equals(null));
+    }
+
 }
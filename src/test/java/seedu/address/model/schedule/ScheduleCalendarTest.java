@@ -0,0 +1,159 @@
+package seedu.address.model.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.person.EmployeeId;
+import seedu.address.testutil.schedule.ScheduleBuilder;
+
+public class ScheduleCalendarTest {
+
+    private static final Type WORK = new Type(Type.WORK);
+    private static final Type LEAVE = new Type(Type.LEAVE);
+    private static final EmployeeId EMPLOYEE_ID = new EmployeeId("000001");
+
+    private final ScheduleCalendar calendar = new ScheduleCalendar();
+
+    @Test
+    public void contains_addedSchedule_onlyThatTypeAndDay() {
+        calendar.add(schedule("000001", Type.LEAVE, "31/12/2040"));
+
+        assertTrue(calendar.contains(EMPLOYEE_ID, LEAVE, new Date("31/12/2040")));
+        assertFalse(calendar.contains(EMPLOYEE_ID, WORK, new Date("31/12/2040")));
+        assertFalse(calendar.contains(EMPLOYEE_ID, LEAVE, new Date("30/12/2040")));
+        assertFalse(calendar.contains(EMPLOYEE_ID, LEAVE, new Date("31/12/2041")));
+        assertFalse(calendar.contains(new EmployeeId("000002"), LEAVE, new Date("31/12/2040")));
+    }
+
+    @Test
+    public void count_schedulesOverYears_countedPerYearAndType() {
+        calendar.add(schedule("000001", Type.LEAVE, "01/01/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "29/02/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "31/12/2040"));
+        calendar.add(schedule("000001", Type.WORK, "02/01/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "01/01/2041"));
+
+        assertEquals(3, calendar.count(EMPLOYEE_ID, LEAVE, 2040));
+        assertEquals(1, calendar.count(EMPLOYEE_ID, WORK, 2040));
+        assertEquals(1, calendar.count(EMPLOYEE_ID, LEAVE, 2041));
+        assertEquals(0, calendar.count(EMPLOYEE_ID, WORK, 2042));
+    }
+
+    @Test
+    public void count_scheduleRemovedOrAddedAgain_countedOnce() {
+        Schedule leave = schedule("000001", Type.LEAVE, "01/03/2040");
+        calendar.add(leave);
+        calendar.add(leave);
+        calendar.add(schedule("000001", Type.LEAVE, "02/03/2040"));
+        assertEquals(2, calendar.count(EMPLOYEE_ID, LEAVE, 2040));
+
+        calendar.remove(leave);
+        calendar.remove(leave);
+        assertEquals(1, calendar.count(EMPLOYEE_ID, LEAVE, 2040));
+    }
+
+    @Test
+    public void countAll_employeesWithSchedules_inOrderOfEmployeeId() {
+        calendar.add(schedule("000003", Type.LEAVE, "01/01/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "01/01/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "02/01/2040"));
+        calendar.add(schedule("000002", Type.WORK, "01/01/2040"));
+        calendar.add(schedule("000004", Type.LEAVE, "01/01/2041"));
+
+        Map<EmployeeId, Integer> expectedLeaves = new LinkedHashMap<>();
+        expectedLeaves.put(EMPLOYEE_ID, 2);
+        expectedLeaves.put(new EmployeeId("000003"), 1);
+        assertEquals(expectedLeaves, calendar.countAll(LEAVE, 2040));
+        assertEquals(expectedLeaves.toString(), calendar.countAll(LEAVE, 2040).toString());
+        assertTrue(calendar.countAll(WORK, 2041).isEmpty());
+    }
+
+    @Test
+    public void getDates_schedulesOverYears_onlyDatesInRangeInOrder() {
+        calendar.add(schedule("000001", Type.LEAVE, "31/12/2039"));
+        calendar.add(schedule("000001", Type.LEAVE, "05/03/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "04/03/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "31/12/2040"));
+        calendar.add(schedule("000001", Type.WORK, "06/03/2040"));
+        calendar.add(schedule("000001", Type.LEAVE, "01/01/2041"));
+        calendar.add(schedule("000001", Type.LEAVE, "02/01/2041"));
+        calendar.add(schedule("000002", Type.LEAVE, "07/03/2040"));
+
+        assertEquals(Arrays.asList(new Date("04/03/2040"), new Date("05/03/2040"), new Date("31/12/2040"),
+                new Date("01/01/2041")),
+                calendar.getDates(EMPLOYEE_ID, LEAVE, new Date("04/03/2040"), new Date("01/01/2041")));
+        assertEquals(Arrays.asList(new Date("06/03/2040")),
+                calendar.getDates(EMPLOYEE_ID, WORK, new Date("01/01/2039"), new Date("31/12/2041")));
+        assertTrue(calendar.getDates(EMPLOYEE_ID, LEAVE, new Date("06/03/2040"), new Date("30/12/2040")).isEmpty());
+        assertTrue(calendar.getDates(EMPLOYEE_ID, LEAVE, new Date("01/01/2041"), new Date("31/12/2040")).isEmpty());
+        assertTrue(calendar.getDates(new EmployeeId("000003"), LEAVE, new Date("01/01/2040"),
+                new Date("31/12/2040")).isEmpty());
+    }
+
+    @Test
+    public void remove_lastSchedule_employeeDropped() {
+        Schedule leave = schedule("000001", Type.LEAVE, "15/06/2050");
+        calendar.add(leave);
+        assertTrue(calendar.containsEmployee(EMPLOYEE_ID));
+
+        calendar.remove(leave);
+        assertFalse(calendar.contains(EMPLOYEE_ID, LEAVE, new Date("15/06/2050")));
+        assertFalse(calendar.containsEmployee(EMPLOYEE_ID));
+    }
+
+    @Test
+    public void addAndRemove_manySchedules_sameAsSet() {
+        Random random = new Random(2103);
+        Set<Schedule> schedules = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            Schedule schedule = new Schedule(new EmployeeId(String.format("%06d", random.nextInt(20))),
+                    random.nextBoolean() ? WORK : LEAVE, Date.ofEpochDay(18262 + random.nextInt(3 * 366)));
+            if (schedules.add(schedule)) {
+                calendar.add(schedule);
+            } else {
+                schedules.remove(schedule);
+                calendar.remove(schedule);
+            }
+        }
+
+        for (int number = 0; number < 20; number++) {
+            EmployeeId employeeId = new EmployeeId(String.format("%06d", number));
+            for (int year = 2020; year <= 2023; year++) {
+                int yearOfSchedules = year;
+                long expectedLeaves = schedules.stream().filter(schedule -> schedule.getEmployeeId().equals(employeeId)
+                        && schedule.getType().equals(LEAVE)
+                        && schedule.getScheduleDate().getYear() == yearOfSchedules).count();
+                assertEquals(expectedLeaves, calendar.count(employeeId, LEAVE, year));
+            }
+        }
+        for (Schedule schedule : schedules) {
+            assertTrue(calendar.contains(schedule.getEmployeeId(), schedule.getType(), schedule.getScheduleDate()));
+        }
+        Date startDate = new Date("17/02/2020");
+        Date endDate = new Date("03/11/2022");
+        for (int number = 0; number < 20; number++) {
+            EmployeeId employeeId = new EmployeeId(String.format("%06d", number));
+            assertEquals(schedules.stream().filter(schedule -> schedule.getEmployeeId().equals(employeeId)
+                    && schedule.getType().equals(WORK)
+                    && schedule.getScheduleDate().toEpochDay() >= startDate.toEpochDay()
+                    && schedule.getScheduleDate().toEpochDay() <= endDate.toEpochDay())
+                    .map(Schedule::getScheduleDate).sorted((first, second) -> first.toEpochDay() - second.toEpochDay())
+                    .collect(Collectors.toList()), calendar.getDates(employeeId, WORK, startDate, endDate));
+        }
+    }
+
+    private static Schedule schedule(String employeeId, String type, String date) {
+        return new ScheduleBuilder().withEmployeeId(employeeId).withType(type).withDate(date).build();
+    }
+}
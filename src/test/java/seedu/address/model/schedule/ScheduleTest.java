@@ -87,7 +87,8 @@ public class ScheduleTest {
     public void hashCode_validSchedule_correctHashCodeRepresentation() {
         Schedule editedAlice = new ScheduleBuilder(ALICE_WORK).withDate(VALID_DATE_ALICE)
                 .withEmployeeId(VALID_EMPLOYEEID_ALICE).withType(VALID_TYPE_ALICE).build();
-        assertEquals(editedAlice.hashCode(), Objects.hash(VALID_TYPE_ALICE, VALID_DATE_ALICE));
+        assertEquals(editedAlice.hashCode(),
+                Objects.hash(VALID_EMPLOYEEID_ALICE, VALID_TYPE_ALICE, new Date(VALID_DATE_ALICE)));
     }
 
 
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_CARL;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
@@ -57,6 +58,41 @@ public class UniqueScheduleListTest {
         assertFalse(uniqueScheduleList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_scheduleOfOtherTypeOnSameDateInList_returnsFalse() {
+        uniqueScheduleList.add(ALICE_WORK);
+        assertFalse(uniqueScheduleList.contains(ALICE_LEAVE));
+    }
+
+    @Test
+    public void contains_scheduleRemovedFromList_returnsFalse() {
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.remove(ALICE_WORK);
+        assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+    }
+
+    @Test
+    public void getSchedules_schedulesInRange_returnsSchedulesInOrderOfDate() {
+        Schedule aliceWorkLater = new ScheduleBuilder(ALICE_WORK).withDate("02/02/2099").build();
+        Schedule aliceWorkNextYear = new ScheduleBuilder(ALICE_WORK).withDate("01/01/2098").build();
+        uniqueScheduleList.add(aliceWorkLater);
+        uniqueScheduleList.add(ALICE_LEAVE);
+        uniqueScheduleList.add(BENSON_WORK);
+        uniqueScheduleList.add(ALICE_WORK);
+        uniqueScheduleList.add(aliceWorkNextYear);
+
+        List<Schedule> schedules = uniqueScheduleList.getSchedules(ALICE_WORK.getEmployeeId(), ALICE_WORK.getType(),
+                new Date("01/01/2099"), new Date("31/12/2099"));
+        assertEquals(Arrays.asList(ALICE_WORK, aliceWorkLater), schedules);
+    }
+
+    @Test
+    public void getSchedules_noSchedulesOfEmployee_returnsEmptyList() {
+        uniqueScheduleList.add(BENSON_WORK);
+        assertTrue(uniqueScheduleList.getSchedules(ALICE_WORK.getEmployeeId(), ALICE_WORK.getType(),
+                new Date("01/01/2099"), new Date("31/12/2099")).isEmpty());
+    }
+
     @Test
     public void add_nullSchedule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -208,4 +244,24 @@ public class UniqueScheduleListTest {
     public void iterator_nextScheduleEmptyUniqueScheduleList_throwsNoSuchElementException() {
         Assert.assertThrows(NoSuchElementException.class, () -> uniqueScheduleList.iterator().next());
     }
+
+    @Test
+    public void removeIf_matchingSchedules_removedInOrderAndUnindexed() {
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, ALICE_LEAVE, BENSON_WORK, CARL_WORK));
+        List<Schedule> removed = uniqueScheduleList.removeIf(schedule ->
+                !schedule.getEmployeeId().equals(BENSON_WORK.getEmployeeId()));
+
+        assertEquals(Arrays.asList(ALICE_WORK, ALICE_LEAVE, CARL_WORK), removed);
+        assertEquals(Collections.singletonList(BENSON_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+        assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+        uniqueScheduleList.add(ALICE_WORK);
+        assertTrue(uniqueScheduleList.contains(ALICE_WORK));
+    }
+
+    @Test
+    public void removeIf_noMatchingSchedules_listUnchanged() {
+        uniqueScheduleList.add(ALICE_WORK);
+        assertTrue(uniqueScheduleList.removeIf(schedule -> false).isEmpty());
+        assertEquals(Collections.singletonList(ALICE_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+    }
 }
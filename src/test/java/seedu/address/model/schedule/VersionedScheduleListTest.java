@@ -4,10 +4,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -239,6 +241,37 @@ public class VersionedScheduleListTest {
         assertFalse(versionedScheduleList.equals(differentCurrentStatePointer));
     }
 
+    @Test
+    public void removeSchedulesIf_undoAndRedo_sameOrderRestored() {
+        VersionedScheduleList versionedScheduleList = new VersionedScheduleList(new ScheduleListBuilder()
+                .withSchedule(ALICE_WORK).withSchedule(ALICE_LEAVE).withSchedule(BENSON_WORK).build());
+        List<Schedule> originalSchedules = new ArrayList<>(versionedScheduleList.getScheduleList());
+
+        versionedScheduleList.removeSchedulesIf(schedule ->
+                schedule.getEmployeeId().equals(ALICE_WORK.getEmployeeId()));
+        versionedScheduleList.commit();
+        assertEquals(Collections.singletonList(BENSON_WORK), versionedScheduleList.getScheduleList());
+
+        versionedScheduleList.undo();
+        assertEquals(originalSchedules, versionedScheduleList.getScheduleList());
+
+        versionedScheduleList.redo();
+        assertEquals(Collections.singletonList(BENSON_WORK), versionedScheduleList.getScheduleList());
+    }
+
+    @Test
+    public void removeSchedule_undo_restoredBeforeScheduleOfSameEmployee() {
+        VersionedScheduleList versionedScheduleList = new VersionedScheduleList(new ScheduleListBuilder()
+                .withSchedule(ALICE_WORK).withSchedule(ALICE_LEAVE).withSchedule(BENSON_WORK).build());
+        List<Schedule> originalSchedules = new ArrayList<>(versionedScheduleList.getScheduleList());
+        versionedScheduleList.commit();
+
+        versionedScheduleList.removeSchedule(originalSchedules.get(0));
+        versionedScheduleList.commit();
+        versionedScheduleList.undo();
+        assertEquals(originalSchedules, versionedScheduleList.getScheduleList());
+    }
+
     /**
      * Asserts that {@code versionedScheduleList} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedScheduleList#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final long SEED = 7;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED, 500, 2, 30, 200);
+
+    @Test
+    public void constructor_tooManyEmployees_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(SEED, SyntheticDataGenerator.MAX_EMPLOYEE_COUNT + 1, 1, 1, 1);
+    }
+
+    @Test
+    public void constructor_tooManyScheduleDays_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(SEED, 1, 1, SyntheticDataGenerator.MAX_SCHEDULE_DAYS_PER_YEAR + 1, 1);
+    }
+
+    @Test
+    public void getPersons_sameSeed_sameEmployees() {
+        SyntheticDataGenerator sameSeedGenerator = new SyntheticDataGenerator(SEED, 500, 0, 0, 0);
+        assertEquals(generator.getPersons().collect(Collectors.toList()),
+                sameSeedGenerator.getPersons().collect(Collectors.toList()));
+
+        SyntheticDataGenerator otherSeedGenerator = new SyntheticDataGenerator(SEED + 1, 500, 0, 0, 0);
+        assertNotEquals(generator.getPersons().collect(Collectors.toList()),
+                otherSeedGenerator.getPersons().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getPerson_moreEmployees_sameEmployee() {
+        SyntheticDataGenerator largerGenerator = new SyntheticDataGenerator(SEED, 5000, 3, 30, 0);
+        assertEquals(generator.getPerson(123), largerGenerator.getPerson(123));
+        assertEquals(generator.getSchedules(123, 2020), largerGenerator.getSchedules(123, 2020));
+    }
+
+    @Test
+    public void getAddressBook_manyEmployees_noDuplicates() {
+        // an address book refuses employees with the same phone, email, or name and date of birth
+        SyntheticDataGenerator largerGenerator = new SyntheticDataGenerator(SEED, 20_000, 0, 0, 0);
+        assertEquals(20_000, largerGenerator.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void getLists_noDuplicates() {
+        assertEquals(generator.getEmployeeCount(), generator.getAddressBook().getPersonList().size());
+        assertEquals(generator.getEmployeeCount(), generator.getExpensesList().getExpensesRequestList().size());
+        assertEquals(generator.getRecruitmentPostCount(),
+                generator.getRecruitmentList().getRecruitmentList().size());
+    }
+
+    @Test
+    public void getScheduleList_differentWeekdays() {
+        assertEquals(500 * 2 * 30, generator.getScheduleList().getScheduleList().size());
+
+        List<Schedule> schedules = generator.getSchedules(42, 2019);
+        assertEquals(30, schedules.stream().map(Schedule::getScheduleDate).distinct().count());
+        for (Schedule schedule : schedules) {
+            DayOfWeek day = LocalDate.ofEpochDay(schedule.getScheduleDate().toEpochDay()).getDayOfWeek();
+            assertTrue(day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY);
+        }
+        assertTrue(generator.getSchedules().anyMatch(schedule -> schedule.getType().value.equals(Type.LEAVE)));
+    }
+
+    @Test
+    public void getExpenses_amountIsTotalOfClaims() {
+        Expenses expenses = generator.getExpenses(42);
+        assertEquals(expenses.getTravelExpenses().getAmount().getCents()
+                + expenses.getMedicalExpenses().getAmount().getCents()
+                + expenses.getMiscellaneousExpenses().getAmount().getCents(),
+                expenses.getExpensesAmount().getAmount().getCents());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Money;
+
+public class BinarySnapshotFileTest {
+
+    private static final int KIND = 42;
+    private static final int ELEMENT_COUNT_OFFSET = 12; // after the magic number, version and kind
+    private static final List<String> ELEMENTS = Arrays.asList("first", "second é", "");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void isBinarySnapshot() {
+        assertTrue(BinarySnapshotFile.isBinarySnapshot(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinarySnapshotFile.isBinarySnapshot(Paths.get("data", "addressbook.xml")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinarySnapshotFile.toBinarySnapshotPath(Paths.get("data", "addressbook.xml")));
+    }
+
+    @Test
+    public void saveAndLoad_strings_sameStrings() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+        assertEquals(ELEMENTS, BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString));
+    }
+
+    @Test
+    public void saveAndLoad_iteratorOfStrings_sameStrings() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS.iterator(), (element, out) ->
+                BinarySnapshotFile.writeString(out, element));
+        assertEquals(ELEMENTS, BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString));
+    }
+
+    @Test
+    public void load_corruptedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 5] ^= 1;
+        Files.write(file, bytes);
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString);
+    }
+
+    @Test
+    public void load_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString);
+    }
+
+    @Test
+    public void load_corruptedElementCount_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(ELEMENT_COUNT_OFFSET, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString);
+    }
+
+    @Test
+    public void load_corruptedLength_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putLong(ELEMENT_COUNT_OFFSET + Integer.BYTES, Long.MAX_VALUE);
+        Files.write(file, bytes);
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshotFile.load(file, KIND, BinarySnapshotFile::readString);
+    }
+
+    @Test
+    public void load_differentKind_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("strings.bin");
+        BinarySnapshotFile.save(file, KIND, ELEMENTS, (element, out) -> BinarySnapshotFile.writeString(out, element));
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshotFile.load(file, KIND + 1, BinarySnapshotFile::readString);
+    }
+
+    @Test
+    public void writeMoney_variousAmounts_readBackUnchanged() throws Exception {
+        for (long cents : new long[] {0, 100000, 100050, -5, -1230, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(Money.ofCents(cents), roundTripMoney(Money.ofCents(cents)));
+        }
+    }
+
+    /**
+     * Returns {@code amount} after it is written and read back as money.
+     */
+    private Money roundTripMoney(Money amount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinarySnapshotFile.writeMoney(new DataOutputStream(bytes), amount);
+        return BinarySnapshotFile.readMoney(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
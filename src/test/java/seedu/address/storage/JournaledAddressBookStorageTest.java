@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ListChanges;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.VersionedAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.addressbook.JournaledAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        journalFilePath = MutationJournal.getJournalFilePath(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage(int maxRecords) {
+        return new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath), maxRecords,
+                MutationJournal.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since they were last taken with {@code storage}.
+     */
+    private static void saveChanges(JournaledAddressBookStorage storage, VersionedAddressBook addressBook)
+            throws IOException {
+        storage.saveAddressBookChanges(addressBook, Collections.singletonList(addressBook.takeChanges()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAfterCheckpoint_onlyJournalWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        byte[] checkpoint = Files.readAllBytes(filePath);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        saveChanges(storage, original);
+        assertArrayEquals(checkpoint, Files.readAllBytes(filePath));
+
+        // read back with a new storage, as on the next launch of the app
+        assertEquals(new AddressBook(original), new AddressBook(createStorage(MutationJournal.DEFAULT_MAX_RECORDS)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_severalChanges_replayedInOrder() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+
+        // the person edited in takes the place of a person edited out in the same change set
+        original.updatePerson(ALICE, HOON);
+        original.updatePerson(BENSON, ALICE);
+        ListChanges<Person> editChanges = original.takeChanges();
+        original.removePerson(CARL);
+        original.addPerson(IDA);
+        storage.saveAddressBookChanges(original, Arrays.asList(editChanges, original.takeChanges()));
+
+        assertEquals(new AddressBook(original), new AddressBook(createStorage(MutationJournal.DEFAULT_MAX_RECORDS)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_tooManyRecords_checkpointWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(1);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(journalFilePath);
+
+        original.addPerson(HOON);
+        saveChanges(storage, original);
+        assertTrue(Files.size(journalFilePath) > emptyJournalSize);
+
+        original.addPerson(IDA);
+        saveChanges(storage, original);
+        assertEquals(emptyJournalSize, Files.size(journalFilePath));
+        assertEquals(new AddressBook(original),
+                new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenSave_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        saveChanges(storage, original);
+        AddressBook expected = new AddressBook(original);
+
+        original.addPerson(IDA);
+        saveChanges(storage, original);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(expected, new AddressBook(createStorage(MutationJournal.DEFAULT_MAX_RECORDS)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherCheckpoint_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        saveChanges(storage, original);
+
+        // data file rewritten without its journal, e.g. by an older version of the app
+        AddressBook rewritten = getTypicalAddressBook();
+        rewritten.removePerson(ALICE);
+        new XmlAddressBookStorage(filePath).saveAddressBook(rewritten);
+
+        assertEquals(rewritten, new AddressBook(createStorage(MutationJournal.DEFAULT_MAX_RECORDS)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_checkpointWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(journalFilePath);
+
+        original.resetData(new AddressBookBuilder().withPerson(HOON).build());
+        saveChanges(storage, original);
+        assertEquals(emptyJournalSize, Files.size(journalFilePath));
+        assertEquals(new AddressBook(original),
+                new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFailedSave_checkpointWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MutationJournal.DEFAULT_MAX_RECORDS);
+        VersionedAddressBook original = new VersionedAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(journalFilePath);
+
+        // the changes of a failed save are lost, so the next save cannot be appended to the journal
+        Files.delete(journalFilePath);
+        Files.createDirectory(journalFilePath);
+        original.addPerson(HOON);
+        try {
+            saveChanges(storage, original);
+            fail();
+        } catch (IOException e) {
+            Files.delete(journalFilePath);
+            Files.write(journalFilePath, new byte[0]);
+        }
+
+        original.addPerson(IDA);
+        saveChanges(storage, original);
+        assertEquals(emptyJournalSize, Files.size(journalFilePath));
+        assertEquals(new AddressBook(original), new AddressBook(createStorage(MutationJournal.DEFAULT_MAX_RECORDS)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Files.write(journalFilePath, new byte[] {1, 2, 3}, StandardOpenOption.CREATE);
+        assertFalse(createStorage(MutationJournal.DEFAULT_MAX_RECORDS).readAddressBook().isPresent());
+    }
+
+}
@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
 import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
 import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -25,12 +32,15 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.addressbook.VersionedAddressBook;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.RecruitmentList;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.addressbook.JournaledAddressBookStorage;
 import seedu.address.storage.addressbook.XmlAddressBookStorage;
 import seedu.address.storage.expenses.XmlExpensesListStorage;
 import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
@@ -40,6 +50,8 @@ import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
 
+    private static final long LONG_COALESCING_WINDOW_MILLIS = 60000;
+
     @Rule
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
@@ -129,6 +141,48 @@ public class StorageManagerTest {
         assertEquals(original, new RecruitmentList(retrieved));
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_writeBehind_savesDataAtTimeOfEvent() throws Exception {
+        Storage writeBehindStorage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new XmlExpensesListStorage(getTempFilePath("el")), new XmlScheduleListStorage(getTempFilePath("sl")),
+                new XmlRecruitmentListStorage(getTempFilePath("rl")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_COALESCING_WINDOW_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        writeBehindStorage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+
+        writeBehindStorage.flush();
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindJournaled_changesOfCoalescedEventsJournaled()
+            throws Exception {
+        JournaledAddressBookStorage addressBookStorage =
+                new JournaledAddressBookStorage(new XmlAddressBookStorage(getTempFilePath("ab")));
+        Storage writeBehindStorage = new StorageManager(addressBookStorage,
+                new XmlExpensesListStorage(getTempFilePath("el")), new XmlScheduleListStorage(getTempFilePath("sl")),
+                new XmlRecruitmentListStorage(getTempFilePath("rl")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_COALESCING_WINDOW_MILLIS);
+        VersionedAddressBook addressBook = new VersionedAddressBook(getTypicalAddressBook());
+        addressBookStorage.saveAddressBook(addressBook);
+        byte[] checkpoint = Files.readAllBytes(getTempFilePath("ab"));
+
+        addressBook.addPerson(HOON);
+        writeBehindStorage.handleAddressBookChangedEvent(
+                new AddressBookChangedEvent(addressBook, addressBook.takeChanges()));
+        addressBook.removePerson(ALICE);
+        writeBehindStorage.handleAddressBookChangedEvent(
+                new AddressBookChangedEvent(addressBook, addressBook.takeChanges()));
+
+        writeBehindStorage.flush();
+        assertArrayEquals(checkpoint, Files.readAllBytes(getTempFilePath("ab")));
+        assertEquals(new AddressBook(addressBook), new AddressBook(
+                new JournaledAddressBookStorage(new XmlAddressBookStorage(getTempFilePath("ab"))).readAddressBook()
+                        .get()));
+    }
+
     @Test
     public void getUserPrefsFilePath() {
         assertNotNull(storageManager.getUserPrefsFilePath());
@@ -154,6 +208,25 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getRecruitmentListFilePath());
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_writeBehind_personsSharedWithModel() throws Exception {
+        XmlAddressBookStorageSavedDataStub addressBookStorage =
+                new XmlAddressBookStorageSavedDataStub(getTempFilePath("ab"));
+        Storage writeBehindStorage = new StorageManager(addressBookStorage,
+                new XmlExpensesListStorage(getTempFilePath("el")), new XmlScheduleListStorage(getTempFilePath("sl")),
+                new XmlRecruitmentListStorage(getTempFilePath("rl")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_COALESCING_WINDOW_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        writeBehindStorage.flush();
+
+        List<Person> savedPersons = addressBookStorage.savedAddressBook.getPersonList();
+        assertNotSame(addressBook.getPersonList(), savedPersons);
+        for (int i = 0; i < savedPersons.size(); i++) {
+            assertSame(addressBook.getPersonList().get(i), savedPersons.get(i));
+        }
+    }
+
     @Test
     public void handleAddressBookChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
@@ -202,6 +275,48 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_noChanges_notSaved() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlScheduleListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")));
+        VersionedAddressBook addressBook = new VersionedAddressBook(getTypicalAddressBook());
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, addressBook.takeChanges()));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindExceptionThrown_eventRaisedOnFlush() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlExpensesListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlScheduleListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")), LONG_COALESCING_WINDOW_MILLIS);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * A Stub class that keeps the last address book saved
+     */
+    class XmlAddressBookStorageSavedDataStub extends XmlAddressBookStorage {
+        private ReadOnlyAddressBook savedAddressBook;
+
+        public XmlAddressBookStorageSavedDataStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            savedAddressBook = addressBook;
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
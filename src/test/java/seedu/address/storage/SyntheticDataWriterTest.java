@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+
+public class SyntheticDataWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(1, 100, 1, 10, 20);
+
+    @Test
+    public void write_xmlDataFiles_readBackSameData() throws Exception {
+        UserPrefs userPrefs = getUserPrefs(".xml");
+        SyntheticDataWriter.write(generator, userPrefs);
+
+        assertEquals(generator.getAddressBook(), new AddressBook(
+                new XmlAddressBookStorage(userPrefs.getAddressBookFilePath()).readAddressBook().get()));
+        assertEquals(generator.getScheduleList(), new ScheduleList(
+                new XmlScheduleListStorage(userPrefs.getScheduleListFilePath()).readScheduleList().get()));
+        assertEquals(generator.getExpensesList(), new ExpensesList(
+                new XmlExpensesListStorage(userPrefs.getExpensesListFilePath()).readExpensesList().get()));
+        assertEquals(generator.getRecruitmentList(), new RecruitmentList(
+                new XmlRecruitmentListStorage(userPrefs.getRecruitmentListFilePath()).readRecruitmentList().get()));
+    }
+
+    @Test
+    public void write_binarySnapshots_readBackSameData() throws Exception {
+        UserPrefs userPrefs = getUserPrefs(BinarySnapshotFile.FILE_EXTENSION);
+        SyntheticDataWriter.write(generator, userPrefs);
+
+        assertEquals(generator.getAddressBook(), new AddressBook(
+                new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath()).readAddressBook().get()));
+        assertEquals(generator.getScheduleList(), new ScheduleList(
+                new BinaryScheduleListStorage(userPrefs.getScheduleListFilePath()).readScheduleList().get()));
+        assertEquals(generator.getExpensesList(), new ExpensesList(
+                new BinaryExpensesListStorage(userPrefs.getExpensesListFilePath()).readExpensesList().get()));
+        assertEquals(generator.getRecruitmentList(), new RecruitmentList(
+                new BinaryRecruitmentListStorage(userPrefs.getRecruitmentListFilePath()).readRecruitmentList().get()));
+    }
+
+    /**
+     * Returns user prefs whose data files are in the test folder and end with {@code extension}.
+     */
+    private UserPrefs getUserPrefs(String extension) {
+        Path folder = testFolder.getRoot().toPath();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook" + extension));
+        userPrefs.setScheduleListFilePath(folder.resolve("schedulelist" + extension));
+        userPrefs.setExpensesListFilePath(folder.resolve("expenses" + extension));
+        userPrefs.setRecruitmentListFilePath(folder.resolve("recruitmentlist" + extension));
+        return userPrefs;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.ModelTypes;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_COALESCING_WINDOW_MILLIS = 60000;
+
+    private final List<String> savedData = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private final WriteBehindSaver saver = new WriteBehindSaver(LONG_COALESCING_WINDOW_MILLIS, failures::add);
+
+    @Test
+    public void submit_coalescingWindowNotPassed_notSaved() {
+        saver.submit(ModelTypes.ADDRESS_BOOK, () -> savedData.add("address book"));
+        assertTrue(savedData.isEmpty());
+    }
+
+    @Test
+    public void flush_multipleSavesOfSameType_onlyLatestSaved() {
+        saver.submit(ModelTypes.ADDRESS_BOOK, () -> savedData.add("first"));
+        saver.submit(ModelTypes.ADDRESS_BOOK, () -> savedData.add("second"));
+        saver.flush();
+        assertEquals(Collections.singletonList("second"), savedData);
+    }
+
+    @Test
+    public void flush_savesOfDifferentTypes_allSaved() {
+        saver.submit(ModelTypes.ADDRESS_BOOK, () -> savedData.add("address book"));
+        saver.submit(ModelTypes.SCHEDULES_LIST, () -> savedData.add("schedule list"));
+        saver.flush();
+        assertEquals(new HashSet<>(Arrays.asList("address book", "schedule list")), new HashSet<>(savedData));
+    }
+
+    @Test
+    public void flush_saveThrowsException_failureHandled() {
+        IOException exception = new IOException("dummy exception");
+        saver.submit(ModelTypes.ADDRESS_BOOK, () -> {
+            throw exception;
+        });
+        saver.submit(ModelTypes.EXPENSES_LIST, () -> savedData.add("expenses list"));
+        saver.flush();
+        assertEquals(Collections.singletonList(exception), failures);
+        assertEquals(Collections.singletonList("expenses list"), savedData);
+    }
+
+    @Test
+    public void submit_noCoalescingWindow_savedWithoutFlush() throws Exception {
+        WriteBehindSaver immediateSaver = new WriteBehindSaver(0, failures::add);
+        immediateSaver.submit(ModelTypes.ADDRESS_BOOK, () -> savedData.add("address book"));
+        for (int i = 0; i < 100 && savedData.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(Collections.singletonList("address book"), savedData);
+    }
+}
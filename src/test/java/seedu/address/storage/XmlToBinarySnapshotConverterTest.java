@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
+import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
+import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.addressbook.BinaryAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+import seedu.address.storage.expenses.BinaryExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.BinaryRecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.BinaryScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+
+public class XmlToBinarySnapshotConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlDataFiles_snapshotsWithSameData() throws Exception {
+        Path folder = testFolder.getRoot().toPath();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.xml"));
+        userPrefs.setScheduleListFilePath(folder.resolve("schedulelist.xml"));
+        userPrefs.setExpensesListFilePath(folder.resolve("expenses.xml"));
+        userPrefs.setRecruitmentListFilePath(folder.resolve("recruitmentlist.xml"));
+        new XmlAddressBookStorage(userPrefs.getAddressBookFilePath()).saveAddressBook(getTypicalAddressBook());
+        new XmlScheduleListStorage(userPrefs.getScheduleListFilePath()).saveScheduleList(getTypicalScheduleList());
+        new XmlExpensesListStorage(userPrefs.getExpensesListFilePath()).saveExpensesList(getTypicalExpensesList());
+        new XmlRecruitmentListStorage(userPrefs.getRecruitmentListFilePath())
+                .saveRecruitmentList(getTypicalRecruitmentList());
+
+        XmlToBinarySnapshotConverter.convert(userPrefs);
+
+        assertEquals(folder.resolve("addressbook.bin"), userPrefs.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath()).readAddressBook().get()));
+        assertEquals(getTypicalScheduleList(), new ScheduleList(
+                new BinaryScheduleListStorage(userPrefs.getScheduleListFilePath()).readScheduleList().get()));
+        assertEquals(getTypicalExpensesList(), new ExpensesList(
+                new BinaryExpensesListStorage(userPrefs.getExpensesListFilePath()).readExpensesList().get()));
+        assertEquals(getTypicalRecruitmentList(), new RecruitmentList(
+                new BinaryRecruitmentListStorage(userPrefs.getRecruitmentListFilePath()).readRecruitmentList().get()));
+    }
+
+    @Test
+    public void convert_missingXmlDataFile_pathUnchanged() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        Path missingFilePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        userPrefs.setAddressBookFilePath(missingFilePath);
+        userPrefs.setScheduleListFilePath(missingFilePath);
+        userPrefs.setExpensesListFilePath(missingFilePath);
+        userPrefs.setRecruitmentListFilePath(missingFilePath);
+
+        XmlToBinarySnapshotConverter.convert(userPrefs);
+        assertEquals(missingFilePath, userPrefs.getAddressBookFilePath());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class ListMirrorTest {
+
+    // runnables handed to the UI thread, run by the test when it checks the copy
+    private final Queue<Runnable> uiThread = new ArrayDeque<>();
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(3, 1, 2);
+
+    @Test
+    public void constructor_copiesSource() {
+        ObservableList<Integer> mirror = new ListMirror<>(source, uiThread::add).asUnmodifiableObservableList();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChanged_copyChangedOnlyOnUiThread() {
+        ObservableList<Integer> mirror = new ListMirror<>(source, uiThread::add).asUnmodifiableObservableList();
+        source.add(4);
+        source.remove(0);
+        assertEquals(Arrays.asList(3, 1, 2), mirror);
+
+        runUiThread();
+        assertEquals(Arrays.asList(1, 2, 4), mirror);
+    }
+
+    @Test
+    public void sourceChanged_filteredAndSortedList_copyFollows() {
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        SortedList<Integer> sorted = new SortedList<>(filtered);
+        ObservableList<Integer> mirror = new ListMirror<>(sorted, uiThread::add).asUnmodifiableObservableList();
+
+        Random random = new Random(2103);
+        for (int i = 0; i < 500; i++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    source.remove(random.nextInt(source.size()));
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(random.nextInt(source.size()), random.nextInt(100));
+                }
+                break;
+            case 3:
+                int divisor = random.nextInt(3) + 1;
+                filtered.setPredicate(value -> value % divisor == 0);
+                break;
+            case 4:
+                sorted.setComparator(random.nextBoolean() ? Comparator.naturalOrder() : null);
+                break;
+            default:
+                List<Integer> values = new ArrayList<>();
+                for (int j = random.nextInt(20); j > 0; j--) {
+                    values.add(random.nextInt(100));
+                }
+                source.setAll(values);
+            }
+
+            if (random.nextInt(4) == 0) {
+                runUiThread();
+                assertEquals(sorted, mirror);
+            }
+        }
+        runUiThread();
+        assertEquals(sorted, mirror);
+    }
+
+    /**
+     * Runs the replays handed to the UI thread so far.
+     */
+    private void runUiThread() {
+        Runnable runnable;
+        while ((runnable = uiThread.poll()) != null) {
+            runnable.run();
+        }
+    }
+}
@@ -28,6 +28,23 @@ public class PersonCardTest extends GuiUnitTest {
         assertCardDisplay(personCard, personWithTags, 2);
     }
 
+    @Test
+    public void display_cardBoundToAnotherPerson_showsThatPerson() {
+        Person personWithTags = new PersonBuilder().withTags("friends", "colleagues").build();
+        Person personWithNoTags = new PersonBuilder().withName("Other Person").withTags(new String[0]).build();
+        PersonCard personCard = new PersonCard(personWithTags, 1);
+        uiPartRule.setUiPart(personCard);
+
+        // fewer tags -> surplus tag labels removed
+        guiRobot.interact(() -> personCard.setPerson(personWithNoTags, 2));
+        assertCardDisplay(personCard, personWithNoTags, 2);
+
+        // more tags -> tag labels added
+        guiRobot.interact(() -> personCard.setPerson(personWithTags, 3));
+        assertCardDisplay(personCard, personWithTags, 3);
+        assertTrue(personCard.equals(new PersonCard(personWithTags, 3)));
+    }
+
     @Test
     public void equals() {
         Person person = new PersonBuilder().build();
@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
@@ -11,6 +13,8 @@ import static seedu.address.ui.testutil.GuiTestAssert.assertCardEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -25,6 +29,7 @@ import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.person.Person;
 import seedu.address.storage.addressbook.XmlSerializableAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class PersonListPanelTest extends GuiUnitTest {
     private static final ObservableList<Person> TYPICAL_PERSONS =
@@ -52,6 +57,37 @@ public class PersonListPanelTest extends GuiUnitTest {
         }
     }
 
+    @Test
+    public void display_longFields_cardFitsInCell() {
+        String longText = String.join(" ", Collections.nCopies(30, "Lorem ipsum dolor sit amet"));
+        Person longFieldsPerson = new PersonBuilder().withName(longText).withAddress(longText)
+                .withTags("friends", "colleagues", "neighbours", "classmates", "teammates", "relatives", "mentors",
+                        "customers", "suppliers", "contractors", "partners", "investors", "volunteers")
+                .build();
+        initUi(FXCollections.observableArrayList(longFieldsPerson));
+
+        PersonCardHandle actualCard = personListPanelHandle.getPersonCardHandle(0);
+        assertCardDisplaysPerson(longFieldsPerson, actualCard);
+        assertTrue(actualCard.getRequiredHeight() <= personListPanelHandle.getCellHeight());
+
+        // the tags that do not fit are counted and named in the tooltip
+        List<String> shownTags = actualCard.getShownTags();
+        List<String> hiddenTags = actualCard.getTags().subList(shownTags.size(), actualCard.getTags().size());
+        assertFalse(hiddenTags.isEmpty());
+        assertEquals(actualCard.getTags().subList(0, shownTags.size()), shownTags);
+        assertEquals("+" + hiddenTags.size(), actualCard.getMoreTags());
+        assertEquals(String.join(", ", hiddenTags), actualCard.getMoreTagsTooltip());
+    }
+
+    @Test
+    public void display_fewTags_allTagsShown() {
+        initUi(TYPICAL_PERSONS);
+
+        PersonCardHandle actualCard = personListPanelHandle.getPersonCardHandle(0);
+        assertEquals(actualCard.getTags(), actualCard.getShownTags());
+        assertEquals("", actualCard.getMoreTags());
+    }
+
     @Test
     public void handleJumpToListRequestEvent() {
         initUi(TYPICAL_PERSONS);